@@ -0,0 +1,486 @@
+// File ArenaHashTable.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**********************************************************************************************************************
+ * An ArenaHashTable is a HashTable that keeps its values in a StringArena rather than as String objects. Each entry
+ * costs an int key, a long address, and an int length, with no objects on the heap at all. Tables with tens of
+ * millions of entries therefore add almost nothing to the work of the garbage collector.
+ *
+ * @note
+ *  1. Values can be read back either as a String, which is decoded on every call, or as a read-only ByteBuffer view
+ *     of their UTF-8 bytes, which is not copied.
+ *  2. The arena may be kept on the heap in a few large byte arrays, or off-heap in direct buffers.
+ *  3. Replacing or deleting a value leaves its bytes behind in the arena. Once these bytes outnumber the bytes of live
+ *     values, the live values are copied into a new arena. A view obtained earlier still reads the old arena and
+ *     stays valid.
+ *  4. The key 0 marks an empty bucket, so the key 0 itself is stored outside of the table in dedicated fields. The
+ *     capacity is always a power of two, keys are mixed before they are masked, and deleted entries are removed by
+ *     shifting the rest of their cluster backwards. The capacity cannot exceed 2^30 buckets.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class ArenaHashTable implements Map {
+    // Invariant of the ArenaHashTable class.
+    // 1. The number of entries is in the instance variable size. This includes the entry for the key 0, if there is
+    //    one.
+    // 2. Each nonzero key is stored in keys[index], and its value is stored in arena at addresses[index] with a length
+    //    of lengths[index] bytes. A null value has a length of NULL_VALUE. A bucket is empty exactly when keys[index]
+    //    is 0, and there is no empty bucket between the proper bucket of a key at OpenAddressing.hash(key) & mask and
+    //    its bucket.
+    // 3. The instance variable hasZeroKey indicates whether or not the key 0 is in this ArenaHashTable. If it is, then
+    //    its value is at zeroAddress with a length of zeroLength.
+    // 4. The length of keys is a power of two and mask is one less than that length. The instance variable threshold
+    //    is the number of nonzero keys at which the load factor is reached, and is less than the capacity.
+    // 5. The instance variable liveBytes is the number of bytes in arena that belong to current values. Every other
+    //    byte appended to arena is garbage.
+    private int size;
+    private int mask;
+    private int threshold;
+    private int[] keys;
+    private long[] addresses;
+    private int[] lengths;
+    private boolean hasZeroKey;
+    private long zeroAddress;
+    private int zeroLength;
+    private StringArena arena;
+    private long appendedBytes;
+    private long liveBytes;
+    private int chunkSize;
+    private boolean direct;
+    private static final int CAPACITY = 32;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final int NULL_VALUE = -1;
+
+    /**
+     * public ArenaHashTable()
+     * Initialize an empty ArenaHashTable with an initial capacity of 32 that keeps its values on the heap.
+     * @postcondition
+     *  An empty ArenaHashTable has been initialized.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ArenaHashTable.
+     */
+    public ArenaHashTable() {
+        this(CAPACITY, false);
+    }
+
+    /**
+     * public ArenaHashTable(int capacity, boolean direct)
+     * Initialize an empty ArenaHashTable with room for the given number of buckets.
+     * @param capacity
+     *  The initial capacity of this ArenaHashTable. It is rounded up to the next power of two.
+     * @param direct
+     *  True to keep the values off-heap. Otherwise they are kept on the heap in large byte arrays.
+     * @postcondition
+     *  An empty ArenaHashTable has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ArenaHashTable.
+     */
+    public ArenaHashTable(int capacity, boolean direct) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        size = 0;
+        hasZeroKey = false;
+        this.direct = direct;
+        chunkSize = CHUNK_SIZE;
+        arena = new StringArena(chunkSize, direct);
+        appendedBytes = 0;
+        liveBytes = 0;
+        allocate(OpenAddressing.tableSizeFor(capacity, 2, MAX_CAPACITY));
+    }
+
+    /*
+     * private void allocate(int capacity)
+     * Helper method that replaces the table with empty arrays of the specified capacity.
+     * @param capacity
+     *  The new capacity. Must be a power of two.
+     * @postcondition
+     *  keys, addresses, and lengths are empty arrays of the specified capacity, and mask and threshold have been
+     *  recalculated.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        addresses = new long[capacity];
+        lengths = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) Math.min(capacity * LOAD_FACTOR, capacity - 1);
+    }
+
+    /*
+     * private void compact()
+     * Helper method that copies every live value into a new StringArena and releases the old one.
+     * @postcondition
+     *  arena holds only live values and every address refers to the new arena.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arena.
+     */
+    private void compact() {
+        StringArena oldArena = arena;
+
+        arena = new StringArena(chunkSize, direct);
+        appendedBytes = 0;
+
+        if (hasZeroKey && zeroLength != NULL_VALUE) {
+            zeroAddress = copy(oldArena, zeroAddress, zeroLength);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0 && lengths[i] != NULL_VALUE) {
+                addresses[i] = copy(oldArena, addresses[i], lengths[i]);
+            }
+        }
+    }
+
+    /**
+     * public boolean contains(int k)
+     * Accessor method that confirms whether or not a specified key is in this ArenaHashTable.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this ArenaHashTable. Otherwise false.
+     */
+    @Override
+    public boolean contains(int k) {
+        if (k == 0) { return hasZeroKey; }
+        return findIndex(k) != -1;
+    }
+
+    /*
+     * private long copy(StringArena source, long address, int length)
+     * Helper method used by compact that copies a value from another arena straight into this arena, without an
+     * intermediate byte array.
+     * @param source
+     *  The arena holding the value.
+     * @param address
+     *  The address of the value in source.
+     * @param length
+     *  The length of the value in bytes.
+     * @return long
+     *  The address of the copy in arena.
+     */
+    private long copy(StringArena source, long address, int length) {
+        appendedBytes += length;
+        return arena.append(source, address, length);
+    }
+
+    /**
+     * public void delete(int k)
+     * Mutator method that removes the specified key and it's value from this ArenaHashTable.
+     * @param k
+     *  The key to search for.
+     * @postcondition
+     *  The specified key and it's value have been removed from this ArenaHashTable if they existed. Otherwise, no
+     *  mutation occurs. The bytes of the value have become garbage in the arena, and the arena has been compacted if
+     *  its garbage now outnumbers its live bytes.
+     */
+    @Override
+    public void delete(int k) {
+        int index;
+
+        if (k == 0) {
+            if (hasZeroKey) {
+                release(zeroLength);
+                hasZeroKey = false;
+                size--;
+                reclaim();
+            }
+            return;
+        }
+
+        index = findIndex(k);
+        if (index != -1) {
+            release(lengths[index]);
+            shiftBackward(index);
+            size--;
+            reclaim();
+        }
+    }
+
+    /*
+     * private int findIndex(int k)
+     * Helper method that returns the index of the specified nonzero key if it exists. Otherwise it returns -1.
+     * @param k
+     *  The key to search for. Must not be 0.
+     * @return int
+     *  The index of the specified key or -1 if the key is not in this ArenaHashTable.
+     */
+    private int findIndex(int k) {
+        int index = OpenAddressing.hash(k) & mask;
+        int current;
+
+        while ((current = keys[index]) != 0) {
+            if (current == k) { return index; }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * public String get(int k)
+     * Accessor method that retrieves the value associated with the specified key. The value is decoded from the arena
+     * on every call.
+     * @param k
+     *  The key to search for.
+     * @return String
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     */
+    @Override
+    public String get(int k) {
+        int index;
+
+        if (k == 0) {
+            if (!hasZeroKey || zeroLength == NULL_VALUE) { return null; }
+            return arena.getString(zeroAddress, zeroLength);
+        }
+
+        index = findIndex(k);
+        if (index == -1 || lengths[index] == NULL_VALUE) { return null; }
+        return arena.getString(addresses[index], lengths[index]);
+    }
+
+    /**
+     * public long getArenaBytes()
+     * Accessor method that retrieves the number of bytes allocated by the arena, whether they hold live values or
+     * garbage.
+     * @return long
+     *  The total capacity of every chunk of the arena.
+     */
+    public long getArenaBytes() { return arena.getAllocatedBytes(); }
+
+    /**
+     * public ByteBuffer getBytes(int k)
+     * Accessor method that retrieves a read-only view of the UTF-8 bytes of the value associated with the specified
+     * key. The bytes are not copied.
+     * @param k
+     *  The key to search for.
+     * @return ByteBuffer
+     *  A read-only buffer holding the value, with a position of 0 and a limit equal to its length in bytes. If the key
+     *  is not found or its value is null, then null is returned.
+     */
+    public ByteBuffer getBytes(int k) {
+        int index;
+
+        if (k == 0) {
+            if (!hasZeroKey || zeroLength == NULL_VALUE) { return null; }
+            return arena.getView(zeroAddress, zeroLength);
+        }
+
+        index = findIndex(k);
+        if (index == -1 || lengths[index] == NULL_VALUE) { return null; }
+        return arena.getView(addresses[index], lengths[index]);
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that retrieves the capacity of this ArenaHashTable.
+     * @return int
+     *  The number of buckets in this ArenaHashTable.
+     */
+    public int getCapacity() { return keys.length; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in this ArenaHashTable.
+     * @return int
+     *  The number of entries in this ArenaHashTable.
+     */
+    public int getSize() { return size; }
+
+    /**
+     * public void printHash()
+     * Prints every key and value pair in this ArenaHashTable.
+     * @postcondition
+     *  The keys and values in this ArenaHashTable have been written using System.out.println().
+     */
+    @Override
+    public void printHash() {
+        System.out.println(toString());
+    }
+
+    /**
+     * public void put(int k, String v)
+     * Mutator method that adds the specified key and value to this ArenaHashTable. If the specified key was already in
+     * this ArenaHashTable, then the old value will be replaced with the specified value.
+     * @param k
+     *  The key to add.
+     * @param v
+     *  The value associated with the specified key. May be null.
+     * @postcondition
+     *  The UTF-8 bytes of the value have been appended to the arena and the key refers to them. If the key already
+     *  existed, then the bytes of its old value have become garbage. If the new entry would push the ratio of size to
+     *  capacity past the load factor, then the capacity has been doubled first.
+     * @exception IllegalStateException
+     *  Indicates that this ArenaHashTable has reached its maximum capacity. Nothing has been appended to the arena.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger table or arena.
+     */
+    @Override
+    public void put(int k, String v) {
+        int index = 0;
+        int current = 0;
+        long address = 0;
+        int length = NULL_VALUE;
+        byte[] bytes;
+
+        if (k != 0) {
+            // A single probe either finds the key or stops at the empty bucket where the key belongs.
+            index = OpenAddressing.hash(k) & mask;
+            while ((current = keys[index]) != 0 && current != k) { index = (index + 1) & mask; }
+
+            // The table grows before the value is appended, so a full table leaves no unreferenced bytes in the arena.
+            if (current != k && size - (hasZeroKey ? 1 : 0) >= threshold) {
+                if (keys.length == MAX_CAPACITY) {
+                    throw new IllegalStateException("This ArenaHashTable is full.");
+                }
+                rehash(keys.length * 2);
+                index = OpenAddressing.hash(k) & mask;
+                while (keys[index] != 0) { index = (index + 1) & mask; }
+            }
+        }
+
+        if (v != null) {
+            bytes = v.getBytes(StandardCharsets.UTF_8);
+            address = arena.append(bytes);
+            length = bytes.length;
+            appendedBytes += length;
+            liveBytes += length;
+        }
+
+        if (k == 0) {
+            if (hasZeroKey) {
+                release(zeroLength);
+            } else {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroAddress = address;
+            zeroLength = length;
+        } else {
+            if (current == k) {
+                release(lengths[index]);
+            } else {
+                keys[index] = k;
+                size++;
+            }
+            addresses[index] = address;
+            lengths[index] = length;
+        }
+
+        reclaim();
+    }
+
+    /*
+     * private void reclaim()
+     * Helper method called after a value has been replaced or deleted. It compacts the arena once its garbage
+     * outnumbers its live bytes and is larger than a chunk, so that a table that only shrinks also gives memory back.
+     * @postcondition
+     *  The garbage in the arena is no more than the live bytes or no more than one chunk.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arena.
+     */
+    private void reclaim() {
+        if (appendedBytes - liveBytes > liveBytes && appendedBytes - liveBytes > chunkSize) { compact(); }
+    }
+
+    /*
+     * private void rehash(int capacity)
+     * Helper method that moves every nonzero key of this ArenaHashTable into new arrays of the specified capacity. The
+     * values stay where they are in the arena.
+     * @param capacity
+     *  The new capacity. Must be a power of two that is larger than size.
+     * @postcondition
+     *  Every nonzero key, address, and length has been reinserted in arrays of the specified capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        long[] oldAddresses = addresses;
+        int[] oldLengths = lengths;
+        int index;
+
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                index = OpenAddressing.hash(oldKeys[i]) & mask;
+                while (keys[index] != 0) { index = (index + 1) & mask; }
+                keys[index] = oldKeys[i];
+                addresses[index] = oldAddresses[i];
+                lengths[index] = oldLengths[i];
+            }
+        }
+    }
+
+    /*
+     * private void release(int length)
+     * Helper method that records that a value of the specified length is no longer live.
+     * @param length
+     *  The length of the value in bytes, or NULL_VALUE for a null value.
+     * @postcondition
+     *  liveBytes has been decreased by the length of the value.
+     */
+    private void release(int length) {
+        if (length != NULL_VALUE) { liveBytes -= length; }
+    }
+
+    /*
+     * private void shiftBackward(int index)
+     * Helper method that empties the bucket at the specified index. Each later entry of the cluster that
+     * OpenAddressing.canFill allows is moved into the gap, with its address and length, until an empty bucket is
+     * reached.
+     * @param index
+     *  The index of the entry being removed.
+     * @postcondition
+     *  The entry at the specified index has been removed and every remaining key can still be found by probing from
+     *  its proper bucket.
+     */
+    private void shiftBackward(int index) {
+        int gap = index;
+        int next = (index + 1) & mask;
+        int home;
+
+        while (keys[next] != 0) {
+            home = OpenAddressing.hash(keys[next]) & mask;
+            if (OpenAddressing.canFill(gap, next, home, mask)) {
+                keys[gap] = keys[next];
+                addresses[gap] = addresses[next];
+                lengths[gap] = lengths[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[gap] = 0;
+    }
+
+    /**
+     * public String toString()
+     * Returns every key and value pair in this ArenaHashTable.
+     * @return String
+     *  One line for each key and value pair in this ArenaHashTable.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        if (hasZeroKey) { stringBuilder.append("Key[0] = ").append(get(0)).append("\n"); }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                stringBuilder.append("Key[").append(keys[i]).append("] = ").append(get(keys[i])).append("\n");
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+}
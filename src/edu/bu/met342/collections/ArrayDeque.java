@@ -0,0 +1,429 @@
+// File ArrayDeque.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.util.Arrays;
+
+/**********************************************************************************************************************
+ * An ArrayDeque is a Deque stored in a circular array, so items can be added and removed at either end in constant
+ * amortized time without allocating a node for each item. It can stand in for a LinkedStack through push, pop and
+ * peek, or for any other Queue through add and remove.
+ *
+ * @note
+ *  1. Beyond Integer.MAX_VALUE elements, the size method does not work.
+ *  2. The capacity is always a power of two, no larger than 2^30, so indexes wrap around in both directions by masking
+ *     with capacity - 1. The capacity doubles whenever this ArrayDeque is full.
+ *  3. addAll, drainTo and removeBatch copy a whole batch of items with at most two calls to System.arraycopy, one for
+ *     each side of the point where the circular array wraps around.
+ *  4. The new item may be a null reference, as with a LinkedStack. A removed item's slot is set to null, so an
+ *     ArrayDeque never keeps a removed item from being garbage collected.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class ArrayDeque<E> implements Deque<E> {
+    // Invariant of the ArrayDeque class.
+    // 1. The length of data is a power of two and mask is one less than it.
+    // 2. For a nonempty ArrayDeque, the items are stored in a circular array beginning at data[head] and continuing
+    //    for size items, so the last item is at data[(head + size - 1) & mask]. Every other slot of data is null.
+    // 3. The instance variable size is the number of items in this ArrayDeque.
+    private Object[] data;
+    private int mask;
+    private int head;
+    private int size;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * public ArrayDeque()
+     * Initialize an ArrayDeque with an initial capacity of 16 items.
+     * @postcondition
+     *  This ArrayDeque is empty and has an initial capacity of 16 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ArrayDeque.
+     */
+    public ArrayDeque() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * public ArrayDeque(int capacity)
+     * Initialize an ArrayDeque with the given initial capacity.
+     * @param capacity
+     *  The initial capacity. It is rounded up to the next power of two.
+     * @postcondition
+     *  This ArrayDeque is empty and has been initialized with the given initial capacity.
+     * @exception IllegalArgumentException
+     *  Indicates an invalid initial capacity. Initial capacity must not be negative.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ArrayDeque.
+     */
+    public ArrayDeque(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be positive: " + capacity);
+        }
+        data = new Object[roundUp(capacity)];
+        mask = data.length - 1;
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * public void add(E item)
+     * Mutator method that adds a new item to the rear of this ArrayDeque, which is its last end.
+     * @param item
+     *  The item to be added to this ArrayDeque. It may be a null reference.
+     * @postcondition
+     *  The item is the last item of this ArrayDeque. If it was full, then its capacity has been doubled.
+     * @exception IllegalStateException
+     *  Indicates that this ArrayDeque is full and its capacity cannot be doubled.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger ArrayDeque.
+     */
+    @Override
+    public void add(E item) { addLast(item); }
+
+    /**
+     * public void addAll(E[] items, int offset, int length)
+     * Mutator method that adds a range of items after the last item of this ArrayDeque, in order, with at most two
+     * calls to System.arraycopy.
+     * @param items
+     *  The array that holds the items.
+     * @param offset
+     *  The index in items of the first item to add.
+     * @param length
+     *  The number of items to add.
+     * @postcondition
+     *  items[offset] through items[offset + length - 1] have been added after the last item of this ArrayDeque. If
+     *  there was not enough room, then its capacity has been increased first.
+     * @exception IllegalArgumentException
+     *  Indicates that offset and length do not describe a range of items. Nothing has been added.
+     * @exception IllegalStateException
+     *  Indicates that the items would make the capacity exceed 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger ArrayDeque.
+     */
+    @Override
+    public void addAll(E[] items, int offset, int length) {
+        int start;
+        int distanceToEnd;
+
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IllegalArgumentException("Invalid range. Offset " + offset + " and length " + length
+                    + " do not fit in an array of length " + items.length);
+        }
+        if ((long) size + length > MAX_CAPACITY) {
+            throw new IllegalStateException("This ArrayDeque is full.");
+        }
+        ensureCapacity(size + length);
+
+        start = (head + size) & mask;
+        distanceToEnd = data.length - start;
+        if (length <= distanceToEnd) {
+            System.arraycopy(items, offset, data, start, length);
+        } else {
+            System.arraycopy(items, offset, data, start, distanceToEnd);
+            System.arraycopy(items, offset + distanceToEnd, data, 0, length - distanceToEnd);
+        }
+        size += length;
+    }
+
+    /**
+     * public void addFirst(E item)
+     * Mutator method that adds a new item before the first item of this ArrayDeque.
+     * @param item
+     *  The item to be added to this ArrayDeque. It may be a null reference.
+     * @postcondition
+     *  The item is the first item of this ArrayDeque. If it was full, then its capacity has been doubled.
+     * @exception IllegalStateException
+     *  Indicates that this ArrayDeque is full and its capacity cannot be doubled.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger ArrayDeque.
+     */
+    @Override
+    public void addFirst(E item) {
+        if (size == data.length) { ensureCapacity(size + 1); }
+
+        head = (head - 1) & mask;
+        data[head] = item;
+        size++;
+    }
+
+    /**
+     * public void addLast(E item)
+     * Mutator method that adds a new item after the last item of this ArrayDeque.
+     * @param item
+     *  The item to be added to this ArrayDeque. It may be a null reference.
+     * @postcondition
+     *  The item is the last item of this ArrayDeque. If it was full, then its capacity has been doubled.
+     * @exception IllegalStateException
+     *  Indicates that this ArrayDeque is full and its capacity cannot be doubled.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger ArrayDeque.
+     */
+    @Override
+    public void addLast(E item) {
+        if (size == data.length) { ensureCapacity(size + 1); }
+
+        data[(head + size) & mask] = item;
+        size++;
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every item from this ArrayDeque.
+     * @postcondition
+     *  This ArrayDeque is empty and every slot of its array is null. Its capacity has not changed.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) { data[(head + i) & mask] = null; }
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * public int drainTo(Object[] array, int max)
+     * Mutator method that removes up to max items from the first end of this ArrayDeque and copies them, in order, to
+     * the start of the specified array, with at most two calls to System.arraycopy.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this ArrayDeque held fewer items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items, and their slots in this ArrayDeque are null.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    @Override
+    public int drainTo(Object[] array, int max) {
+        int count;
+        int distanceToEnd;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+
+        count = Math.min(max, size);
+        distanceToEnd = data.length - head;
+        if (count <= distanceToEnd) {
+            System.arraycopy(data, head, array, 0, count);
+            Arrays.fill(data, head, head + count, null);
+        } else {
+            System.arraycopy(data, head, array, 0, distanceToEnd);
+            System.arraycopy(data, 0, array, distanceToEnd, count - distanceToEnd);
+            Arrays.fill(data, head, data.length, null);
+            Arrays.fill(data, 0, count - distanceToEnd, null);
+        }
+        head = (head + count) & mask;
+        size -= count;
+        return count;
+    }
+
+    /**
+     * public void ensureCapacity(int capacity)
+     * Increase the capacity of this ArrayDeque. Note that the capacity will not be increased if the current capacity
+     * is already at least the given capacity.
+     * @param capacity
+     *  The new capacity of this ArrayDeque. It is rounded up to the next power of two.
+     * @postcondition
+     *  This ArrayDeque's capacity is at least the given capacity. If it was increased, then the items have been copied
+     *  to start at index 0 of the new array.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the larger ArrayDeque.
+     */
+    public void ensureCapacity(int capacity) {
+        Object[] largerArray;
+        int distanceToEnd;
+
+        if (data.length >= capacity) { return; }
+
+        largerArray = new Object[roundUp(capacity)];
+        distanceToEnd = data.length - head;
+        if (size <= distanceToEnd) {
+            System.arraycopy(data, head, largerArray, 0, size);
+        } else {
+            System.arraycopy(data, head, largerArray, 0, distanceToEnd);
+            System.arraycopy(data, 0, largerArray, distanceToEnd, size - distanceToEnd);
+        }
+
+        data = largerArray;
+        mask = data.length - 1;
+        head = 0;
+    }
+
+    /**
+     * public E get(int index)
+     * Accessor method that returns an item of this ArrayDeque without removing it, counting from the first item at
+     * index 0. When this ArrayDeque is used as a stack, index 0 is the top. Note, we have suppressed warnings because
+     * our programming guarantees that every item is an E object.
+     * @param index
+     *  The position of the item, from 0 to size - 1.
+     * @return E
+     *  The item at the given position.
+     * @exception IllegalArgumentException
+     *  Indicates that index is negative or is not less than the size of this ArrayDeque.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Invalid index. It must be from 0 to " + (size - 1) + ": " + index);
+        }
+        return (E) data[(head + index) & mask];
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the current capacity of this ArrayDeque.
+     * @return int
+     *  The number of items this ArrayDeque can hold before it must grow.
+     */
+    public int getCapacity() { return data.length; }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this ArrayDeque is empty.
+     * @return boolean
+     *  True if this ArrayDeque is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * public E peekFirst()
+     * Accessor method that returns the first item of this ArrayDeque without removing it. Note, we have suppressed
+     * warnings because our programming guarantees that every item is an E object.
+     * @return E
+     *  The first item of this ArrayDeque, or null if it is empty.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peekFirst() { return (E) data[head]; }
+
+    /**
+     * public E peekLast()
+     * Accessor method that returns the last item of this ArrayDeque without removing it. Note, we have suppressed
+     * warnings because our programming guarantees that every item is an E object.
+     * @return E
+     *  The last item of this ArrayDeque, or null if it is empty.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peekLast() { return (E) data[(head + size - 1) & mask]; }
+
+    /**
+     * public E remove()
+     * Mutator method that removes the front item of this ArrayDeque, which is its first item.
+     * @return E
+     *  The first item of this ArrayDeque, or null if it is empty.
+     * @postcondition
+     *  If this ArrayDeque was not empty, then its first item has been removed.
+     */
+    @Override
+    public E remove() { return removeFirst(); }
+
+    /**
+     * public ArrayDeque<E> removeBatch(int max)
+     * Mutator method that removes up to max items from the first end of this ArrayDeque and returns them as a new
+     * ArrayDeque. The items are copied with at most two calls to System.arraycopy.
+     * @param max
+     *  The largest number of items to remove.
+     * @return ArrayDeque<E>
+     *  A new ArrayDeque holding the removed items in the same order. It has fewer than max items if this ArrayDeque
+     *  held fewer.
+     * @postcondition
+     *  The removed items are no longer in this ArrayDeque.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new ArrayDeque.
+     */
+    @Override
+    public ArrayDeque<E> removeBatch(int max) {
+        ArrayDeque<E> batch;
+
+        if (max < 0) { throw new IllegalArgumentException("Invalid max. It must not be negative: " + max); }
+
+        batch = new ArrayDeque<>(Math.min(max, size));
+        batch.size = drainTo(batch.data, Math.min(max, size));
+        return batch;
+    }
+
+    /**
+     * public E removeFirst()
+     * Mutator method that removes the first item of this ArrayDeque. Note, we have suppressed warnings because our
+     * programming guarantees that every item is an E object.
+     * @return E
+     *  The first item of this ArrayDeque, or null if it is empty.
+     * @postcondition
+     *  If this ArrayDeque was not empty, then its first item has been removed and its slot is null.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E removeFirst() {
+        E item;
+
+        if (size == 0) { return null; }
+
+        item = (E) data[head];
+        data[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        return item;
+    }
+
+    /**
+     * public E removeLast()
+     * Mutator method that removes the last item of this ArrayDeque. Note, we have suppressed warnings because our
+     * programming guarantees that every item is an E object.
+     * @return E
+     *  The last item of this ArrayDeque, or null if it is empty.
+     * @postcondition
+     *  If this ArrayDeque was not empty, then its last item has been removed and its slot is null.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E removeLast() {
+        E item;
+        int last;
+
+        if (size == 0) { return null; }
+
+        last = (head + size - 1) & mask;
+        item = (E) data[last];
+        data[last] = null;
+        size--;
+        return item;
+    }
+
+    /*
+     * private static int roundUp(int capacity)
+     * Helper method that rounds the specified capacity up to a power of two.
+     * @param capacity
+     *  The requested capacity.
+     * @return int
+     *  The smallest power of two that is at least capacity, and at least 1.
+     * @exception IllegalStateException
+     *  Indicates that capacity exceeds 2^30.
+     */
+    private static int roundUp(int capacity) {
+        if (capacity > MAX_CAPACITY) { throw new IllegalStateException("This ArrayDeque is full."); }
+        if (capacity <= 1) { return 1; }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this ArrayDeque.
+     * @return int
+     *  The number of items in this ArrayDeque.
+     */
+    @Override
+    public int size() { return size; }
+}
@@ -2,6 +2,8 @@
 
 package edu.bu.met342.collections;
 
+import java.util.Arrays;
+
 /**********************************************************************************************************************
  * An ArrayQueue is a First-in/First-out data structure of ordered items such that items can be inserted at one end
  * (called the rear) and removed from the other end (called the front).
@@ -12,12 +14,17 @@ package edu.bu.met342.collections;
  *  3. The capacity of this ArrayQueue can change after it's created by directly or indirectly activated the
  *     ensureCapacity() method. However, the capacity is limited by the amount of free memory. Any attempt to exceed
  *     the free memory will result in an OutOfMemoryError.
+ *  4. An ArrayQueue constructed in power of two mode always has a capacity that is a power of two, no larger than
+ *     2^30. Its indexes wrap around by masking with capacity - 1 instead of by comparing against the capacity, and it
+ *     doubles its capacity whenever it is full.
+ *  5. addAll, drainTo, and removeBatch copy a whole batch of items with at most two calls to System.arraycopy, one for
+ *     each side of the point where the circular array wraps around.
  *
  * @author mlewis
  * @version Nov 11, 2019
  *********************************************************************************************************************/
 
-public class ArrayQueue<E> implements Queue {
+public class ArrayQueue<E> implements Queue<E> {
     // Invariant of the ArrayQueue class.
     // 1. For a nonempty ArrayQueue, the items in the ArrayQueue are stored in a circular array beginning at
     //    data[front] and continuing through data[rear]. Note that the rear can be at a lower index than the front due
@@ -26,10 +33,13 @@ public class ArrayQueue<E> implements Queue {
     // 3. The instance variable INITIAL_CAPACITY is a constant and is used as the initial capacity of this ArrayQueue.
     // 3. This ArrayQueue is a first-in/first-out data structure, so items are added at the rear and removed at the
     //    front.
+    // 4. The instance variable powerOfTwo indicates whether or not the length of data is always a power of two.
     private int front;
     private int rear;
     private int size;
+    private boolean powerOfTwo;
     private static final int INITIAL_CAPACITY = 10;
+    private static final int MAX_POWER_OF_TWO = 1 << 30;
     private Object[] data;
 
     /**
@@ -58,13 +68,34 @@ public class ArrayQueue<E> implements Queue {
      *  Indicates insufficient memory for this ArrayQueue.
      */
     public ArrayQueue(int capacity) {
+        this(capacity, false);
+    }
+
+    /**
+     * public ArrayQueue(int capacity, boolean powerOfTwo)
+     * Initialize an ArrayQueue with the given initial capacity, optionally in power of two mode.
+     * @param capacity
+     *  The initial capacity. In power of two mode it is rounded up to the next power of two.
+     * @param powerOfTwo
+     *  True to keep the capacity a power of two, so that indexes wrap around with a mask.
+     * @postcondition
+     *  This ArrayQueue has been initialized with the given initial capacity.
+     * @exception IllegalArgumentException
+     *  Indicates an invalid initial capacity. Initial capacity must be a positive integer.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30 in power of two mode.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ArrayQueue.
+     */
+    public ArrayQueue(int capacity, boolean powerOfTwo) {
         if (capacity < 0) {
             throw new IllegalArgumentException("Invalid capacity. Capacity must be positive: " + capacity);
         }
         front = 0;
         rear = 0;
         size = 0;
-        data = new Object[capacity];
+        this.powerOfTwo = powerOfTwo;
+        data = new Object[powerOfTwo ? roundUp(capacity) : capacity];
     }
 
     /**
@@ -77,8 +108,8 @@ public class ArrayQueue<E> implements Queue {
      *  Indicates insufficient memory for a larger ArrayQueue.
      */
     @Override
-    public void add(Object item) {
-        if (size == data.length) { ensureCapacity(size * 2 + 1); }
+    public void add(E item) {
+        if (size == data.length) { ensureCapacity(powerOfTwo ? size + 1 : size * 2 + 1); }
 
         if (size == 0) {
             front = 0;
@@ -91,6 +122,58 @@ public class ArrayQueue<E> implements Queue {
         size++;
     }
 
+    /**
+     * public void addAll(E[] items, int offset, int length)
+     * Mutator method that adds a range of items to the rear of this ArrayQueue, in order. The items are copied with at
+     * most two calls to System.arraycopy, one for each side of the point where the circular array wraps around.
+     * @param items
+     *  The array that holds the items.
+     * @param offset
+     *  The index in items of the first item to add.
+     * @param length
+     *  The number of items to add.
+     * @postcondition
+     *  items[offset] through items[offset + length - 1] have been added to the rear of this ArrayQueue. If there was
+     *  not enough room, then its capacity has been increased first.
+     * @exception IllegalArgumentException
+     *  Indicates that offset and length do not describe a range of items. Nothing has been added.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger ArrayQueue.
+     */
+    @Override
+    public void addAll(E[] items, int offset, int length) {
+        int start;
+        int distanceToEnd;
+
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IllegalArgumentException("Invalid range. Offset " + offset + " and length " + length
+                    + " do not fit in an array of length " + items.length);
+        }
+        if (length == 0) { return; }
+
+        if (size + length > data.length) {
+            ensureCapacity(powerOfTwo ? size + length : Math.max(size * 2 + 1, size + length));
+        }
+
+        if (size == 0) {
+            front = 0;
+            start = 0;
+        } else {
+            start = nextIndex(rear);
+        }
+
+        distanceToEnd = data.length - start;
+        if (length <= distanceToEnd) {
+            System.arraycopy(items, offset, data, start, length);
+            rear = start + length - 1;
+        } else {
+            System.arraycopy(items, offset, data, start, distanceToEnd);
+            System.arraycopy(items, offset + distanceToEnd, data, 0, length - distanceToEnd);
+            rear = length - distanceToEnd - 1;
+        }
+        size += length;
+    }
+
     /**
      * public void clear()
      * Mutator method that clears the queue and resets front, rear, and size to zero.
@@ -106,22 +189,70 @@ public class ArrayQueue<E> implements Queue {
         size = 0;
     }
 
+    /**
+     * public int drainTo(Object[] array, int max)
+     * Mutator method that removes up to max items from the front of this ArrayQueue and copies them, in order, to the
+     * start of the specified array. The items are copied with at most two calls to System.arraycopy.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this ArrayQueue held fewer items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items, and their slots in this ArrayQueue are null. The next
+     *  item is now the front item.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    @Override
+    public int drainTo(Object[] array, int max) {
+        int count;
+        int distanceToEnd;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+
+        count = Math.min(max, size);
+        if (count == 0) { return 0; }
+
+        distanceToEnd = data.length - front;
+        if (count <= distanceToEnd) {
+            System.arraycopy(data, front, array, 0, count);
+            Arrays.fill(data, front, front + count, null);
+            front += count;
+            if (front == data.length) { front = 0; }
+        } else {
+            System.arraycopy(data, front, array, 0, distanceToEnd);
+            System.arraycopy(data, 0, array, distanceToEnd, count - distanceToEnd);
+            Arrays.fill(data, front, data.length, null);
+            Arrays.fill(data, 0, count - distanceToEnd, null);
+            front = count - distanceToEnd;
+        }
+        size -= count;
+        return count;
+    }
+
     /**
      * public void ensureCapacity(int capacity)
      * Increase the capacity of this ArrayQueue. Note that the capacity will not be increased if the current capacity
      * is already larger than the given capacity.
      * @param capacity
-     *  The new capacity of this ArrayQueue.
+     *  The new capacity of this ArrayQueue. In power of two mode it is rounded up to the next power of two.
      * @postcondition
      *  This ArrayQueue's capacity has been increased to the given capacity. Note that the capacity will not be
-     *  increased if the current capacity is already larger than the given capacity.
+     *  increased if the current capacity is already larger than the given capacity. If the items wrapped around the
+     *  end of the old array, then they have been unwrapped to start at index 0 of the new one.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30 in power of two mode.
      * @exception OutOfMemoryError
      *  Indicates insufficient memory for the larger ArrayQueue.
      */
     public void ensureCapacity(int capacity) {
         Object[] largerArray;
-        int distanceToEnd;
-        int distanceToFront;
+
+        if (powerOfTwo && data.length < capacity) { capacity = roundUp(capacity); }
 
         if (data.length >= capacity) {
             // No work required because the capacity of this ArrayQueue is larger than the given capacity.
@@ -133,16 +264,7 @@ public class ArrayQueue<E> implements Queue {
             System.arraycopy(data, front, largerArray, front, size);
             data = largerArray;
         } else {
-            largerArray = new Object[capacity];
-            distanceToEnd = data.length - front;
-            distanceToFront = rear + 1;
-            System.arraycopy(data, front, largerArray, 0, distanceToEnd);
-            System.arraycopy(data, 0, largerArray, distanceToEnd, distanceToFront);
-
-            // Reset front and rear because they are in the wrong position due to the mechanics of a circular array.
-            front = 0;
-            rear = size - 1;
-            data = largerArray;
+            data = unwrap(capacity);
         }
     }
 
@@ -236,6 +358,8 @@ public class ArrayQueue<E> implements Queue {
      *  The return value is 0 if front equals the length of the array. Otherwise the return value is index + 1.
      */
     private int nextIndex(int index) {
+        if (powerOfTwo) { return (index + 1) & (data.length - 1); }
+
         if (++index == data.length) {
             return 0;
         } else {
@@ -292,6 +416,50 @@ public class ArrayQueue<E> implements Queue {
         return removedItem;
     }
 
+    /**
+     * public ArrayQueue<E> removeBatch(int max)
+     * Mutator method that removes up to max items from the front of this ArrayQueue and returns them as a new
+     * ArrayQueue. The items are copied with at most two calls to System.arraycopy.
+     * @param max
+     *  The largest number of items to remove.
+     * @return ArrayQueue<E>
+     *  A new ArrayQueue, in the same mode as this one, holding the removed items in the same order. It has fewer than
+     *  max items if this ArrayQueue held fewer.
+     * @postcondition
+     *  The removed items are no longer in this ArrayQueue, and their slots in it are null.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new ArrayQueue.
+     */
+    @Override
+    public ArrayQueue<E> removeBatch(int max) {
+        ArrayQueue<E> batch;
+
+        if (max < 0) { throw new IllegalArgumentException("Invalid max. It must not be negative: " + max); }
+
+        batch = new ArrayQueue<>(Math.min(max, size), powerOfTwo);
+        batch.size = drainTo(batch.data, Math.min(max, size));
+        batch.rear = Math.max(batch.size - 1, 0);
+        return batch;
+    }
+
+    /*
+     * private static int roundUp(int capacity)
+     * Helper method that rounds the specified capacity up to a power of two.
+     * @param capacity
+     *  The requested capacity.
+     * @return int
+     *  The smallest power of two that is at least capacity, and at least 1.
+     * @exception IllegalStateException
+     *  Indicates that capacity exceeds 2^30.
+     */
+    private static int roundUp(int capacity) {
+        if (capacity > MAX_POWER_OF_TWO) { throw new IllegalStateException("This ArrayQueue is full."); }
+        if (capacity <= 1) { return 1; }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
     /**
      * public int size()
      * Accessor method to determine the number of elements in this ArrayQueue.
@@ -317,33 +485,46 @@ public class ArrayQueue<E> implements Queue {
      * public void trimToSize()
      * Mutator method to decrease the capacity of this ArrayQueue.
      * @postcondition
-     *  The capacity of this ArrayQueue has been decreased to the size of the array. Note, the capacity may not be
-     *  decreased if capacity and size are equivalent.
+     *  The capacity of this ArrayQueue has been decreased to the size of the array, or in power of two mode to the
+     *  smallest power of two that holds every item. The items have been unwrapped to start at index 0. Note, the
+     *  capacity may not be decreased if capacity and size are equivalent.
      * @exception OutOfMemoryError
      *  Indicates insufficient memory for the smaller ArrayQueue.
      */
     public void trimToSize() {
+        int capacity = powerOfTwo ? roundUp(size) : size;
+
+        if (capacity != data.length) { data = unwrap(capacity); }
+    }
+
+    /*
+     * private Object[] unwrap(int capacity)
+     * Helper method that copies the items of this ArrayQueue, in order from front to rear, to the start of a new array.
+     * At most two calls to System.arraycopy are needed, one for each side of the point where the items wrap around.
+     * @param capacity
+     *  The length of the new array. Must be at least size.
+     * @return Object[]
+     *  The new array, holding the front item at index 0 and the rear item at index size - 1.
+     * @postcondition
+     *  front is 0 and rear is the index of the rear item in the new array.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new array.
+     */
+    private Object[] unwrap(int capacity) {
+        Object[] array = new Object[capacity];
         int distanceToEnd;
-        int distanceToFront;
-        Object[] smallerArray;
 
-        if (size == data.length) {
-            return;
-        } else if (size == 0) {
-            smallerArray = new Object[size];
-        } else if (front <= rear) {
-            smallerArray = new Object[size];
-            System.arraycopy(data, front, smallerArray, front , size);
-        } else {
-            smallerArray = new Object[size];
-            distanceToEnd = size - front;
-            distanceToFront = rear + 1;
-            System.arraycopy(data, front, smallerArray, 0, distanceToEnd);
-            System.arraycopy(data, 0, smallerArray, distanceToEnd, distanceToFront);
-            front = 0;
-            rear = size - 1;
+        if (size > 0 && front <= rear) {
+            System.arraycopy(data, front, array, 0, size);
+        } else if (size > 0) {
+            distanceToEnd = data.length - front;
+            System.arraycopy(data, front, array, 0, distanceToEnd);
+            System.arraycopy(data, 0, array, distanceToEnd, rear + 1);
         }
 
-        data = smallerArray;
+        // Reset front and rear because they are in the wrong position due to the mechanics of a circular array.
+        front = 0;
+        rear = Math.max(size - 1, 0);
+        return array;
     }
 }
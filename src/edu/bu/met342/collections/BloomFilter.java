@@ -0,0 +1,155 @@
+// File BloomFilter.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A BloomFilter is a compact summary of a set of integer keys that answers whether a key might be in the set. If it
+ * answers no, then the key is certainly not in the set. If it answers yes, then the key is in the set, except for a
+ * small fraction of false positives whose rate is chosen when the BloomFilter is constructed.
+ *
+ * @note
+ *  1. This is a blocked BloomFilter. The bits are divided into blocks of 512 bits, which is the size of a typical cache
+ *     line, and every bit for a given key is in the same block. A query therefore reads at most one cache line. The
+ *     price is a false positive rate somewhat higher than that of a classic BloomFilter with the same number of bits,
+ *     so a few extra bits per key are allocated to make up for it.
+ *  2. Keys cannot be removed from a BloomFilter. To forget keys, build a new BloomFilter from the keys that remain.
+ *  3. The false positive rate holds only while no more keys have been added than the expected number of insertions.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class BloomFilter {
+    // Invariant of the BloomFilter class.
+    // 1. The bits are stored in the array bits, BLOCK_LONGS longs to a block. The number of blocks is in the instance
+    //    variable blockCount.
+    // 2. The instance variable hashCount is the number of bits set in the block of a key when the key is added.
+    // 3. Every bit that position(k, i) selects for a key k that has been added, with i from 0 to hashCount - 1, is set.
+    private long[] bits;
+    private int blockCount;
+    private int hashCount;
+    private static final int BLOCK_BITS = 512;
+    private static final int BLOCK_LONGS = BLOCK_BITS / 64;
+    private static final int MAX_HASH_COUNT = 16;
+    private static final double BLOCKING_OVERHEAD = 1.2;
+
+    /**
+     * public BloomFilter(int expectedInsertions, double falsePositiveRate)
+     * Initialize an empty BloomFilter with enough bits for the given number of keys at the given false positive rate.
+     * @param expectedInsertions
+     *  The number of keys that will be added.
+     * @param falsePositiveRate
+     *  The fraction of keys not in the set for which mightContain may return true. Must be greater than 0 and less than
+     *  1.
+     * @postcondition
+     *  An empty BloomFilter has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that expectedInsertions is negative or that the false positive rate is not in the range (0, 1).
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this BloomFilter.
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        double bitsPerKey;
+        long bitCount;
+
+        if (expectedInsertions < 0) {
+            throw new IllegalArgumentException("Expected insertions cannot be negative: " + expectedInsertions);
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be in the range (0, 1): " + falsePositiveRate);
+        }
+
+        // The optimal classic BloomFilter uses -ln(p) / ln(2)^2 bits per key and ln(2) hash functions per bit per key.
+        bitsPerKey = -Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        hashCount = (int) Math.max(1, Math.min(MAX_HASH_COUNT, Math.round(bitsPerKey * Math.log(2))));
+        bitCount = (long) Math.ceil(Math.max(1, expectedInsertions) * bitsPerKey * BLOCKING_OVERHEAD);
+        blockCount = (int) Math.min((bitCount + BLOCK_BITS - 1) / BLOCK_BITS, Integer.MAX_VALUE / BLOCK_LONGS);
+        bits = new long[blockCount * BLOCK_LONGS];
+    }
+
+    /**
+     * public void add(int k)
+     * Mutator method that adds the specified key to this BloomFilter.
+     * @param k
+     *  The key to add.
+     * @postcondition
+     *  mightContain(k) returns true.
+     */
+    public void add(int k) {
+        long h = mix(k);
+        int base = block(h);
+        int a = (int) h;
+        int b = (int) (h >>> 32) | 1;
+        int position;
+
+        for (int i = 0; i < hashCount; i++) {
+            position = (a + i * b) & (BLOCK_BITS - 1);
+            bits[base + (position >>> 6)] |= 1L << position;
+        }
+    }
+
+    /*
+     * private int block(long h)
+     * Helper method that returns the index in bits of the first long of the block for the specified mixed key. The
+     * upper 32 bits of h are scaled to the number of blocks by multiplying rather than by dividing.
+     * @param h
+     *  The mixed key.
+     * @return int
+     *  The index of the first long of the block.
+     */
+    private int block(long h) { return (int) (((h >>> 32) * blockCount) >>> 32) * BLOCK_LONGS; }
+
+    /**
+     * public int getBitCount()
+     * Accessor method that retrieves the number of bits in this BloomFilter.
+     * @return int
+     *  The number of bits in this BloomFilter.
+     */
+    public int getBitCount() { return bits.length * 64; }
+
+    /**
+     * public int getHashCount()
+     * Accessor method that retrieves the number of bits set for each key.
+     * @return int
+     *  The number of bits set in the block of a key when it is added.
+     */
+    public int getHashCount() { return hashCount; }
+
+    /**
+     * public boolean mightContain(int k)
+     * Accessor method that determines whether or not the specified key might have been added to this BloomFilter.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  False if k has certainly not been added. True if it has been added or in the case of a false positive.
+     */
+    public boolean mightContain(int k) {
+        long h = mix(k);
+        int base = block(h);
+        int a = (int) h;
+        int b = (int) (h >>> 32) | 1;
+        int position;
+
+        for (int i = 0; i < hashCount; i++) {
+            position = (a + i * b) & (BLOCK_BITS - 1);
+            if ((bits[base + (position >>> 6)] & (1L << position)) == 0) { return false; }
+        }
+        return true;
+    }
+
+    /*
+     * private static long mix(int k)
+     * Helper method that spreads the specified key over 64 bits using the finalizer of SplitMix64.
+     * @param k
+     *  The key to mix.
+     * @return long
+     *  The mixed key.
+     */
+    private static long mix(int k) {
+        long z = k * 0x9E3779B97F4A7C15L;
+
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,495 @@
+// File BoundedCache.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A BoundedCache is a Map that never holds more than a fixed number of entries. Once it is full, adding a new key
+ * discards an existing entry chosen by its EvictionPolicy. It is meant to sit in front of a slow backend, remembering
+ * the answers that are most likely to be asked for again.
+ *
+ * @note
+ *  1. The entries are found through an IntObjectMap and ordered by doubly linked lists, so get, put, and delete take
+ *     constant time, including the work of keeping the entries in order of use.
+ *  2. An entry is allocated only while the cache is filling up. Once it is full, the entry of an evicted key is reused
+ *     for the key that replaced it, so accessing the cache allocates no memory.
+ *  3. With the LRU policy, every entry is in a single list in order of use. With the W_TINY_LFU policy, new keys enter
+ *     a window list holding about 1 percent of the entries. Keys leaving the window compete with the least recently
+ *     used key of the probation list, and the one a FrequencySketch says has been used more often stays. A key used
+ *     again while on probation is promoted to the protected list, which holds up to 80 percent of the main cache.
+ *  4. Every get counts as a hit or a miss. getHitRatio reports the fraction of hits since the statistics were last
+ *     reset.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class BoundedCache implements Map {
+    // Invariant of the BoundedCache class.
+    // 1. Every key in this BoundedCache maps to its Entry in the IntObjectMap entries, and that Entry is in exactly one
+    //    of the lists window, probation, or protected, as recorded in its queue field. The number of entries is
+    //    entries.getSize() and never exceeds maximumSize.
+    // 2. Each list is circular and doubly linked through a sentinel Entry. The entry after the sentinel is the most
+    //    recently used and the entry before it is the least recently used.
+    // 3. The instance variables windowSize, probationSize, and protectedSize are the lengths of the lists. windowSize
+    //    exceeds windowMaximum only in the middle of put, and protectedSize never exceeds protectedMaximum. With the
+    //    LRU policy, every entry is in window and windowMaximum is maximumSize.
+    // 4. The instance variable free is a singly linked list, through the next field, of entries that can be reused.
+    // 5. The instance variables hits, misses, and evictions count the gets that did and did not find their key, and the
+    //    entries discarded to make room, since the statistics were last reset.
+    private IntObjectMap<Entry> entries;
+    private EvictionPolicy policy;
+    private FrequencySketch sketch;
+    private int maximumSize;
+    private Entry window;
+    private Entry probation;
+    private Entry protectedList;
+    private int windowSize;
+    private int probationSize;
+    private int protectedSize;
+    private int windowMaximum;
+    private int protectedMaximum;
+    private Entry free;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    /**
+     * public BoundedCache(int maximumSize)
+     * Initialize an empty BoundedCache that holds at most the given number of entries and evicts by the LRU policy.
+     * @param maximumSize
+     *  The largest number of entries this BoundedCache may hold.
+     * @postcondition
+     *  An empty BoundedCache has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that maximumSize is not positive.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this BoundedCache.
+     */
+    public BoundedCache(int maximumSize) {
+        this(maximumSize, EvictionPolicy.LRU);
+    }
+
+    /**
+     * public BoundedCache(int maximumSize, EvictionPolicy policy)
+     * Initialize an empty BoundedCache that holds at most the given number of entries and evicts by the given policy.
+     * @param maximumSize
+     *  The largest number of entries this BoundedCache may hold.
+     * @param policy
+     *  The rule used to choose which entry to discard once this BoundedCache is full.
+     * @postcondition
+     *  An empty BoundedCache has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that maximumSize is not positive or that policy is null.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this BoundedCache.
+     */
+    public BoundedCache(int maximumSize, EvictionPolicy policy) {
+        int mainMaximum;
+
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Eviction policy cannot be null.");
+        }
+        this.maximumSize = maximumSize;
+        this.policy = policy;
+        entries = new IntObjectMap<>((int) Math.min(maximumSize / 0.75 + 1, 1 << 30));
+        window = sentinel();
+        probation = sentinel();
+        protectedList = sentinel();
+
+        if (policy == EvictionPolicy.W_TINY_LFU) {
+            windowMaximum = Math.max(1, (int) (maximumSize * WINDOW_RATIO));
+            mainMaximum = maximumSize - windowMaximum;
+            protectedMaximum = (int) (mainMaximum * PROTECTED_RATIO);
+            sketch = new FrequencySketch(maximumSize);
+        } else {
+            windowMaximum = maximumSize;
+            protectedMaximum = 0;
+        }
+    }
+
+    /*
+     * private void access(Entry entry)
+     * Helper method that records a use of the specified entry by moving it to the front of its list. With the
+     * W_TINY_LFU policy, an entry on probation is promoted to the protected list instead, and if that overfills the
+     * protected list, then its least recently used entry is demoted to probation.
+     * @param entry
+     *  The entry that was used.
+     * @postcondition
+     *  The entry is the most recently used entry of its list.
+     */
+    private void access(Entry entry) {
+        Entry demoted;
+
+        if (entry.queue != PROBATION) {
+            unlink(entry);
+            linkFirst(entry.queue == WINDOW ? window : protectedList, entry);
+            return;
+        }
+
+        unlink(entry);
+        probationSize--;
+        entry.queue = PROTECTED;
+        linkFirst(protectedList, entry);
+        protectedSize++;
+
+        if (protectedSize > protectedMaximum) {
+            demoted = protectedList.prev;
+            unlink(demoted);
+            protectedSize--;
+            demoted.queue = PROBATION;
+            linkFirst(probation, demoted);
+            probationSize++;
+        }
+    }
+
+    /*
+     * private void admit()
+     * Helper method used by the W_TINY_LFU policy when the window has grown past its maximum. The least recently used
+     * entry of the window moves to probation if the main cache has room. Otherwise it competes with the least recently
+     * used entry of probation, and whichever the sketch says has been used less often is evicted.
+     * @postcondition
+     *  windowSize is at most windowMaximum and the number of entries is at most maximumSize.
+     */
+    private void admit() {
+        Entry candidate = window.prev;
+        Entry victim;
+
+        unlink(candidate);
+        windowSize--;
+
+        if (entries.getSize() <= maximumSize) {
+            candidate.queue = PROBATION;
+            linkFirst(probation, candidate);
+            probationSize++;
+            return;
+        }
+
+        victim = probation.prev;
+        if (victim == probation) { victim = protectedList.prev; } // Every main entry has been promoted.
+        if (victim == protectedList || sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+            evict(candidate);
+            return;
+        }
+
+        unlink(victim);
+        if (victim.queue == PROBATION) {
+            probationSize--;
+        } else {
+            protectedSize--;
+        }
+        evict(victim);
+        candidate.queue = PROBATION;
+        linkFirst(probation, candidate);
+        probationSize++;
+    }
+
+    /**
+     * public boolean contains(int k)
+     * Accessor method that confirms whether or not a specified key is in this BoundedCache. The key is not counted as
+     * used, and the call is not counted as a hit or a miss.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this BoundedCache. Otherwise false.
+     */
+    @Override
+    public boolean contains(int k) { return entries.contains(k); }
+
+    /**
+     * public void delete(int k)
+     * Mutator method that removes the specified key and it's value from this BoundedCache.
+     * @param k
+     *  The key to search for.
+     * @postcondition
+     *  The specified key and it's value have been removed from this BoundedCache if they existed. Otherwise, no
+     *  mutation occurs.
+     */
+    @Override
+    public void delete(int k) {
+        Entry entry = entries.get(k);
+
+        if (entry == null) { return; }
+
+        unlink(entry);
+        if (entry.queue == WINDOW) {
+            windowSize--;
+        } else if (entry.queue == PROBATION) {
+            probationSize--;
+        } else {
+            protectedSize--;
+        }
+        entries.delete(k);
+        recycle(entry);
+    }
+
+    /*
+     * private void evict(Entry entry)
+     * Helper method that discards an entry that has already been unlinked from its list.
+     * @param entry
+     *  The entry to discard.
+     * @postcondition
+     *  The key of the entry is no longer in this BoundedCache, evictions has been incremented, and the entry can be
+     *  reused.
+     */
+    private void evict(Entry entry) {
+        entries.delete(entry.key);
+        evictions++;
+        recycle(entry);
+    }
+
+    /**
+     * public String get(int k)
+     * Accessor method that retrieves the value associated with the specified key and records the key as used.
+     * @param k
+     *  The key to search for.
+     * @return String
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     * @postcondition
+     *  The call has been counted as a hit or a miss. With the W_TINY_LFU policy, the use has been recorded in the
+     *  FrequencySketch whether or not the key was found.
+     */
+    @Override
+    public String get(int k) {
+        Entry entry = entries.get(k);
+
+        if (sketch != null) { sketch.increment(k); }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        access(entry);
+        return entry.value;
+    }
+
+    /**
+     * public EvictionPolicy getEvictionPolicy()
+     * Accessor method that retrieves the eviction policy of this BoundedCache.
+     * @return EvictionPolicy
+     *  The rule used to choose which entry to discard.
+     */
+    public EvictionPolicy getEvictionPolicy() { return policy; }
+
+    /**
+     * public long getEvictions()
+     * Accessor method that retrieves the number of entries discarded to make room since the statistics were last
+     * reset.
+     * @return long
+     *  The number of evictions.
+     */
+    public long getEvictions() { return evictions; }
+
+    /**
+     * public double getHitRatio()
+     * Accessor method that retrieves the fraction of gets that found their key since the statistics were last reset.
+     * @return double
+     *  The ratio of hits to gets, or 0 if there have been no gets.
+     */
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * public long getHits()
+     * Accessor method that retrieves the number of gets that found their key since the statistics were last reset.
+     * @return long
+     *  The number of hits.
+     */
+    public long getHits() { return hits; }
+
+    /**
+     * public int getMaximumSize()
+     * Accessor method that retrieves the largest number of entries this BoundedCache may hold.
+     * @return int
+     *  The maximum size.
+     */
+    public int getMaximumSize() { return maximumSize; }
+
+    /**
+     * public long getMisses()
+     * Accessor method that retrieves the number of gets that did not find their key since the statistics were last
+     * reset.
+     * @return long
+     *  The number of misses.
+     */
+    public long getMisses() { return misses; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in this BoundedCache.
+     * @return int
+     *  The number of entries in this BoundedCache.
+     */
+    public int getSize() { return entries.getSize(); }
+
+    /*
+     * private static void linkFirst(Entry list, Entry entry)
+     * Helper method that makes the specified entry the most recently used entry of a list.
+     * @param list
+     *  The sentinel of the list.
+     * @param entry
+     *  An entry that is not in any list.
+     * @postcondition
+     *  The entry is directly after the sentinel.
+     */
+    private static void linkFirst(Entry list, Entry entry) {
+        entry.prev = list;
+        entry.next = list.next;
+        list.next.prev = entry;
+        list.next = entry;
+    }
+
+    /**
+     * public void printHash()
+     * Prints every key and value pair in this BoundedCache.
+     * @postcondition
+     *  The keys and values in this BoundedCache have been written using System.out.println().
+     */
+    @Override
+    public void printHash() {
+        System.out.println(toString());
+    }
+
+    /**
+     * public void put(int k, String v)
+     * Mutator method that adds the specified key and value to this BoundedCache and records the key as used. If the
+     * specified key was already in this BoundedCache, then the old value will be replaced with the specified value.
+     * @param k
+     *  The key to add.
+     * @param v
+     *  The value associated with the specified key.
+     * @postcondition
+     *  The specified key and value have been added to this BoundedCache, unless the W_TINY_LFU policy judged the key
+     *  less valuable than every entry it could replace. If this BoundedCache was full, then one entry has been evicted.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new entry.
+     */
+    @Override
+    public void put(int k, String v) {
+        Entry entry = entries.get(k);
+
+        if (sketch != null) { sketch.increment(k); }
+        if (entry != null) {
+            entry.value = v;
+            access(entry);
+            return;
+        }
+
+        if (policy == EvictionPolicy.LRU && entries.getSize() == maximumSize) {
+            entry = window.prev; // Reuse the least recently used entry for the new key.
+            unlink(entry);
+            windowSize--;
+            entries.delete(entry.key);
+            evictions++;
+        } else if (free != null) {
+            entry = free;
+            free = entry.next;
+        } else {
+            entry = new Entry();
+        }
+
+        entry.key = k;
+        entry.value = v;
+        entry.queue = WINDOW;
+        linkFirst(window, entry);
+        windowSize++;
+        entries.put(k, entry);
+
+        if (windowSize > windowMaximum) { admit(); }
+    }
+
+    /*
+     * private void recycle(Entry entry)
+     * Helper method that adds an unlinked entry to the free list so that it can be reused.
+     * @param entry
+     *  An entry that is not in any list and whose key is no longer in entries.
+     * @postcondition
+     *  The entry is at the front of the free list and no longer refers to its value.
+     */
+    private void recycle(Entry entry) {
+        entry.value = null;
+        entry.prev = null;
+        entry.next = free;
+        free = entry;
+    }
+
+    /**
+     * public void resetStatistics()
+     * Mutator method that clears the hit, miss, and eviction counters of this BoundedCache.
+     * @postcondition
+     *  hits, misses, and evictions are zero. The entries are unchanged.
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /*
+     * private static Entry sentinel()
+     * Helper method that creates the sentinel of an empty list.
+     * @return Entry
+     *  An entry that links to itself in both directions.
+     */
+    private static Entry sentinel() {
+        Entry sentinel = new Entry();
+
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        return sentinel;
+    }
+
+    /**
+     * public String toString()
+     * Returns every key and value pair in this BoundedCache.
+     * @return String
+     *  One line for each key and value pair, from the most recently used to the least recently used within each of the
+     *  window, probation, and protected lists in turn.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for (Entry list : new Entry[] { window, probation, protectedList }) {
+            for (Entry entry = list.next; entry != list; entry = entry.next) {
+                stringBuilder.append("Key[").append(entry.key).append("] = ").append(entry.value).append("\n");
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /*
+     * private static void unlink(Entry entry)
+     * Helper method that removes the specified entry from its list.
+     * @param entry
+     *  An entry that is in a list.
+     * @postcondition
+     *  The neighbors of the entry are linked to each other. The links of the entry itself are unchanged.
+     */
+    private static void unlink(Entry entry) {
+        entry.prev.next = entry.next;
+        entry.next.prev = entry.prev;
+    }
+
+    /*
+     * An Entry holds one key and value of a BoundedCache along with its links in one of the lists.
+     */
+    private static final class Entry {
+        private int key;
+        private String value;
+        private int queue;
+        private Entry prev;
+        private Entry next;
+    }
+}
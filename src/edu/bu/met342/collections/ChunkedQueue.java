@@ -0,0 +1,273 @@
+// File ChunkedQueue.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import edu.bu.met342.nodes.ArrayNode;
+
+/**********************************************************************************************************************
+ * A ChunkedQueue is an unbounded First-in/First-out queue stored as an unrolled linked list. Each node is an ArrayNode
+ * that holds a chunk of items, 64 by default, so the queue allocates one node for every chunk of items rather than one
+ * for every item.
+ *
+ * @note
+ *  1. Beyond Integer.MAX_VALUE elements, the size method does not work.
+ *  2. Items are added to the rear chunk and removed from the front chunk. When the rear chunk is full a new chunk is
+ *     linked after it, and when the front chunk has been emptied it is unlinked.
+ *  3. Emptied chunks are kept in a small pool, four by default, and reused before any new chunk is allocated. A queue
+ *     whose length stays within the pooled chunks therefore allocates nothing at all once it has warmed up.
+ *  4. The new item may be a null reference, as with a LinkedQueue.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class ChunkedQueue<E> implements Queue<E> {
+    // Invariant of the ChunkedQueue class.
+    // 1. The items are in the chunks from front to rear, following the links, in order. front and rear are never null,
+    //    and rear has nothing after it. Only front may be empty, and only if it is also rear.
+    // 2. The instance variable size is the total number of items in the chunks from front to rear.
+    // 3. pool is a linked list of poolSize empty chunks that have been reset, and poolSize never exceeds maxPoolSize.
+    // 4. Every chunk has a capacity of chunkSize.
+    private ArrayNode<E> front;
+    private ArrayNode<E> rear;
+    private int size;
+    private ArrayNode<E> pool;
+    private int poolSize;
+    private int maxPoolSize;
+    private int chunkSize;
+    private static final int CHUNK_SIZE = 64;
+    private static final int MAX_POOL_SIZE = 4;
+
+    /**
+     * public ChunkedQueue()
+     * Initialize an empty ChunkedQueue with chunks of 64 items and a pool of up to four chunks.
+     * @postcondition
+     *  This ChunkedQueue is empty.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ChunkedQueue.
+     */
+    public ChunkedQueue() {
+        this(CHUNK_SIZE, MAX_POOL_SIZE);
+    }
+
+    /**
+     * public ChunkedQueue(int chunkSize, int maxPoolSize)
+     * Initialize an empty ChunkedQueue with the given chunk size and pool size.
+     * @param chunkSize
+     *  The number of items in each chunk.
+     * @param maxPoolSize
+     *  The largest number of emptied chunks to keep for reuse.
+     * @postcondition
+     *  This ChunkedQueue is empty.
+     * @exception IllegalArgumentException
+     *  Indicates that chunkSize is not positive or maxPoolSize is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ChunkedQueue.
+     */
+    public ChunkedQueue(int chunkSize, int maxPoolSize) {
+        if (chunkSize <= 0) { throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize); }
+        if (maxPoolSize < 0) { throw new IllegalArgumentException("Pool size cannot be negative: " + maxPoolSize); }
+        this.chunkSize = chunkSize;
+        this.maxPoolSize = maxPoolSize;
+        front = new ArrayNode<>(chunkSize);
+        rear = front;
+        size = 0;
+        pool = null;
+        poolSize = 0;
+    }
+
+    /**
+     * public void add(E item)
+     * Mutator method that adds a new item to the rear of this ChunkedQueue. The new item may be a null reference.
+     * @param item
+     *  The item to be added to this ChunkedQueue.
+     * @postcondition
+     *  The item has been added to the rear of this ChunkedQueue. If the rear chunk was full, then a chunk from the pool,
+     *  or a new one, has been linked after it first.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new chunk.
+     */
+    @Override
+    public void add(E item) {
+        if (rear.isFull()) { linkChunk(); }
+        rear.add(item);
+        size++;
+    }
+
+    /**
+     * public void addAll(E[] items, int offset, int length)
+     * Mutator method that adds a range of items to the rear of this ChunkedQueue, in order, copying a chunk at a time.
+     * @param items
+     *  The array that holds the items.
+     * @param offset
+     *  The index in items of the first item to add.
+     * @param length
+     *  The number of items to add.
+     * @postcondition
+     *  items[offset] through items[offset + length - 1] have been added to the rear of this ChunkedQueue.
+     * @exception IllegalArgumentException
+     *  Indicates that offset and length do not describe a range of items. Nothing has been added.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new chunk.
+     */
+    @Override
+    public void addAll(E[] items, int offset, int length) {
+        int copied;
+
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IllegalArgumentException("Invalid range. Offset " + offset + " and length " + length
+                    + " do not fit in an array of length " + items.length);
+        }
+
+        while (length > 0) {
+            if (rear.isFull()) { linkChunk(); }
+            copied = rear.addAll(items, offset, length);
+            offset += copied;
+            length -= copied;
+            size += copied;
+        }
+    }
+
+    /**
+     * public int drainTo(Object[] array, int max)
+     * Mutator method that removes up to max items from the front of this ChunkedQueue and copies them, in order, to the
+     * start of the specified array, copying a chunk at a time.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this ChunkedQueue held fewer items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items. Every chunk that was emptied has been unlinked.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    @Override
+    public int drainTo(Object[] array, int max) {
+        int count = 0;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+
+        while (count < max && count < size) {
+            count += front.drainTo(array, count, max - count);
+            unlinkIfEmpty();
+        }
+        size -= count;
+        return count;
+    }
+
+    /**
+     * public int getChunkCount()
+     * Accessor method that returns the number of chunks linked into this ChunkedQueue.
+     * @return int
+     *  The number of chunks from the front chunk to the rear chunk inclusive. Pooled chunks are not counted.
+     */
+    public int getChunkCount() {
+        int count = 0;
+
+        for (ArrayNode<E> cursor = front; cursor != null; cursor = cursor.getNext()) { count++; }
+        return count;
+    }
+
+    /**
+     * public int getPoolSize()
+     * Accessor method that returns the number of emptied chunks waiting to be reused.
+     * @return int
+     *  The number of chunks in the pool.
+     */
+    public int getPoolSize() { return poolSize; }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this ChunkedQueue is empty.
+     * @return boolean
+     *  True if this ChunkedQueue is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /*
+     * private void linkChunk()
+     * Helper method that links an empty chunk after the rear chunk, taking it from the pool if there is one.
+     * @postcondition
+     *  rear is an empty chunk that follows the old rear chunk.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new chunk.
+     */
+    private void linkChunk() {
+        ArrayNode<E> chunk;
+
+        if (pool != null) {
+            chunk = pool;
+            pool = pool.getNext();
+            chunk.setNext(null);
+            poolSize--;
+        } else {
+            chunk = new ArrayNode<>(chunkSize);
+        }
+
+        rear.setNext(chunk);
+        rear = chunk;
+    }
+
+    /**
+     * public E remove()
+     * Mutator method that removes the front item from this ChunkedQueue.
+     * @return E
+     *  The front item from this ChunkedQueue, or null if it is empty.
+     * @postcondition
+     *  If this ChunkedQueue was not empty, then the front item has been removed. If that emptied the front chunk, then
+     *  the chunk has been unlinked and returned to the pool.
+     */
+    @Override
+    public E remove() {
+        E item;
+
+        if (size == 0) { return null; }
+
+        item = front.remove();
+        size--;
+        unlinkIfEmpty();
+        return item;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this ChunkedQueue.
+     * @return int
+     *  The number of items in this ChunkedQueue.
+     */
+    @Override
+    public int size() { return size; }
+
+    /*
+     * private void unlinkIfEmpty()
+     * Helper method that recycles the front chunk once every item in it has been removed.
+     * @postcondition
+     *  If the front chunk is empty and there is a chunk after it, then it has been unlinked and returned to the pool,
+     *  or left for the garbage collector if the pool is full. If it is empty and is also the rear chunk, then it has
+     *  been reset so that it can be filled again from the start.
+     */
+    private void unlinkIfEmpty() {
+        ArrayNode<E> emptied;
+
+        if (!front.isEmpty()) { return; }
+
+        if (front == rear) {
+            front.reset();
+            return;
+        }
+
+        emptied = front;
+        front = front.getNext();
+        emptied.reset();
+        if (poolSize < maxPoolSize) {
+            emptied.setNext(pool);
+            pool = emptied;
+            poolSize++;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+// File ConcurrentHashTable.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**********************************************************************************************************************
+ * A ConcurrentHashTable is a HashTable that may be shared by many threads. The keys are divided among a number of
+ * segments, each of which is an ordinary HashTable guarded by its own lock. Threads working on keys in different
+ * segments never wait for each other, so throughput grows with the number of cores rather than being capped by a
+ * single global lock.
+ *
+ * @note
+ *  1. Every call to contains, delete, get, or put is atomic. delete and put lock only the segment that owns the key.
+ *     contains and get do not lock at all in the common case. They read the segment optimistically and then check
+ *     that no writer changed the segment while they were reading. If a writer did, then the read is repeated under a
+ *     shared read lock. A read therefore never writes to shared memory unless it collides with a writer.
+ *  2. getSize, printHash, and toString are weakly consistent. They visit the segments one at a time and lock each
+ *     segment only while that segment is being read. The result reflects every segment as it was at some moment during
+ *     the call, but not every segment at the same moment. Updates that finish before the call begins are always
+ *     reflected. Updates made during the call may or may not be reflected. A key deleted from one segment while
+ *     another key is added to a segment that was already visited can make the result show neither update, or only one
+ *     of them.
+ *  3. The number of segments is fixed when the ConcurrentHashTable is constructed. Each segment grows on its own, in
+ *     the same manner as a HashTable.
+ *  4. Reads do not update the lookup statistics of their segment, which would turn every read into a write to shared
+ *     memory.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class ConcurrentHashTable implements Map {
+    // Invariant of the ConcurrentHashTable class.
+    // 1. The length of segments is a power of two. A key k is stored only in segments[segmentFor(k)].
+    // 2. Each segment is a HashTable guarded by the StampedLock at the same index of locks. A segment is only modified
+    //    while the write lock is held, and every modification changes the stamp of the lock. A read of a segment is
+    //    only trusted if it is made under the read lock, or if the stamp is unchanged after an optimistic read.
+    // 3. The instance variable segmentShift is the number of low bits of a mixed hash code that are discarded to pick a
+    //    segment. Segments are picked from the upper bits so that the choice is independent of the bucket chosen by
+    //    the lower bits within a segment.
+    private HashTable[] segments;
+    private StampedLock[] locks;
+    private int segmentShift;
+    private static final int CAPACITY = 31;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    /**
+     * public ConcurrentHashTable()
+     * Initialize an empty ConcurrentHashTable with four segments for every available processor. Each segment has an
+     * initial capacity of 31 and a load factor of 0.75.
+     * @postcondition
+     *  An empty ConcurrentHashTable has been initialized.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ConcurrentHashTable.
+     */
+    public ConcurrentHashTable() {
+        this(CAPACITY * 4 * Runtime.getRuntime().availableProcessors(), DEFAULT_LOAD_FACTOR,
+                4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * public ConcurrentHashTable(int capacity, double loadFactor, int concurrencyLevel)
+     * Initialize an empty ConcurrentHashTable with the given total initial capacity, load factor, and number of
+     * segments.
+     * @param capacity
+     *  The total initial capacity, which is divided evenly among the segments.
+     * @param loadFactor
+     *  The largest permitted ratio of size to capacity before a segment grows. Must be greater than 0 and no greater
+     *  than 1.
+     * @param concurrencyLevel
+     *  The expected number of threads updating this ConcurrentHashTable at once. It is rounded up to a power of two
+     *  to give the number of segments.
+     * @postcondition
+     *  An empty ConcurrentHashTable has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative, that the load factor is not in the range (0, 1], or that the
+     *  concurrency level is not positive.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this ConcurrentHashTable.
+     */
+    public ConcurrentHashTable(int capacity, double loadFactor, int concurrencyLevel) {
+        int segmentCount;
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        if (concurrencyLevel <= 0) {
+            throw new IllegalArgumentException("Concurrency level must be positive: " + concurrencyLevel);
+        }
+
+        segmentCount = concurrencyLevel >= MAX_SEGMENTS ? MAX_SEGMENTS : Integer.highestOneBit(concurrencyLevel);
+        if (segmentCount < concurrencyLevel && segmentCount < MAX_SEGMENTS) { segmentCount <<= 1; }
+
+        segmentShift = 32 - Integer.numberOfTrailingZeros(segmentCount);
+        segments = new HashTable[segmentCount];
+        locks = new StampedLock[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new HashTable((capacity + segmentCount - 1) / segmentCount, loadFactor);
+            locks[i] = new StampedLock();
+        }
+    }
+
+    /**
+     * public boolean contains(int k)
+     * Accessor method that confirms whether or not a specified key is in this ConcurrentHashTable.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this ConcurrentHashTable. Otherwise false.
+     */
+    @Override
+    public boolean contains(int k) {
+        int index = segmentFor(k);
+        HashTable segment = segments[index];
+        StampedLock lock = locks[index];
+        long stamp = lock.tryOptimisticRead();
+        boolean answer;
+
+        if (stamp != 0) {
+            try {
+                answer = segment.containsUncounted(k);
+                if (lock.validate(stamp)) { return answer; }
+            } catch (RuntimeException e) {
+                // A writer changed the segment part way through the read. Fall through and read under the lock.
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return segment.containsUncounted(k);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * public void delete(int k)
+     * Mutator method that removes the specified key and it's value from this ConcurrentHashTable.
+     * @param k
+     *  The key to search for.
+     * @postcondition
+     *  The specified key and it's value have been removed from this ConcurrentHashTable if they existed. Otherwise, no
+     *  mutation occurs.
+     */
+    @Override
+    public void delete(int k) {
+        int index = segmentFor(k);
+        StampedLock lock = locks[index];
+        long stamp = lock.writeLock();
+
+        try {
+            segments[index].delete(k);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * public String get(int k)
+     * Accessor method that retrieves the value associated with the specified key.
+     * @param k
+     *  The key to search for.
+     * @return String
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     */
+    @Override
+    public String get(int k) {
+        int index = segmentFor(k);
+        HashTable segment = segments[index];
+        StampedLock lock = locks[index];
+        long stamp = lock.tryOptimisticRead();
+        String answer;
+
+        if (stamp != 0) {
+            try {
+                answer = segment.getUncounted(k);
+                if (lock.validate(stamp)) { return answer; }
+            } catch (RuntimeException e) {
+                // A writer changed the segment part way through the read. Fall through and read under the lock.
+            }
+        }
+
+        stamp = lock.readLock();
+        try {
+            return segment.getUncounted(k);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * public int getSegmentCount()
+     * Accessor method that retrieves the number of segments in this ConcurrentHashTable.
+     * @return int
+     *  The number of independently locked segments.
+     */
+    public int getSegmentCount() { return segments.length; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in this ConcurrentHashTable. The count is weakly consistent
+     * as described in the class notes.
+     * @return int
+     *  The sum of the sizes of every segment.
+     */
+    public int getSize() {
+        int size = 0;
+        long stamp;
+
+        for (int i = 0; i < segments.length; i++) {
+            stamp = locks[i].readLock();
+            try {
+                size += segments[i].getSize();
+            } finally {
+                locks[i].unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * public void printHash()
+     * Prints every key and value pair in this ConcurrentHashTable. The output is weakly consistent as described in the
+     * class notes.
+     * @postcondition
+     *  The keys and values in this ConcurrentHashTable have been written using System.out.println().
+     */
+    @Override
+    public void printHash() {
+        System.out.println(toString());
+    }
+
+    /**
+     * public void put(int k, String v)
+     * Mutator method that adds the specified key and value to this ConcurrentHashTable. If the specified key was
+     * already in this ConcurrentHashTable, then the old value will be replaced with the specified value.
+     * @param k
+     *  The key to add.
+     * @param v
+     *  The value associated with the specified key.
+     * @postcondition
+     *  The specified key and value have been added to the segment that owns the key. If the key already existed, then
+     *  the old value has been replaced with the new specified value.
+     * @exception IllegalStateException
+     *  Indicates that the segment that owns the key has reached its maximum capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger segment.
+     */
+    @Override
+    public void put(int k, String v) {
+        int index = segmentFor(k);
+        StampedLock lock = locks[index];
+        long stamp = lock.writeLock();
+
+        try {
+            segments[index].put(k, v);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /*
+     * private int segmentFor(int k)
+     * Helper method that returns the index of the segment that owns the specified key. The key is mixed with the
+     * golden ratio constant and the segment is picked from the upper bits of the result.
+     * @param k
+     *  The key to locate.
+     * @return int
+     *  The index of the segment that owns k.
+     */
+    private int segmentFor(int k) {
+        if (segmentShift == 32) { return 0; }
+        return (k * 0x9E3779B9) >>> segmentShift;
+    }
+
+    /**
+     * public String toString()
+     * Returns every bucket of every segment in this ConcurrentHashTable. The result is weakly consistent as described
+     * in the class notes.
+     * @return String
+     *  The contents of each segment, in the same format as HashTable, preceded by the index of the segment.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        long stamp;
+
+        for (int i = 0; i < segments.length; i++) {
+            stringBuilder.append("Segment[").append(i).append("]\n");
+            stamp = locks[i].readLock();
+            try {
+                stringBuilder.append(segments[i].toString());
+            } finally {
+                locks[i].unlockRead(stamp);
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+}
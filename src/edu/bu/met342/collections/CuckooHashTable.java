@@ -0,0 +1,542 @@
+// File CuckooHashTable.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A CuckooHashTable is a HashTable whose lookups take a fixed amount of work no matter how the keys are distributed.
+ * Every key may live in only one of two buckets of four slots each, picked by two independent hash functions, or in
+ * a small stash. contains and get therefore examine at most twelve slots, rather than walking a probe sequence of
+ * unbounded length.
+ *
+ * @note
+ *  1. To add a key whose two buckets are full, the key takes a slot from a random resident of one of its buckets and
+ *     the evicted resident moves to its other bucket, possibly evicting another resident in turn. If this goes on for
+ *     too long, then the entry left over is put in the stash. If the stash is also full, then the whole table is
+ *     rehashed with two new hash functions, and grows to twice the capacity if that does not help.
+ *  2. With buckets of four slots, a cuckoo table can be filled to over 90 percent before insertions begin to fail. The
+ *     capacity is doubled once 90 percent of the slots hold an entry.
+ *  3. The key 0 marks an empty slot, so the key 0 itself is stored outside of the table in dedicated fields.
+ *  4. The capacity is always a power of two number of buckets and cannot exceed 2^30 slots.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class CuckooHashTable implements Map {
+    // Invariant of the CuckooHashTable class.
+    // 1. The number of entries is in the instance variable size. This includes the entry for the key 0, if there is
+    //    one.
+    // 2. The slots are divided into buckets of BUCKET_SIZE consecutive slots. The number of buckets is a power of two
+    //    and bucketMask is one less than it. A slot is empty exactly when keys[slot] is 0.
+    // 3. Every nonzero key is in exactly one of three places: a slot of the bucket that starts at bucket(k, seed1), a
+    //    slot of the bucket that starts at bucket(k, seed2), or stashKeys[0] through stashKeys[stashSize - 1]. Its
+    //    value is at the same index of values or stashValues.
+    // 4. The instance variable hasZeroKey indicates whether or not the key 0 is in this CuckooHashTable. If it is, then
+    //    its value is in zeroValue.
+    // 5. The instance variable threshold is the number of nonzero keys at which this CuckooHashTable grows.
+    // 6. The instance variable random is the state of a xorshift generator used to pick evictions and new seeds. The
+    //    instance variables pendingKey and pendingValue hold the entry left over by an insertion that failed.
+    private int size;
+    private int bucketMask;
+    private int threshold;
+    private int seed1;
+    private int seed2;
+    private int random;
+    private int[] keys;
+    private String[] values;
+    private int[] stashKeys;
+    private String[] stashValues;
+    private int stashSize;
+    private boolean hasZeroKey;
+    private String zeroValue;
+    private int pendingKey;
+    private String pendingValue;
+    private static final int BUCKET_SIZE = 4;
+    private static final int STASH_SIZE = 4;
+    private static final int CAPACITY = 32;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final double LOAD_FACTOR = 0.9;
+    private static final int MAX_EVICTIONS = 256;
+    private static final int MAX_REHASH_ATTEMPTS = 4;
+
+    /**
+     * public CuckooHashTable()
+     * Initialize an empty CuckooHashTable with an initial capacity of 32 slots.
+     * @postcondition
+     *  An empty CuckooHashTable has been initialized.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this CuckooHashTable.
+     */
+    public CuckooHashTable() {
+        this(CAPACITY);
+    }
+
+    /**
+     * public CuckooHashTable(int capacity)
+     * Initialize an empty CuckooHashTable with room for the given number of slots.
+     * @param capacity
+     *  The initial capacity of this CuckooHashTable. It is rounded up to a power of two number of buckets.
+     * @postcondition
+     *  An empty CuckooHashTable has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this CuckooHashTable.
+     */
+    public CuckooHashTable(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        size = 0;
+        hasZeroKey = false;
+        random = 0x2545F491;
+        seed1 = nextRandom();
+        seed2 = nextRandom();
+        stashKeys = new int[STASH_SIZE];
+        stashValues = new String[STASH_SIZE];
+        stashSize = 0;
+        allocate(OpenAddressing.tableSizeFor(capacity, 2 * BUCKET_SIZE, MAX_CAPACITY));
+    }
+
+    /*
+     * private void allocate(int capacity)
+     * Helper method that replaces the table and the stash with empty arrays.
+     * @param capacity
+     *  The new number of slots. Must be a power of two that is at least BUCKET_SIZE.
+     * @postcondition
+     *  keys and values are empty arrays of the specified capacity, the stash is empty, and bucketMask and threshold
+     *  have been recalculated.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new String[capacity];
+        bucketMask = capacity / BUCKET_SIZE - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+        for (int i = 0; i < stashSize; i++) { stashValues[i] = null; }
+        stashSize = 0;
+    }
+
+    /*
+     * private int bucket(int k, int seed)
+     * Helper method that returns the first slot of the bucket picked for the specified key by the hash function with
+     * the specified seed. The key is mixed with the finalizer of MurmurHash3, so the two hash functions are
+     * independent of each other.
+     * @param k
+     *  The key to hash.
+     * @param seed
+     *  Either seed1 or seed2.
+     * @return int
+     *  The index of the first slot of the bucket.
+     */
+    private int bucket(int k, int seed) {
+        int h = k ^ seed;
+
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return (h & bucketMask) * BUCKET_SIZE;
+    }
+
+    /**
+     * public boolean contains(int k)
+     * Accessor method that confirms whether or not a specified key is in this CuckooHashTable. At most twelve slots are
+     * examined.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this CuckooHashTable. Otherwise false.
+     */
+    @Override
+    public boolean contains(int k) {
+        if (k == 0) { return hasZeroKey; }
+        return findSlot(k) != -1 || findStash(k) != -1;
+    }
+
+    /**
+     * public void delete(int k)
+     * Mutator method that removes the specified key and it's value from this CuckooHashTable.
+     * @param k
+     *  The key to search for.
+     * @postcondition
+     *  The specified key and it's value have been removed from this CuckooHashTable if they existed. Otherwise, no
+     *  mutation occurs. If a slot was freed, then any entry in the stash that belongs to that slot's bucket has been
+     *  moved into it.
+     */
+    @Override
+    public void delete(int k) {
+        int slot;
+
+        if (k == 0) {
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return;
+        }
+
+        slot = findSlot(k);
+        if (slot != -1) {
+            keys[slot] = 0;
+            values[slot] = null;
+            size--;
+            for (int i = stashSize - 1; i >= 0; i--) { // The freed slot may let an entry leave the stash.
+                if (place(stashKeys[i], stashValues[i])) { removeStash(i); }
+            }
+            return;
+        }
+
+        slot = findStash(k);
+        if (slot != -1) {
+            removeStash(slot);
+            size--;
+        }
+    }
+
+    /*
+     * private int emptySlot(int bucket)
+     * Helper method that returns the first empty slot of the specified bucket. Otherwise it returns -1.
+     * @param bucket
+     *  The index of the first slot of a bucket.
+     * @return int
+     *  The index of an empty slot in the bucket, or -1 if the bucket is full.
+     */
+    private int emptySlot(int bucket) {
+        for (int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+            if (keys[i] == 0) { return i; }
+        }
+        return -1;
+    }
+
+    /*
+     * private int findSlot(int k)
+     * Helper method that returns the slot of the specified nonzero key if it is in one of its two buckets. Otherwise it
+     * returns -1.
+     * @param k
+     *  The key to search for. Must not be 0.
+     * @return int
+     *  The slot of the specified key or -1 if the key is not in either of its buckets.
+     */
+    private int findSlot(int k) {
+        int bucket = bucket(k, seed1);
+
+        for (int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+            if (keys[i] == k) { return i; }
+        }
+
+        bucket = bucket(k, seed2);
+        for (int i = bucket; i < bucket + BUCKET_SIZE; i++) {
+            if (keys[i] == k) { return i; }
+        }
+        return -1;
+    }
+
+    /*
+     * private int findStash(int k)
+     * Helper method that returns the position of the specified nonzero key in the stash. Otherwise it returns -1.
+     * @param k
+     *  The key to search for. Must not be 0.
+     * @return int
+     *  The position of the specified key in the stash or -1 if the key is not in the stash.
+     */
+    private int findStash(int k) {
+        for (int i = 0; i < stashSize; i++) {
+            if (stashKeys[i] == k) { return i; }
+        }
+        return -1;
+    }
+
+    /**
+     * public String get(int k)
+     * Accessor method that retrieves the value associated with the specified key. At most twelve slots are examined.
+     * @param k
+     *  The key to search for.
+     * @return String
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     */
+    @Override
+    public String get(int k) {
+        int slot;
+
+        if (k == 0) { return zeroValue; }
+
+        slot = findSlot(k);
+        if (slot != -1) { return values[slot]; }
+
+        slot = findStash(k);
+        if (slot != -1) { return stashValues[slot]; }
+        return null;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that retrieves the capacity of this CuckooHashTable.
+     * @return int
+     *  The number of slots in this CuckooHashTable, not counting the stash.
+     */
+    public int getCapacity() { return keys.length; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in this CuckooHashTable.
+     * @return int
+     *  The number of entries in this CuckooHashTable.
+     */
+    public int getSize() { return size; }
+
+    /**
+     * public int getStashSize()
+     * Accessor method that retrieves the number of entries in the stash.
+     * @return int
+     *  The number of entries that could not be placed in either of their buckets.
+     */
+    public int getStashSize() { return stashSize; }
+
+    /*
+     * private static int grow(int capacity)
+     * Helper method that doubles the specified capacity.
+     * @param capacity
+     *  The current number of slots.
+     * @return int
+     *  Twice the specified capacity.
+     * @exception IllegalStateException
+     *  Indicates that the capacity is already the maximum capacity.
+     */
+    private static int grow(int capacity) {
+        if (capacity >= MAX_CAPACITY) { throw new IllegalStateException("This CuckooHashTable is full."); }
+        return capacity * 2;
+    }
+
+    /*
+     * private boolean insert(int k, String v)
+     * Helper method that adds a nonzero key that is known not to be in this CuckooHashTable. If both buckets of the key
+     * are full, then residents are evicted to their other buckets until an empty slot is found. If that takes too
+     * long, then the entry left over goes into the stash.
+     * @param k
+     *  The new key. Must not be 0.
+     * @param v
+     *  The value associated with the new key.
+     * @return boolean
+     *  True if every entry found a place. False if the stash was full, in which case the entry left over is in
+     *  pendingKey and pendingValue and the new key is somewhere in the table.
+     */
+    private boolean insert(int k, String v) {
+        int bucket;
+        int slot;
+        int evictedKey;
+        String evictedValue;
+
+        if (place(k, v)) { return true; }
+
+        bucket = (nextRandom() & 1) == 0 ? bucket(k, seed1) : bucket(k, seed2);
+        for (int i = 0; i < MAX_EVICTIONS; i++) {
+            slot = bucket + (nextRandom() & (BUCKET_SIZE - 1));
+            evictedKey = keys[slot];
+            evictedValue = values[slot];
+            keys[slot] = k;
+            values[slot] = v;
+            k = evictedKey;
+            v = evictedValue;
+
+            // The evicted key moves to whichever of its buckets it was not just evicted from.
+            bucket = bucket(k, seed1) == bucket ? bucket(k, seed2) : bucket(k, seed1);
+            slot = emptySlot(bucket);
+            if (slot != -1) {
+                keys[slot] = k;
+                values[slot] = v;
+                return true;
+            }
+        }
+
+        if (stashSize < STASH_SIZE) {
+            stashKeys[stashSize] = k;
+            stashValues[stashSize++] = v;
+            return true;
+        }
+
+        pendingKey = k;
+        pendingValue = v;
+        return false;
+    }
+
+    /*
+     * private int nextRandom()
+     * Helper method that advances the xorshift generator.
+     * @return int
+     *  The next pseudorandom number. It is never 0.
+     */
+    private int nextRandom() {
+        random ^= random << 13;
+        random ^= random >>> 17;
+        random ^= random << 5;
+        return random;
+    }
+
+    /*
+     * private boolean place(int k, String v)
+     * Helper method that stores the specified nonzero key in an empty slot of one of its two buckets, if there is one.
+     * @param k
+     *  The key to store. Must not be 0.
+     * @param v
+     *  The value associated with the key.
+     * @return boolean
+     *  True if the key was stored. False if both of its buckets are full.
+     */
+    private boolean place(int k, String v) {
+        int slot = emptySlot(bucket(k, seed1));
+
+        if (slot == -1) { slot = emptySlot(bucket(k, seed2)); }
+        if (slot == -1) { return false; }
+
+        keys[slot] = k;
+        values[slot] = v;
+        return true;
+    }
+
+    /**
+     * public void printHash()
+     * Prints every key and value pair in this CuckooHashTable.
+     * @postcondition
+     *  The keys and values in this CuckooHashTable have been written using System.out.println().
+     */
+    @Override
+    public void printHash() {
+        System.out.println(toString());
+    }
+
+    /**
+     * public void put(int k, String v)
+     * Mutator method that adds the specified key and value to this CuckooHashTable. If the specified key was already
+     * in this CuckooHashTable, then the old value will be replaced with the specified value.
+     * @param k
+     *  The key to add.
+     * @param v
+     *  The value associated with the specified key.
+     * @postcondition
+     *  The specified key and value have been added to this CuckooHashTable. If the key already existed, then the old
+     *  value has been replaced with the new specified value. If 90 percent of the slots were in use, then the capacity
+     *  has been doubled first. If the key could not be placed, then this CuckooHashTable has been rehashed with new
+     *  hash functions.
+     * @exception IllegalStateException
+     *  Indicates that this CuckooHashTable has reached its maximum capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger CuckooHashTable.
+     */
+    @Override
+    public void put(int k, String v) {
+        int slot;
+
+        if (k == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = v;
+            return;
+        }
+
+        slot = findSlot(k);
+        if (slot != -1) {
+            values[slot] = v;
+            return;
+        }
+        slot = findStash(k);
+        if (slot != -1) {
+            stashValues[slot] = v;
+            return;
+        }
+
+        if (size - (hasZeroKey ? 1 : 0) >= threshold) { rehash(grow(keys.length), 0, null); }
+
+        size++;
+        if (!insert(k, v)) { rehash(keys.length, pendingKey, pendingValue); }
+    }
+
+    /*
+     * private void rehash(int capacity, int extraKey, String extraValue)
+     * Helper method that moves every nonzero key of this CuckooHashTable, along with one extra entry, into new arrays
+     * hashed by two new hash functions. If some entry still cannot be placed, then new hash functions are tried, and
+     * after MAX_REHASH_ATTEMPTS the capacity is doubled.
+     * @param capacity
+     *  The new number of slots. Must be a power of two that is at least BUCKET_SIZE.
+     * @param extraKey
+     *  A key that is not in the table or the stash, or 0 if there is no extra entry.
+     * @param extraValue
+     *  The value associated with extraKey.
+     * @postcondition
+     *  Every nonzero key, including extraKey, is in its bucket or in the stash.
+     * @exception IllegalStateException
+     *  Indicates that this CuckooHashTable has reached its maximum capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void rehash(int capacity, int extraKey, String extraValue) {
+        int[] oldKeys = keys;
+        String[] oldValues = values;
+        int[] oldStashKeys = stashKeys.clone();
+        String[] oldStashValues = stashValues.clone();
+        int oldStashSize = stashSize;
+        boolean placed;
+        int attempts = 0;
+
+        do {
+            if (++attempts > MAX_REHASH_ATTEMPTS) {
+                capacity = grow(capacity);
+                attempts = 1;
+            }
+            seed1 = nextRandom();
+            seed2 = nextRandom();
+            allocate(capacity);
+
+            placed = extraKey == 0 || insert(extraKey, extraValue);
+            for (int i = 0; placed && i < oldStashSize; i++) { placed = insert(oldStashKeys[i], oldStashValues[i]); }
+            for (int i = 0; placed && i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) { placed = insert(oldKeys[i], oldValues[i]); }
+            }
+        } while (!placed);
+
+        pendingValue = null;
+    }
+
+    /*
+     * private void removeStash(int position)
+     * Helper method that removes the entry at the specified position of the stash by moving the last entry into it.
+     * @param position
+     *  The position of the entry being removed.
+     * @postcondition
+     *  The entry has been removed and stashSize has been decremented.
+     */
+    private void removeStash(int position) {
+        stashSize--;
+        stashKeys[position] = stashKeys[stashSize];
+        stashValues[position] = stashValues[stashSize];
+        stashValues[stashSize] = null;
+    }
+
+    /**
+     * public String toString()
+     * Returns every key and value pair in this CuckooHashTable.
+     * @return String
+     *  One line for each key and value pair in this CuckooHashTable.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        if (hasZeroKey) { stringBuilder.append("Key[0] = ").append(zeroValue).append("\n"); }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                stringBuilder.append("Key[").append(keys[i]).append("] = ").append(values[i]).append("\n");
+            }
+        }
+        for (int i = 0; i < stashSize; i++) {
+            stringBuilder.append("Key[").append(stashKeys[i]).append("] = ").append(stashValues[i]).append("\n");
+        }
+
+        return stringBuilder.toString();
+    }
+}
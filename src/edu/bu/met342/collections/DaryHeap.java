@@ -0,0 +1,297 @@
+// File DaryHeap.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.util.Comparator;
+
+/**********************************************************************************************************************
+ * A DaryHeap is a PriorityQueue stored as a complete d-ary tree in an array. Every item has up to d children rather
+ * than two: the children of the item at index i are at indexes d * i + 1 through d * i + d. Every item is no greater
+ * than its children, so the smallest item is always at index 0.
+ *
+ * @note
+ *  1. The tree is only log base d of n levels deep, so add moves an item past fewer parents than in a BinaryHeap.
+ *     remove compares d children at each level instead of two, but they sit next to each other in the array and
+ *     are usually read from the same cache line. An arity of 4, the default, is a good choice for most uses.
+ *  2. Items are ordered by the Comparator given to the constructor, or by their natural ordering if it is null. With
+ *     the natural ordering, every item must implement Comparable.
+ *  3. A DaryHeap cannot hold a null reference, because remove and peek return null when it is empty.
+ *  4. The capacity doubles whenever this DaryHeap is full, up to 2^30 items.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class DaryHeap<E> implements PriorityQueue<E> {
+    // Invariant of the DaryHeap class.
+    // 1. The items are in heap[0] through heap[size - 1], and every other slot of heap is null.
+    // 2. For every index i from 1 to size - 1, heap[(i - 1) / arity] is no greater than heap[i].
+    // 3. arity is the largest number of children of an item, and is at least 2.
+    // 4. comparator orders the items, or is null if the items are ordered by their natural ordering.
+    private Object[] heap;
+    private int size;
+    private int arity;
+    private Comparator<? super E> comparator;
+    private static final int ARITY = 4;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * public DaryHeap()
+     * Initialize an empty 4-ary DaryHeap that orders its items by their natural ordering.
+     * @postcondition
+     *  This DaryHeap is empty and has an initial capacity of 16 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this DaryHeap.
+     */
+    public DaryHeap() {
+        this(ARITY, INITIAL_CAPACITY, null);
+    }
+
+    /**
+     * public DaryHeap(int arity, Comparator<? super E> comparator)
+     * Initialize an empty DaryHeap with the given arity and Comparator.
+     * @param arity
+     *  The largest number of children of an item.
+     * @param comparator
+     *  The Comparator that orders the items, or null to use their natural ordering.
+     * @postcondition
+     *  This DaryHeap is empty and has an initial capacity of 16 items.
+     * @exception IllegalArgumentException
+     *  Indicates that arity is less than 2.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this DaryHeap.
+     */
+    public DaryHeap(int arity, Comparator<? super E> comparator) {
+        this(arity, INITIAL_CAPACITY, comparator);
+    }
+
+    /**
+     * public DaryHeap(int arity, int capacity, Comparator<? super E> comparator)
+     * Initialize an empty DaryHeap with the given arity, initial capacity and Comparator.
+     * @param arity
+     *  The largest number of children of an item.
+     * @param capacity
+     *  The initial capacity.
+     * @param comparator
+     *  The Comparator that orders the items, or null to use their natural ordering.
+     * @postcondition
+     *  This DaryHeap is empty and has been initialized with the given arity and initial capacity.
+     * @exception IllegalArgumentException
+     *  Indicates that arity is less than 2, or that capacity is negative or exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this DaryHeap.
+     */
+    public DaryHeap(int arity, int capacity, Comparator<? super E> comparator) {
+        if (arity < 2) { throw new IllegalArgumentException("Invalid arity. Arity must be at least 2: " + arity); }
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be from 0 to 2^30: " + capacity);
+        }
+        heap = new Object[capacity];
+        size = 0;
+        this.arity = arity;
+        this.comparator = comparator;
+    }
+
+    /**
+     * public void add(E item)
+     * Mutator method that adds a new item to this DaryHeap, moving it up the tree past every larger parent.
+     * @param item
+     *  The item to be added to this DaryHeap.
+     * @postcondition
+     *  The item has been added to this DaryHeap. If it was full, then its capacity has been doubled.
+     * @exception ClassCastException
+     *  Indicates that there is no Comparator and the item is not Comparable to the other items.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception IllegalStateException
+     *  Indicates that this DaryHeap already holds 2^30 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger DaryHeap.
+     */
+    @Override
+    public void add(E item) {
+        if (item == null) { throw new IllegalArgumentException("A DaryHeap cannot hold a null item."); }
+        if (size == heap.length) { ensureCapacity(size + 1); }
+
+        siftUp(size, item);
+        size++;
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every item from this DaryHeap.
+     * @postcondition
+     *  This DaryHeap is empty. Its capacity has not changed.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) { heap[i] = null; }
+        size = 0;
+    }
+
+    /*
+     * private int compare(Object first, Object second)
+     * Helper method that compares two items of this DaryHeap. Note, we have suppressed warnings because our
+     * programming guarantees that every item is an E object.
+     * @return int
+     *  A negative number, zero or a positive number as first is less than, equal to or greater than second.
+     * @exception ClassCastException
+     *  Indicates that there is no Comparator and first is not Comparable to second.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(Object first, Object second) {
+        if (comparator == null) { return ((Comparable<? super E>) first).compareTo((E) second); }
+        return comparator.compare((E) first, (E) second);
+    }
+
+    /**
+     * public void ensureCapacity(int capacity)
+     * Increase the capacity of this DaryHeap. Note that the capacity will not be increased if the current capacity
+     * is already at least the given capacity.
+     * @param capacity
+     *  The new capacity of this DaryHeap.
+     * @postcondition
+     *  This DaryHeap's capacity is at least the given capacity, and at least double the old capacity if it grew.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the larger DaryHeap.
+     */
+    public void ensureCapacity(int capacity) {
+        Object[] largerArray;
+
+        if (heap.length >= capacity) { return; }
+        if (capacity > MAX_CAPACITY) { throw new IllegalStateException("This DaryHeap is full."); }
+
+        largerArray = new Object[(int) Math.min(MAX_CAPACITY, Math.max(capacity, 2L * heap.length))];
+        System.arraycopy(heap, 0, largerArray, 0, size);
+        heap = largerArray;
+    }
+
+    /**
+     * public int getArity()
+     * Accessor method that returns the largest number of children of an item in this DaryHeap.
+     * @return int
+     *  The arity of this DaryHeap.
+     */
+    public int getArity() { return arity; }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the current capacity of this DaryHeap.
+     * @return int
+     *  The number of items this DaryHeap can hold before it must grow.
+     */
+    public int getCapacity() { return heap.length; }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this DaryHeap is empty.
+     * @return boolean
+     *  True if this DaryHeap is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * public E peek()
+     * Accessor method that returns the smallest item of this DaryHeap without removing it. Note, we have suppressed
+     * warnings because our programming guarantees that every item is an E object.
+     * @return E
+     *  The smallest item of this DaryHeap, or null if it is empty.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() { return size == 0 ? null : (E) heap[0]; }
+
+    /**
+     * public E remove()
+     * Mutator method that removes the smallest item from this DaryHeap. The last item of the array takes its place at
+     * the root and moves down the tree past every smaller child. Note, we have suppressed warnings because our
+     * programming guarantees that every item is an E object.
+     * @return E
+     *  The smallest item of this DaryHeap, or null if it is empty.
+     * @postcondition
+     *  If this DaryHeap was not empty, then the smallest item has been removed.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove() {
+        E smallest;
+        Object last;
+
+        if (size == 0) { return null; }
+
+        smallest = (E) heap[0];
+        size--;
+        last = heap[size];
+        heap[size] = null;
+        if (size > 0) { siftDown(0, last); }
+        return smallest;
+    }
+
+    /*
+     * private void siftDown(int index, Object item)
+     * Helper method that places an item at the given index and moves it down the tree until none of its children is
+     * smaller. The smallest child is moved up into the hole instead of swapping, so an item is written only once per
+     * level.
+     * @param index
+     *  The index of the hole where the item belongs.
+     * @param item
+     *  The item to place.
+     * @postcondition
+     *  The item is in the subtree at index, and that subtree satisfies the heap order again.
+     */
+    private void siftDown(int index, Object item) {
+        long first;
+        int last;
+        int smallest;
+
+        while (true) {
+            first = (long) arity * index + 1;
+            if (first >= size) { break; }
+
+            smallest = (int) first;
+            last = (int) Math.min(size - 1, first + arity - 1);
+            for (int child = smallest + 1; child <= last; child++) {
+                if (compare(heap[child], heap[smallest]) < 0) { smallest = child; }
+            }
+            if (compare(item, heap[smallest]) <= 0) { break; }
+            heap[index] = heap[smallest];
+            index = smallest;
+        }
+        heap[index] = item;
+    }
+
+    /*
+     * private void siftUp(int index, Object item)
+     * Helper method that places an item at the given index and moves it up the tree until its parent is no greater.
+     * Each larger parent is moved down into the hole instead of swapping.
+     * @param index
+     *  The index of the hole where the item belongs.
+     * @param item
+     *  The item to place.
+     * @postcondition
+     *  The item is on the path from index to the root, and the heap order holds on that path.
+     */
+    private void siftUp(int index, Object item) {
+        int parent;
+
+        while (index > 0) {
+            parent = (index - 1) / arity;
+            if (compare(item, heap[parent]) >= 0) { break; }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this DaryHeap.
+     * @return int
+     *  The number of items in this DaryHeap.
+     */
+    @Override
+    public int size() { return size; }
+}
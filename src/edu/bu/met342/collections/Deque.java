@@ -0,0 +1,122 @@
+// File Deque.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A Deque is a double-ended queue: a sequence of items that can be added and removed at both ends, called the first
+ * and the last. Used only at the last end for adding and the first end for removing, a Deque is a First-in/First-out
+ * Queue. Used only at the first end, it is a Last-in/First-out stack.
+ *
+ * @note
+ *   1. Beyond Integer.MAX_VALUE elements, the size method does not work.
+ *   2. The Queue methods add and remove are addLast and removeFirst. The stack methods push, pop and peek, named as
+ *      in a LinkedStack, are addFirst, removeFirst and peekFirst.
+ *   3. As with a Queue, the remove and peek methods return null when the Deque is empty.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public interface Deque<E> extends Queue<E> {
+
+    /**
+     * public void addFirst(E item)
+     * Mutator method that adds a new item before the first item of this Deque.
+     * @param item
+     *  The item to be added to this Deque.
+     * @postcondition
+     *  The item is the first item of this Deque. Size has been increased by one.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this item.
+     */
+    void addFirst(E item);
+
+    /**
+     * public void addLast(E item)
+     * Mutator method that adds a new item after the last item of this Deque.
+     * @param item
+     *  The item to be added to this Deque.
+     * @postcondition
+     *  The item is the last item of this Deque. Size has been increased by one.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this item.
+     */
+    void addLast(E item);
+
+    /**
+     * public E peek()
+     * Accessor method that looks at the top of this Deque when it is used as a stack, which is its first item.
+     * @return E
+     *  The first item of this Deque, or null if it is empty.
+     * @postcondition
+     *  This Deque has not been modified.
+     */
+    default E peek() { return peekFirst(); }
+
+    /**
+     * public E peekFirst()
+     * Accessor method that returns the first item of this Deque without removing it.
+     * @return E
+     *  The first item of this Deque, or null if it is empty.
+     * @postcondition
+     *  This Deque has not been modified.
+     */
+    E peekFirst();
+
+    /**
+     * public E peekLast()
+     * Accessor method that returns the last item of this Deque without removing it.
+     * @return E
+     *  The last item of this Deque, or null if it is empty.
+     * @postcondition
+     *  This Deque has not been modified.
+     */
+    E peekLast();
+
+    /**
+     * public E pop()
+     * Mutator method that removes the top of this Deque when it is used as a stack, which is its first item.
+     * @return E
+     *  The first item of this Deque, or null if it is empty.
+     * @postcondition
+     *  If this Deque was not empty, then its first item has been removed.
+     */
+    default E pop() { return removeFirst(); }
+
+    /**
+     * public E push(E item)
+     * Mutator method that pushes a new item onto the top of this Deque when it is used as a stack, which is its front.
+     * @param item
+     *  The item being pushed onto this Deque.
+     * @return E
+     *  The item being pushed onto this Deque.
+     * @postcondition
+     *  The item is the first item of this Deque. Size has been increased by one.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this item.
+     */
+    default E push(E item) {
+        addFirst(item);
+        return item;
+    }
+
+    /**
+     * public E removeFirst()
+     * Mutator method that removes the first item of this Deque.
+     * @return E
+     *  The first item of this Deque, or null if it is empty.
+     * @postcondition
+     *  If this Deque was not empty, then its first item has been removed. Size has been decreased by one.
+     */
+    E removeFirst();
+
+    /**
+     * public E removeLast()
+     * Mutator method that removes the last item of this Deque.
+     * @return E
+     *  The last item of this Deque, or null if it is empty.
+     * @postcondition
+     *  If this Deque was not empty, then its last item has been removed. Size has been decreased by one.
+     */
+    E removeLast();
+}
@@ -0,0 +1,22 @@
+// File EvictionPolicy.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * An EvictionPolicy is the rule a BoundedCache uses to choose which entry to discard once it is full.
+ *
+ * @note
+ *  1. LRU discards the entry that was least recently used. It is simple and works well when recent keys are likely to
+ *     be used again soon, but a single scan over many keys that are never used again flushes the whole cache.
+ *  2. W_TINY_LFU admits new keys into a small LRU window. A key leaving the window may only displace an entry of the
+ *     main cache if it has been used more often, as estimated by a compact FrequencySketch of recent history. This
+ *     keeps popular entries in the cache through scans and gives a higher hit ratio on most workloads.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public enum EvictionPolicy {
+    LRU,
+    W_TINY_LFU
+}
@@ -0,0 +1,148 @@
+// File FrequencySketch.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A FrequencySketch estimates how often each integer key has been seen recently, using a fixed amount of memory no
+ * matter how many distinct keys there are. It is a Count-Min sketch with four rows of 4-bit counters. An estimate is
+ * never less than the true count, up to the maximum of 15, and is rarely much more.
+ *
+ * @note
+ *  1. Sixteen 4-bit counters are packed into each long. The four counters for a key are in four different longs, each
+ *     picked by a differently seeded hash, and the estimate is the smallest of them.
+ *  2. Once the number of increments reaches the sample size, every counter is halved. Old history therefore fades
+ *     away, so the sketch follows changes in popularity.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class FrequencySketch {
+    // Invariant of the FrequencySketch class.
+    // 1. The length of table is a power of two and tableMask is one less than it. The counter for row i of a key k is
+    //    the 4 bits at offset 4 * (start(k) + i) of table[indexOf(spread(k), i)].
+    // 2. The instance variable additions is the number of increments since the counters were last halved, and it is
+    //    always less than sampleSize.
+    private long[] table;
+    private int tableMask;
+    private int additions;
+    private int sampleSize;
+    private static final long[] SEEDS = { 0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL,
+            0xCBF29CE484222325L };
+    private static final long HALF_MASK = 0x7777777777777777L;
+
+    /**
+     * public FrequencySketch(int maximumSize)
+     * Initialize a FrequencySketch sized for a cache holding the given number of entries.
+     * @param maximumSize
+     *  The number of entries in the cache. The sketch keeps one long for each entry, rounded up to a power of two, and
+     *  halves its counters after ten increments for each entry.
+     * @postcondition
+     *  A FrequencySketch with every counter at 0 has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that maximumSize is not positive.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this FrequencySketch.
+     */
+    public FrequencySketch(int maximumSize) {
+        int length;
+
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+        }
+        length = maximumSize >= 1 << 30 ? 1 << 30 : Math.max(8, Integer.highestOneBit(maximumSize - 1) << 1);
+        table = new long[length];
+        tableMask = length - 1;
+        sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        additions = 0;
+    }
+
+    /**
+     * public int frequency(int k)
+     * Accessor method that estimates how often the specified key has been seen recently.
+     * @param k
+     *  The key to look up.
+     * @return int
+     *  The estimated count, from 0 to 15.
+     */
+    public int frequency(int k) {
+        int h = spread(k);
+        int start = (h & 3) << 2;
+        int frequency = 15;
+
+        for (int i = 0; i < 4; i++) {
+            frequency = Math.min(frequency, (int) ((table[indexOf(h, i)] >>> ((start + i) << 2)) & 15));
+        }
+        return frequency;
+    }
+
+    /*
+     * private void halve()
+     * Helper method that halves every counter so that old history fades away.
+     * @postcondition
+     *  Every counter has been divided by 2, rounding down, and additions has been halved.
+     */
+    private void halve() {
+        for (int i = 0; i < table.length; i++) { table[i] = (table[i] >>> 1) & HALF_MASK; }
+        additions >>>= 1;
+    }
+
+    /**
+     * public void increment(int k)
+     * Mutator method that records that the specified key has been seen once more.
+     * @param k
+     *  The key to record.
+     * @postcondition
+     *  Each counter of the key that was less than 15 has been incremented. If this brought the number of increments to
+     *  the sample size, then every counter has been halved.
+     */
+    public void increment(int k) {
+        int h = spread(k);
+        int start = (h & 3) << 2;
+        boolean added = false;
+        int index;
+        int offset;
+
+        for (int i = 0; i < 4; i++) {
+            index = indexOf(h, i);
+            offset = (start + i) << 2;
+            if (((table[index] >>> offset) & 15) != 15) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+
+        if (added && ++additions == sampleSize) { halve(); }
+    }
+
+    /*
+     * private int indexOf(int h, int i)
+     * Helper method that returns the index in table of the counter for row i of a spread key.
+     * @param h
+     *  The spread key.
+     * @param i
+     *  The row, from 0 to 3.
+     * @return int
+     *  The index of the long that holds the counter.
+     */
+    private int indexOf(int h, int i) {
+        long hash = (h + SEEDS[i]) * SEEDS[i];
+
+        hash += hash >>> 32;
+        return (int) hash & tableMask;
+    }
+
+    /*
+     * private static int spread(int k)
+     * Helper method that scrambles the bits of the specified key.
+     * @param k
+     *  The key to scramble.
+     * @return int
+     *  The scrambled key.
+     */
+    private static int spread(int k) {
+        k = ((k >>> 16) ^ k) * 0x45D9F3B;
+        k = ((k >>> 16) ^ k) * 0x45D9F3B;
+        return (k >>> 16) ^ k;
+    }
+}
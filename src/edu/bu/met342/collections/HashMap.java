@@ -0,0 +1,390 @@
+// File HashMap.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A HashMap is a collection used to map keys to values. Unlike a HashTable, a HashMap uses Java Generics for both
+ * its keys and values. The hash code and equality of keys are supplied by a HashStrategy, which defaults to the
+ * hashCode and equals methods of the keys themselves.
+ *
+ * @note
+ *  1. Any non-null object can be used as a key. Values may be null, in which case get cannot tell a missing key apart
+ *     from a key that maps to null. Use contains to tell them apart.
+ *  2. The capacity of a HashMap is always a power of two. The hash code of every key is mixed before it is masked, so
+ *     that keys whose hash codes differ only in their upper bits still spread across the whole table.
+ *  3. This implementation uses Open Addressing with linear probing. The mixed hash code of every key is kept next to
+ *     the key, so most mismatches are rejected without calling the HashStrategy. Deleted entries are removed by
+ *     shifting the rest of their cluster backwards, so there are never any previously used buckets to skip over.
+ *  4. The capacity grows automatically by doubling whenever an insertion would push the ratio of size to capacity past
+ *     the load factor. The capacity cannot exceed 2^30 buckets.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class HashMap<K, V> {
+    // Invariant of the HashMap class.
+    // 1. The number of entries is in the instance variable size.
+    // 2. Each key is stored in keys[index], its value in values[index], and its mixed hash code in hashes[index]. A
+    //    bucket is empty exactly when keys[index] is null. The proper bucket for a key is at hashes[index] & mask, and
+    //    there is no empty bucket between the proper bucket of a key and the bucket that holds it.
+    // 3. The length of keys is a power of two and mask is one less than that length.
+    // 4. The instance variable threshold is the number of entries at which the ratio of size to capacity reaches
+    //    loadFactor. It is always less than the capacity, so there is always at least one empty bucket.
+    // 5. The instance variable strategy computes hash codes for keys and compares keys for equality.
+    private int size;
+    private int mask;
+    private int threshold;
+    private double loadFactor;
+    private int[] hashes;
+    private Object[] keys;
+    private Object[] values;
+    private HashStrategy<? super K> strategy;
+    private static final int CAPACITY = 32;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final HashStrategy<Object> DEFAULT_STRATEGY = new HashStrategy<Object>() {
+        @Override
+        public boolean equals(Object a, Object b) { return a.equals(b); }
+
+        @Override
+        public int hashCode(Object key) { return key.hashCode(); }
+    };
+
+    /**
+     * public HashMap()
+     * Initialize an empty HashMap with an initial capacity of 32, a load factor of 0.75, and a HashStrategy that uses
+     * the hashCode and equals methods of the keys.
+     * @postcondition
+     *  An empty HashMap has been initialized.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this HashMap.
+     */
+    public HashMap() {
+        this(CAPACITY, DEFAULT_LOAD_FACTOR, DEFAULT_STRATEGY);
+    }
+
+    /**
+     * public HashMap(HashStrategy<? super K> strategy)
+     * Initialize an empty HashMap with an initial capacity of 32, a load factor of 0.75, and the given HashStrategy.
+     * @param strategy
+     *  The HashStrategy that computes hash codes for keys and compares keys for equality.
+     * @postcondition
+     *  An empty HashMap has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the strategy is null.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this HashMap.
+     */
+    public HashMap(HashStrategy<? super K> strategy) {
+        this(CAPACITY, DEFAULT_LOAD_FACTOR, strategy);
+    }
+
+    /**
+     * public HashMap(int capacity, double loadFactor, HashStrategy<? super K> strategy)
+     * Initialize an empty HashMap with room for the given number of buckets, the given load factor, and the given
+     * HashStrategy.
+     * @param capacity
+     *  The initial capacity of this HashMap. It is rounded up to the next power of two.
+     * @param loadFactor
+     *  The largest permitted ratio of size to capacity before this HashMap grows. Must be greater than 0 and no
+     *  greater than 1.
+     * @param strategy
+     *  The HashStrategy that computes hash codes for keys and compares keys for equality.
+     * @postcondition
+     *  An empty HashMap has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative, that the load factor is not in the range (0, 1], or that the strategy
+     *  is null.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this HashMap.
+     */
+    public HashMap(int capacity, double loadFactor, HashStrategy<? super K> strategy) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        if (!(loadFactor > 0 && loadFactor <= 1)) {
+            throw new IllegalArgumentException("Load factor must be in the range (0, 1]: " + loadFactor);
+        }
+        if (strategy == null) {
+            throw new IllegalArgumentException("Hash strategy cannot be null.");
+        }
+        size = 0;
+        this.loadFactor = loadFactor;
+        this.strategy = strategy;
+        allocate(OpenAddressing.tableSizeFor(capacity, 2, MAX_CAPACITY));
+    }
+
+    /*
+     * private void allocate(int capacity)
+     * Helper method that replaces the table with empty arrays of the specified capacity.
+     * @param capacity
+     *  The new capacity. Must be a power of two.
+     * @postcondition
+     *  hashes, keys, and values are empty arrays of the specified capacity, and mask and threshold have been
+     *  recalculated.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void allocate(int capacity) {
+        hashes = new int[capacity];
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) Math.min(capacity * loadFactor, capacity - 1);
+    }
+
+    /**
+     * public boolean contains(K k)
+     * Accessor method that confirms whether or not a specified key is in this HashMap.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this HashMap. Otherwise false.
+     */
+    public boolean contains(K k) {
+        if (k == null) { return false; }
+        return findIndex(k, hash(k)) != -1;
+    }
+
+    /**
+     * public void delete(K k)
+     * Mutator method that removes the specified key and it's value from this HashMap.
+     * @param k
+     *  The key to search for.
+     * @postcondition
+     *  The specified key and it's value have been removed from this HashMap if they existed. Otherwise, no mutation
+     *  occurs.
+     */
+    public void delete(K k) {
+        int index;
+
+        if (k == null) { return; }
+
+        index = findIndex(k, hash(k));
+        if (index != -1) {
+            shiftBackward(index);
+            size--;
+        }
+    }
+
+    /*
+     * private int findIndex(K k, int h)
+     * Helper method that returns the index of the specified key if it exists. Otherwise it returns -1. Note, we have
+     * suppressed warnings because our programming guarantees that only K objects are stored as keys.
+     * @param k
+     *  The key to search for. Must not be null.
+     * @param h
+     *  The mixed hash code of k.
+     * @return int
+     *  The index of the specified key or -1 if the key is not in this HashMap.
+     */
+    @SuppressWarnings("unchecked")
+    private int findIndex(K k, int h) {
+        int index = h & mask;
+        Object current;
+
+        while ((current = keys[index]) != null) {
+            if (hashes[index] == h && (current == k || strategy.equals((K) current, k))) { return index; }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * public V get(K k)
+     * Accessor method that retrieves the value associated with the specified key. Note, we have suppressed warnings
+     * because our programming guarantees that only V objects are stored as values.
+     * @param k
+     *  The key to search for.
+     * @return V
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K k) {
+        int index;
+
+        if (k == null) { return null; }
+
+        index = findIndex(k, hash(k));
+        if (index != -1) { return (V) values[index]; }
+        return null;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that retrieves the capacity of this HashMap.
+     * @return int
+     *  The number of buckets in this HashMap.
+     */
+    public int getCapacity() { return keys.length; }
+
+    /**
+     * public double getLoadFactor()
+     * Accessor method that retrieves the load factor of this HashMap.
+     * @return double
+     *  The largest permitted ratio of size to capacity before this HashMap grows.
+     */
+    public double getLoadFactor() { return loadFactor; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in this HashMap.
+     * @return int
+     *  The number of entries in this HashMap.
+     */
+    public int getSize() { return size; }
+
+    /*
+     * private int hash(K k)
+     * Helper method that mixes the hash code supplied by the strategy with OpenAddressing.hash.
+     * @param k
+     *  The key to hash. Must not be null.
+     * @return int
+     *  The mixed hash code for the specified key.
+     */
+    private int hash(K k) {
+        return OpenAddressing.hash(strategy.hashCode(k));
+    }
+
+    /**
+     * public void printHash()
+     * Prints every key and value pair in this HashMap.
+     * @postcondition
+     *  The keys and values in this HashMap have been written using System.out.println().
+     */
+    public void printHash() {
+        System.out.println(toString());
+    }
+
+    /**
+     * public void put(K k, V v)
+     * Mutator method that adds the specified key and value to this HashMap. If the specified key was already in this
+     * HashMap, then the old value will be replaced with the specified value. Note, we have suppressed warnings because
+     * our programming guarantees that only K objects are stored as keys.
+     * @param k
+     *  The key to add. Must not be null.
+     * @param v
+     *  The value associated with the specified key.
+     * @postcondition
+     *  The specified key and value have been added to this HashMap and size has been incremented. If the key already
+     *  existed, then the old value has been replaced and size is not incremented. If the new entry would push the
+     *  ratio of size to capacity past the load factor, then the capacity has been doubled first.
+     * @exception IllegalArgumentException
+     *  Indicates that the key is null.
+     * @exception IllegalStateException
+     *  Indicates that this HashMap has reached its maximum capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger HashMap.
+     */
+    @SuppressWarnings("unchecked")
+    public void put(K k, V v) {
+        int h;
+        int index;
+        Object current;
+
+        if (k == null) { throw new IllegalArgumentException("Key cannot be null."); }
+
+        // A single probe either finds the key or stops at the empty bucket where the key belongs.
+        h = hash(k);
+        index = h & mask;
+        while ((current = keys[index]) != null) {
+            if (hashes[index] == h && (current == k || strategy.equals((K) current, k))) {
+                values[index] = v;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (size >= threshold) {
+            if (keys.length == MAX_CAPACITY) { throw new IllegalStateException("This HashMap is full."); }
+            rehash(keys.length * 2);
+            index = h & mask;
+            while (keys[index] != null) { index = (index + 1) & mask; }
+        }
+
+        hashes[index] = h;
+        keys[index] = k;
+        values[index] = v;
+        size++;
+    }
+
+    /*
+     * private void rehash(int capacity)
+     * Helper method that moves every entry of this HashMap into new arrays of the specified capacity. The cached hash
+     * codes are reused, so the strategy is not consulted.
+     * @param capacity
+     *  The new capacity. Must be a power of two that is larger than size.
+     * @postcondition
+     *  Every key and its value have been reinserted in arrays of the specified capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void rehash(int capacity) {
+        int[] oldHashes = hashes;
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        int index;
+
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                index = oldHashes[i] & mask;
+                while (keys[index] != null) { index = (index + 1) & mask; }
+                hashes[index] = oldHashes[i];
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /*
+     * private void shiftBackward(int index)
+     * Helper method that empties the bucket at the specified index. Each later entry of the cluster that
+     * OpenAddressing.canFill allows is moved into the gap, with its cached hash code and value, until an empty bucket
+     * is reached.
+     * @param index
+     *  The index of the entry being removed.
+     * @postcondition
+     *  The entry at the specified index has been removed and every remaining key can still be found by probing from
+     *  its proper bucket.
+     */
+    private void shiftBackward(int index) {
+        int gap = index;
+        int next = (index + 1) & mask;
+        int home;
+
+        while (keys[next] != null) {
+            home = hashes[next] & mask;
+            if (OpenAddressing.canFill(gap, next, home, mask)) {
+                hashes[gap] = hashes[next];
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[gap] = null;
+        values[gap] = null;
+    }
+
+    /**
+     * public String toString()
+     * Returns every key and value pair in this HashMap.
+     * @return String
+     *  One line for each key and value pair in this HashMap.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                stringBuilder.append("Key[").append(keys[i]).append("] = ").append(values[i]).append("\n");
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+}
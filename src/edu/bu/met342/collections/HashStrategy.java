@@ -0,0 +1,42 @@
+// File HashStrategy.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A HashStrategy defines how a HashMap computes hash codes for its keys and decides whether two keys are equal. It
+ * lets a HashMap use keys whose own hashCode and equals methods are unsuitable, such as arrays or keys that should be
+ * compared by only some of their fields.
+ *
+ * @note
+ *  1. Any two keys that are equal according to equals must have the same hash code according to hashCode.
+ *  2. The hash code does not need to be well distributed. A HashMap always mixes the bits of the hash code before it
+ *     chooses a bucket.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public interface HashStrategy<K> {
+
+    /**
+     * public boolean equals(K a, K b)
+     * Accessor method that determines whether or not two keys are equal.
+     * @param a
+     *  The first key. Never null.
+     * @param b
+     *  The second key. Never null.
+     * @return boolean
+     *  True if a and b should be treated as the same key. Otherwise false.
+     */
+    boolean equals(K a, K b);
+
+    /**
+     * public int hashCode(K key)
+     * Accessor method that computes a hash code for the specified key.
+     * @param key
+     *  The key to hash. Never null.
+     * @return int
+     *  The hash code for the specified key.
+     */
+    int hashCode(K key);
+}
@@ -2,6 +2,8 @@
 
 package edu.bu.met342.collections;
 
+import java.util.Arrays;
+
 /**********************************************************************************************************************
  * A HashTable is a collection used to map keys to values. Any non-null object can be used as a key or as a value.
  * Traditionally, the class is implemented using Java Generics but, our implementation will make use of integer keys
@@ -12,6 +14,34 @@ package edu.bu.met342.collections;
  *     performance.
  *  2. This implementation using Open Addressing to resolve collisions. Meaning that if multiple values are hashed to
  *     the same bucket, then we search for the next open bucket in a sequential manner.
+ *  3. The capacity of this HashTable grows automatically. Whenever an insertion would push the ratio of size to
+ *     capacity past the load factor, every entry is rehashed into a larger twin prime capacity. Keeping the load
+ *     factor bounded keeps the expected number of probes for get and contains constant, no matter how many entries
+ *     are stored.
+ *  4. Deleted entries leave a "previously used" bucket behind so that later probe sequences are not broken. These
+ *     buckets are reclaimed by rehashing in place once they make up a quarter of the capacity, so lookups on a table
+ *     with heavy churn stay as fast as lookups on a freshly built table.
+ *  5. A HashTable can be constructed with the ROBIN_HOOD ProbingStrategy instead of the default LINEAR strategy. Robin
+ *     Hood probing keeps probe lengths even and lets a failed search stop early, so it tolerates load factors of 0.9
+ *     and above. Deleted entries are removed by shifting the rest of their cluster backwards instead of leaving
+ *     previously used buckets behind.
+ *  6. putAll and getAll work on a whole batch of keys at once. putAll makes room for the entire batch before adding
+ *     any of it, and large batches are visited in bucket order so that neighboring keys share cache lines.
+ *  7. Every call to contains and get counts whether the key was found and how many buckets were examined. The counts
+ *     are plain fields updated in place, so they cost a few instructions per lookup and can be left on permanently.
+ *     getStatistics combines them with a scan of the table into a HashTableStatistics that reports probe lengths,
+ *     displacements, tombstones, the load factor, and a histogram of cluster sizes. A HashTable used as a segment of a
+ *     ConcurrentHashTable is read by many threads at once, so those reads are not counted.
+ *  8. An optional BloomFilter can be kept alongside the table by calling enableBloomFilter. A key the filter has never
+ *     seen is rejected after reading one cache line, without walking its probe sequence. Deleted keys stay in the
+ *     filter until it is rebuilt, which happens whenever this HashTable is rehashed or once a quarter of the threshold
+ *     has been deleted. The statistics count the misses the filter rejected and those it let through.
+ *  9. The entries can be visited one at a time with start, advance, isCurrent, getCurrentKey, and getCurrentValue.
+ *     Visiting an entry allocates nothing. By default the entries are visited in bucket order, which takes time in
+ *     proportion to the capacity. A HashTable constructed with insertionOrder set to true also keeps a compact array
+ *     of its buckets in the order their keys were added, so its entries are visited in that order, in time in
+ *     proportion to the size. Adding a new key, deleting a key, or anything that rehashes this HashTable, such as
+ *     ensureCapacity or putAll, ends the visit.
  *
  * @author mlewis
  * @version November 24, 2019
@@ -25,46 +55,253 @@ public class HashTable implements Map{
     //    the value in data[index] and the value's key in key[index].
     // 3. The instance variable hasBeenUsed indicates whether or not data[index] has ever been used.
     // 4. The instance variable CAPACITY is part of a twin prime, which is an ideal number for the capacity of a
-    //    HashTable.
+    //    HashTable. Whenever this HashTable grows, the new capacity is also the larger member of a twin prime pair.
+    // 5. The instance variable loadFactor is the largest permitted ratio of size to capacity and the instance
+    //    variable threshold is the number of entries at which that ratio is reached. Once size would exceed
+    //    threshold, this HashTable is rehashed into a larger capacity.
+    // 6. The instance variable tombstones is the number of buckets that have been used but no longer hold an entry.
+    //    The sum of size and tombstones never exceeds threshold, which bounds the length of every probe sequence.
+    // 7. The instance variable probing is the strategy used to resolve collisions. With ROBIN_HOOD probing, the keys
+    //    along any cluster are ordered so that no key is further from its proper bucket than the key after it is
+    //    from its own, plus one. There are never any tombstones, so hasBeenUsed[index] is true exactly when keys[index]
+    //    is not null.
+    // 8. The instance variables hits and misses count the calls to contains and get that did and did not find their
+    //    key since the statistics were last reset. The instance variable probes is the total number of buckets those
+    //    calls examined and maxProbeLength is the largest number examined by one call.
+    // 9. If the instance variable filter is not null, then it is a BloomFilter for the rate falsePositiveRate that
+    //    holds every key in this HashTable, along with at most filterDeletions keys that have since been deleted. The
+    //    instance variables filterRejections and filterFalsePositives count the counted lookups that the filter
+    //    rejected and the counted lookups that the filter let through but that did not find their key.
+    // 10. If the instance variable ordered is true, then order[0] through order[orderSize - 1] are the buckets of the
+    //    entries in the order their keys were added, with -1 in place of each entry deleted since. For every bucket
+    //    that holds an entry, order[positionOf[bucket]] is that bucket. Fewer than max(size, ORDER_SLACK) positions
+    //    are -1. If ordered is false, then order and positionOf are null.
+    // 11. The instance variable cursor is the bucket of the current entry, or its position in order if ordered is
+    //    true. It is -1 if there is no current entry.
     private int size;
+    private int tombstones;
+    private int threshold;
+    private double loadFactor;
+    private ProbingStrategy probing;
     private Integer[] keys;
     private String[] data;
     private boolean[] hasBeenUsed;
+    private long hits;
+    private long misses;
+    private long probes;
+    private int maxProbeLength;
+    private BloomFilter filter;
+    private double falsePositiveRate;
+    private int filterDeletions;
+    private long filterRejections;
+    private long filterFalsePositives;
+    private boolean ordered;
+    private int[] order;
+    private int[] positionOf;
+    private int orderSize;
+    private int cursor;
     private static final Integer CAPACITY = 31;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final double MAX_TOMBSTONE_RATIO = 0.25;
+    private static final int BUCKET_ORDER_THRESHOLD = 1024;
+    private static final double MAX_FILTER_DELETION_RATIO = 0.25;
+    private static final int ORDER_SLACK = 16;
 
     /**
      * public HashTable()
-     * Initialize an empty HashTable with an initial capacity of 31.
+     * Initialize an empty HashTable with an initial capacity of 31 and a load factor of 0.75.
      * @postcondition
-     *  An empty HashTable with an initial capacity of 31 has been initialized.
+     *  An empty HashTable with an initial capacity of 31 and a load factor of 0.75 has been initialized.
      * @exception OutOfMemoryError
      *  Indicates insufficient memory for this HashTable.
      */
     public HashTable() {
-        size = 0;
-        keys = new Integer[CAPACITY];
-        data = new String[CAPACITY];
-        hasBeenUsed = new boolean[CAPACITY];
+        this(CAPACITY, DEFAULT_LOAD_FACTOR);
     }
 
     /**
      * public HashTable(int capacity)
-     * Initialize a HashTable with the given initial capacity.
+     * Initialize a HashTable with the given initial capacity and a load factor of 0.75.
      * @param capacity
      *  The initial capacity of the HashTable.
      * @postcondition
      *  A HashTable with an initial capacity has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative.
      * @exception OutOfMemoryError
      *  Indicates insufficient memory for this HashTable.
      */
     public HashTable(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * public HashTable(int capacity, double loadFactor)
+     * Initialize a HashTable with the given initial capacity and load factor.
+     * @param capacity
+     *  The initial capacity of the HashTable.
+     * @param loadFactor
+     *  The largest permitted ratio of size to capacity before this HashTable grows. Must be greater than 0 and no
+     *  greater than 1.
+     * @postcondition
+     *  A HashTable with an initial capacity and load factor has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative or that the load factor is not in the range (0, 1].
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this HashTable.
+     */
+    public HashTable(int capacity, double loadFactor) {
+        this(capacity, loadFactor, ProbingStrategy.LINEAR);
+    }
+
+    /**
+     * public HashTable(int capacity, double loadFactor, ProbingStrategy probing)
+     * Initialize a HashTable with the given initial capacity, load factor, and strategy for resolving collisions.
+     * @param capacity
+     *  The initial capacity of the HashTable.
+     * @param loadFactor
+     *  The largest permitted ratio of size to capacity before this HashTable grows. Must be greater than 0 and no
+     *  greater than 1.
+     * @param probing
+     *  The strategy used to find a bucket when the proper bucket for a key is already taken.
+     * @postcondition
+     *  A HashTable with an initial capacity, load factor, and probing strategy has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative, that the load factor is not in the range (0, 1], or that the probing
+     *  strategy is null.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this HashTable.
+     */
+    public HashTable(int capacity, double loadFactor, ProbingStrategy probing) {
+        this(capacity, loadFactor, probing, false);
+    }
+
+    /**
+     * public HashTable(int capacity, double loadFactor, ProbingStrategy probing, boolean insertionOrder)
+     * Initialize a HashTable with the given initial capacity, load factor, strategy for resolving collisions, and order
+     * of iteration.
+     * @param capacity
+     *  The initial capacity of the HashTable.
+     * @param loadFactor
+     *  The largest permitted ratio of size to capacity before this HashTable grows. Must be greater than 0 and no
+     *  greater than 1.
+     * @param probing
+     *  The strategy used to find a bucket when the proper bucket for a key is already taken.
+     * @param insertionOrder
+     *  True to visit the entries in the order their keys were added, at the cost of two more int arrays the size of
+     *  the table. False to visit the entries in bucket order.
+     * @postcondition
+     *  A HashTable with an initial capacity, load factor, probing strategy, and order of iteration has been
+     *  initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative, that the load factor is not in the range (0, 1], or that the probing
+     *  strategy is null.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this HashTable.
+     */
+    public HashTable(int capacity, double loadFactor, ProbingStrategy probing, boolean insertionOrder) {
         if (capacity < 0) {
             throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
         }
+        if (!(loadFactor > 0 && loadFactor <= 1)) {
+            throw new IllegalArgumentException("Load factor must be in the range (0, 1]: " + loadFactor);
+        }
+        if (probing == null) {
+            throw new IllegalArgumentException("Probing strategy cannot be null.");
+        }
         size = 0;
+        tombstones = 0;
+        this.loadFactor = loadFactor;
+        this.probing = probing;
         keys = new Integer[capacity];
         data = new String[capacity];
         hasBeenUsed = new boolean[capacity];
+        threshold = (int) Math.min(capacity * loadFactor, Math.max(capacity - 1, 0));
+        ordered = insertionOrder;
+        if (ordered) {
+            order = new int[capacity];
+            positionOf = new int[capacity];
+        }
+        orderSize = 0;
+        cursor = -1;
+    }
+
+    /**
+     * public void advance()
+     * Move forward so that the current entry is now the next entry of this HashTable.
+     * @precondition
+     *   isCurrent() returns true.
+     * @postcondition
+     *   If the current entry was already the last entry, then there is no longer any current entry. Otherwise, the new
+     *   current entry is the one after the original current entry, in bucket order or in insertion order.
+     * @exception IllegalStateException
+     *   Indicates that there is no current entry, so advance may not be called.
+     */
+    public void advance() {
+        if (!isCurrent()) { throw new IllegalStateException("There is no current element."); }
+        cursor = nextEntry(cursor + 1);
+    }
+
+    /*
+     * private int appendPosition()
+     * Helper method that reserves the next position at the end of order, making room first if order is full.
+     * @return int
+     *  The reserved position.
+     * @postcondition
+     *  orderSize has been incremented. If order was full, then it has been compacted when at least half of it was
+     *  deleted entries, and otherwise doubled in length.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a longer order array.
+     */
+    private int appendPosition() {
+        if (orderSize == order.length) {
+            if (2 * (orderSize - size) >= order.length && orderSize > size) {
+                compactOrder();
+            } else {
+                order = Arrays.copyOf(order, Math.max(ORDER_SLACK, 2 * order.length));
+            }
+        }
+        return orderSize++;
+    }
+
+    /*
+     * private long[] bucketOrder(int[] batch)
+     * Helper method that sorts the positions of a batch of keys by the proper bucket of each key. Each element of the
+     * result packs the proper bucket into the upper 32 bits and the position in the batch into the lower 32 bits, so
+     * keys with the same proper bucket keep their order within the batch.
+     * @param batch
+     *  The keys to sort.
+     * @return long[]
+     *  The packed buckets and positions in ascending order of bucket.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the result.
+     */
+    private long[] bucketOrder(int[] batch) {
+        long[] order = new long[batch.length];
+
+        for (int i = 0; i < batch.length; i++) { order[i] = ((long) hash(batch[i]) << 32) | i; }
+        Arrays.sort(order);
+        return order;
+    }
+
+    /*
+     * private void compactOrder()
+     * Helper method that removes the positions of deleted entries from order.
+     * @postcondition
+     *  order[0] through order[size - 1] are the buckets of the entries in the order their keys were added, orderSize
+     *  is size, and positionOf has been updated to match.
+     */
+    private void compactOrder() {
+        int position = 0;
+
+        for (int i = 0; i < orderSize; i++) {
+            if (order[i] != -1) {
+                order[position] = order[i];
+                positionOf[order[i]] = position++;
+            }
+        }
+        orderSize = position;
     }
 
     /**
@@ -76,7 +313,18 @@ public class HashTable implements Map{
      *  True if k is in this HashTable. Otherwise false.
      */
     @Override
-    public boolean contains(int k) { return findIndex(k) != -1; }
+    public boolean contains(int k) { return findIndex(k, true) != -1; }
+
+    /*
+     * boolean containsUncounted(int k)
+     * Accessor method used by ConcurrentHashTable that confirms whether or not a specified key is in this HashTable
+     * without counting the lookup. It writes nothing, so any number of threads may call it at once.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this HashTable. Otherwise false.
+     */
+    boolean containsUncounted(int k) { return findIndex(k, false) != -1; }
 
     /**
      * public void delete(int k)
@@ -85,39 +333,193 @@ public class HashTable implements Map{
      *  The key to search for.
      * @postcondition
      *  The specified key and it's value have been removed from this HashTable if they existed. Otherwise, no mutation
-     *  occurs.
+     *  occurs. With LINEAR probing, if previously used buckets now make up more than a quarter of the capacity, then
+     *  this HashTable has been rehashed in place to reclaim them. With ROBIN_HOOD probing, the rest of the cluster
+     *  has been shifted back by one bucket instead.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for rehashing this HashTable.
      */
     @Override
     public void delete(int k) {
-        int index = findIndex(k);
-        if (index != -1) {
+        int index = findIndex(k, false);
+
+        if (index == -1) { return; }
+
+        size--;
+        cursor = -1;
+        if (ordered) { order[positionOf[index]] = -1; }
+        if (probing == ProbingStrategy.ROBIN_HOOD) {
+            shiftBackward(index);
+        } else {
             keys[index] = null;
             data[index] = null;
-            size--;
+            tombstones++;
+            if (tombstones > data.length * MAX_TOMBSTONE_RATIO) { rehash(data.length); }
+        }
+
+        if (filter != null && ++filterDeletions > threshold * MAX_FILTER_DELETION_RATIO) { rebuildFilter(); }
+        if (ordered && orderSize - size > Math.max(size, ORDER_SLACK)) { compactOrder(); }
+    }
+
+    /**
+     * public void disableBloomFilter()
+     * Mutator method that stops keeping a BloomFilter alongside this HashTable.
+     * @postcondition
+     *  Lookups walk their probe sequence without consulting a BloomFilter, and the memory of the filter can be
+     *  reclaimed.
+     */
+    public void disableBloomFilter() { filter = null; }
+
+    /**
+     * public void enableBloomFilter(double falsePositiveRate)
+     * Mutator method that builds a blocked BloomFilter of every key in this HashTable and keeps it up to date from then
+     * on. contains, delete, and get consult the filter first, so a key that was never added is rejected after reading
+     * a single cache line.
+     * @param falsePositiveRate
+     *  The fraction of missing keys that may still walk their probe sequence. Must be greater than 0 and less than 1.
+     * @postcondition
+     *  A BloomFilter for the specified rate holds every key in this HashTable, replacing any earlier filter.
+     * @exception IllegalArgumentException
+     *  Indicates that the false positive rate is not in the range (0, 1).
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the BloomFilter.
+     */
+    public void enableBloomFilter(double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("False positive rate must be in the range (0, 1): " + falsePositiveRate);
+        }
+        this.falsePositiveRate = falsePositiveRate;
+        rebuildFilter();
+    }
+
+    /**
+     * public void ensureCapacity(int minimumSize)
+     * Mutator method that makes room for the specified number of entries. Once this method returns, keys can be added
+     * until size reaches minimumSize without any further rehashing.
+     * @param minimumSize
+     *  The number of entries this HashTable must be able to hold.
+     * @postcondition
+     *  This HashTable can hold minimumSize entries without rehashing. If it could not already, then it has been
+     *  rehashed, either in place to reclaim previously used buckets or into a larger twin prime capacity, and there is
+     *  no longer any current entry.
+     * @exception IllegalStateException
+     *  Indicates that minimumSize exceeds the maximum capacity of a HashTable.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger HashTable.
+     */
+    public void ensureCapacity(int minimumSize) {
+        long capacity;
+
+        if (minimumSize + tombstones <= threshold) { return; }
+
+        if (minimumSize <= threshold) {
+            rehash(data.length); // Reclaiming the previously used buckets makes enough room.
+            return;
         }
+
+        capacity = Math.max((long) Math.ceil(minimumSize / loadFactor), minimumSize + 1L);
+        if (capacity > MAX_CAPACITY) { throw new IllegalStateException("This HashTable is full."); }
+        rehash(nextTwinPrime((int) capacity));
     }
 
     /**
-     * public int findIndex(int k)
-     * Helper method that returns the index of the specified key if it exists. Otherwise it returns -1.
+     * public int findIndex(int k, boolean counted)
+     * Helper method that returns the index of the specified key if it exists. Otherwise it returns -1. With ROBIN_HOOD
+     * probing, the search stops as soon as it reaches a key that is closer to its proper bucket than k would be.
      * @param k
      *  The key to search for.
+     * @param counted
+     *  True if the lookup should be added to the statistics of this HashTable.
      * @return
      *  The index of the specified key or -1 if the key is not in this HashTable.
      */
-    private int findIndex(int k) {
+    private int findIndex(int k, boolean counted) {
+        int count = 0;
+        int index;
+        int found = -1;
+
+        if (data.length == 0) {
+            if (counted) { misses++; }
+            return -1;
+        }
+
+        if (filter != null && !filter.mightContain(k)) {
+            if (counted) {
+                filterRejections++;
+                misses++;
+            }
+            return -1;
+        }
+
+        index = hash(k);
+
+        if (probing == ProbingStrategy.ROBIN_HOOD) {
+            while (count < data.length && keys[index] != null && probeDistance(index) >= count) {
+                if (k == keys[index]) {
+                    found = index;
+                    break;
+                }
+                count++;
+                index = nextIndex(index);
+            }
+        } else {
+            while (count < data.length && hasBeenUsed[index]) {
+                if (keys[index] != null && k == keys[index]) {
+                    found = index;
+                    break;
+                } else {
+                    count++;
+                    index = nextIndex(index);
+                }
+            }
+        }
+
+        if (counted) {
+            record(found != -1, Math.min(count + 1, data.length));
+            if (found == -1 && filter != null) { filterFalsePositives++; }
+        }
+        return found;
+    }
+
+    /*
+     * private int findSlot(int k)
+     * Helper method that searches for the specified key in a single probe sequence. If the key is found, then its
+     * index is returned. Otherwise the probe sequence stops at the bucket where the key belongs, which is the first
+     * bucket without an entry for LINEAR probing, or the first bucket whose resident is closer to its proper bucket
+     * for ROBIN_HOOD probing.
+     * @param k
+     *  The key to search for.
+     * @return int
+     *  The index of the specified key if it is in this HashTable. Otherwise (-(insertion bucket) - 1).
+     * @precondition
+     *  The capacity of this HashTable is not zero and there is at least one bucket without an entry.
+     */
+    private int findSlot(int k) {
         int count = 0;
         int index = hash(k);
+        int firstFree = -1;
 
-        while (count < data.length && hasBeenUsed[index]) {
-            if (k == keys[index]) {
-                return index;
-            } else {
+        if (probing == ProbingStrategy.ROBIN_HOOD) {
+            while (count < data.length && keys[index] != null && probeDistance(index) >= count) {
+                if (k == keys[index]) { return index; }
                 count++;
                 index = nextIndex(index);
             }
+            return -index - 1;
+        }
+
+        while (count < data.length && hasBeenUsed[index]) {
+            if (keys[index] == null) {
+                if (firstFree == -1) { firstFree = index; } // Keep searching, but remember the first free bucket.
+            } else if (k == keys[index]) {
+                return index;
+            }
+            count++;
+            index = nextIndex(index);
         }
-        return -1;
+
+        if (firstFree != -1) { return -firstFree - 1; }
+        return -index - 1;
     }
 
     /**
@@ -130,11 +532,96 @@ public class HashTable implements Map{
      */
     @Override
     public String get(int k) {
-        int index = findIndex(k);
+        int index = findIndex(k, true);
         if (index != -1) { return data[index]; }
         return null;
     }
 
+    /**
+     * public int getAll(int[] batch, String[] out)
+     * Accessor method that retrieves the values associated with a batch of keys. Large batches are visited in order of
+     * proper bucket rather than in the order given.
+     * @param batch
+     *  The keys to search for.
+     * @param out
+     *  The array that receives the values. out[i] is set to the value associated with batch[i], or null if batch[i]
+     *  is not in this HashTable.
+     * @return int
+     *  The number of keys in the batch that were found with a non-null value.
+     * @precondition
+     *  out is at least as long as batch.
+     * @exception IllegalArgumentException
+     *  Indicates that batch or out is null, or that out is shorter than batch.
+     */
+    public int getAll(int[] batch, String[] out) {
+        int found = 0;
+        int position;
+
+        if (batch == null || out == null || out.length < batch.length) {
+            throw new IllegalArgumentException("The output array must be at least as long as the batch.");
+        }
+
+        if (batch.length < BUCKET_ORDER_THRESHOLD || data.length == 0) {
+            for (int i = 0; i < batch.length; i++) {
+                out[i] = get(batch[i]);
+                if (out[i] != null) { found++; }
+            }
+        } else {
+            for (long entry : bucketOrder(batch)) {
+                position = (int) entry;
+                out[position] = get(batch[position]);
+                if (out[position] != null) { found++; }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that retrieves the capacity of this HashTable.
+     * @return int
+     *  The number of buckets in this HashTable.
+     */
+    public int getCapacity() { return data.length; }
+
+    /**
+     * public int getCurrentKey()
+     * Accessor method to return the key of the current entry of this HashTable.
+     * @precondition
+     *   isCurrent() returns true.
+     * @return int
+     *   The key of the current entry.
+     * @exception IllegalStateException
+     *   Indicates that there is no current entry.
+     */
+    public int getCurrentKey() {
+        if (!isCurrent()) { throw new IllegalStateException("There is no current element."); }
+        return keys[ordered ? order[cursor] : cursor];
+    }
+
+    /**
+     * public String getCurrentValue()
+     * Accessor method to return the value of the current entry of this HashTable.
+     * @precondition
+     *   isCurrent() returns true.
+     * @return String
+     *   The value of the current entry.
+     * @exception IllegalStateException
+     *   Indicates that there is no current entry.
+     */
+    public String getCurrentValue() {
+        if (!isCurrent()) { throw new IllegalStateException("There is no current element."); }
+        return data[ordered ? order[cursor] : cursor];
+    }
+
+    /**
+     * public double getLoadFactor()
+     * Accessor method that retrieves the load factor of this HashTable.
+     * @return double
+     *  The largest permitted ratio of size to capacity before this HashTable grows.
+     */
+    public double getLoadFactor() { return loadFactor; }
+
     /**
      * public int getSize()
      * Accessor method that retrieves the size of the data array.
@@ -143,16 +630,210 @@ public class HashTable implements Map{
      */
     public int getSize() { return size; }
 
+    /**
+     * public HashTableStatistics getStatistics()
+     * Accessor method that takes a snapshot of the lookup counters and the layout of this HashTable. The layout is
+     * found by scanning every bucket once.
+     * @return HashTableStatistics
+     *  The counters since the statistics were last reset, along with the displacements of the entries and the sizes of
+     *  the clusters as they are now.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the snapshot.
+     */
+    public HashTableStatistics getStatistics() {
+        int[] histogram = new int[32];
+        long totalDisplacement = 0;
+        int maxDisplacement = 0;
+        int displacement;
+        int start = 0;
+        int length = 0;
+        int index;
+
+        for (int i = 0; i < data.length; i++) {
+            if (keys[i] != null) {
+                displacement = probeDistance(i);
+                totalDisplacement += displacement;
+                maxDisplacement = Math.max(maxDisplacement, displacement);
+            }
+        }
+
+        // Start just after a bucket that has never been used, so that a cluster that wraps around is counted once.
+        while (start < data.length && hasBeenUsed[start]) { start++; }
+        if (start == data.length) {
+            if (data.length > 0) { histogram[31 - Integer.numberOfLeadingZeros(data.length)]++; }
+        } else {
+            for (int i = 1; i <= data.length; i++) {
+                index = (start + i) % data.length;
+                if (hasBeenUsed[index]) {
+                    length++;
+                } else if (length > 0) {
+                    histogram[31 - Integer.numberOfLeadingZeros(length)]++;
+                    length = 0;
+                }
+            }
+        }
+
+        return new HashTableStatistics(size, data.length, tombstones, loadFactor, hits, misses, probes,
+                maxProbeLength, totalDisplacement, maxDisplacement, HashTableStatistics.trim(histogram),
+                filterRejections, filterFalsePositives);
+    }
+
+    /*
+     * String getUncounted(int k)
+     * Accessor method used by ConcurrentHashTable that retrieves the value associated with the specified key without
+     * counting the lookup. It writes nothing, so any number of threads may call it at once.
+     * @param k
+     *  The key to search for.
+     * @return String
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     */
+    String getUncounted(int k) {
+        int index = findIndex(k, false);
+        if (index != -1) { return data[index]; }
+        return null;
+    }
+
     /*
      * private int hash(int k)
      * Helper method that returns a valid index in this HashTable. The index is calculated using division hashing where
-     * the hash is the remainder when the key's hash code is divided by the capacity of data.
+     * the hash is the remainder when the key's hash code is divided by the capacity of data. The sign bit of the key
+     * is cleared first so that negative keys also map to a valid index.
      * @param k
      *  The key to hash.
      * @return int
      *  The hash code for the specified key.
      */
-    private int hash(int k) { return k % data.length; }
+    private int hash(int k) { return (k & Integer.MAX_VALUE) % data.length; }
+
+    /*
+     * private void insert(int k, String v, int index, int position)
+     * Helper method that stores a key that is known not to be in this HashTable, starting the search for a bucket at
+     * the specified index. With LINEAR probing, the key takes the first bucket without an entry. With ROBIN_HOOD
+     * probing, the key takes the bucket of the first resident that is closer to its own proper bucket, and the
+     * displaced resident continues along the cluster in the same manner, taking its position in order with it.
+     * @param k
+     *  The new key.
+     * @param v
+     *  The value associated with the new key.
+     * @param index
+     *  Either hash(k), or the insertion bucket returned by findSlot(k).
+     * @param position
+     *  The position in order reserved for the new key, or -1 if ordered is false.
+     * @precondition
+     *  k is not in this HashTable and there is at least one bucket without an entry.
+     * @postcondition
+     *  The specified key and value have been stored. Size has not been changed.
+     */
+    private void insert(int k, String v, int index, int position) {
+        int distance = index - hash(k);
+        int residentDistance;
+        Integer displacedKey;
+        String displacedValue;
+        int displacedPosition;
+
+        if (probing == ProbingStrategy.ROBIN_HOOD) {
+            if (distance < 0) { distance += data.length; }
+            while (keys[index] != null) {
+                residentDistance = probeDistance(index);
+                if (residentDistance < distance) { // Take from the rich resident and keep probing for it instead.
+                    displacedKey = keys[index];
+                    displacedValue = data[index];
+                    keys[index] = k;
+                    data[index] = v;
+                    k = displacedKey;
+                    v = displacedValue;
+                    distance = residentDistance;
+                    if (ordered) {
+                        displacedPosition = positionOf[index];
+                        positionOf[index] = position;
+                        order[position] = index;
+                        position = displacedPosition;
+                    }
+                }
+                distance++;
+                index = nextIndex(index);
+            }
+        } else {
+            while (keys[index] != null) { // Implements open addressing to find the next available bucket
+                index = nextIndex(index);
+            }
+            if (hasBeenUsed[index]) { tombstones--; } // Reusing a previously used bucket.
+        }
+
+        keys[index] = k;
+        data[index] = v;
+        hasBeenUsed[index] = true;
+        if (ordered) {
+            positionOf[index] = position;
+            order[position] = index;
+        }
+    }
+
+    /**
+     * public boolean isCurrent()
+     * Accessor method to determine whether this HashTable has a current entry that can be retrieved with the
+     * getCurrentKey and getCurrentValue methods.
+     * @return boolean
+     *   true (there is a current entry) or false (there is no current entry at the moment).
+     */
+    public boolean isCurrent() { return cursor != -1; }
+
+    /*
+     * private static boolean isPrime(int n)
+     * Helper method that determines whether or not the specified number is prime using trial division.
+     * @param n
+     *  The number to test.
+     * @return boolean
+     *  True if n is prime. Otherwise false.
+     */
+    private static boolean isPrime(int n) {
+        if (n < 2) { return false; }
+        if (n % 2 == 0) { return n == 2; }
+        for (int i = 3; (long) i * i <= n; i += 2) {
+            if (n % i == 0) { return false; }
+        }
+        return true;
+    }
+
+    /*
+     * private void makeRoom()
+     * Helper method called when the number of used buckets has reached threshold. If most of the used buckets are
+     * previously used rather than holding an entry, then this HashTable is rehashed in place to reclaim them.
+     * Otherwise it is rehashed into a twin prime capacity at least twice as large.
+     * @postcondition
+     *  The number of used buckets is less than threshold.
+     * @exception IllegalStateException
+     *  Indicates that this HashTable has reached its maximum capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger HashTable.
+     */
+    private void makeRoom() {
+        if (size < threshold / 2) {
+            rehash(data.length); // Mostly previously used buckets, so reclaim them without growing.
+        } else if (data.length == MAX_CAPACITY) {
+            throw new IllegalStateException("This HashTable is full.");
+        } else {
+            rehash(nextTwinPrime((int) Math.min(2L * data.length + 1, MAX_CAPACITY)));
+        }
+    }
+
+    /*
+     * private int nextEntry(int from)
+     * Helper method that finds the first entry at or after the specified place, in bucket order or in insertion order.
+     * @param from
+     *  The first bucket to check, or the first position in order if ordered is true.
+     * @return int
+     *  The bucket or position of the first entry found, or -1 if there is none.
+     */
+    private int nextEntry(int from) {
+        if (ordered) {
+            while (from < orderSize && order[from] == -1) { from++; }
+            return from < orderSize ? from : -1;
+        }
+
+        while (from < keys.length && keys[from] == null) { from++; }
+        return from < keys.length ? from : -1;
+    }
 
     /*
      * private int nextIndex(int index)
@@ -167,6 +848,39 @@ public class HashTable implements Map{
         return index;
     }
 
+    /*
+     * private static int nextTwinPrime(int n)
+     * Helper method that finds the smallest number p that is at least n such that both p and p - 2 are prime.
+     * @param n
+     *  The smallest acceptable capacity.
+     * @return int
+     *  The larger member of the first twin prime pair whose larger member is at least n. If no such pair exists below
+     *  MAX_CAPACITY, then MAX_CAPACITY is returned.
+     */
+    private static int nextTwinPrime(int n) {
+        int p = Math.max(n, 5) | 1; // Twin primes larger than 5 are always odd.
+
+        while (p > 0 && p < MAX_CAPACITY) {
+            if (isPrime(p) && isPrime(p - 2)) { return p; }
+            p += 2;
+        }
+        return MAX_CAPACITY;
+    }
+
+    /*
+     * private int probeDistance(int index)
+     * Helper method that returns how far the key at the specified index is from its proper bucket.
+     * @param index
+     *  The index of a bucket that holds an entry.
+     * @return int
+     *  The number of buckets between hash(keys[index]) and index, counting with wrap around.
+     */
+    private int probeDistance(int index) {
+        int distance = index - hash(keys[index]);
+        if (distance < 0) { return distance + data.length; }
+        return distance;
+    }
+
     /**
      * public void put(int k, String v)
      * Mutator method that adds the specified key and value to this HashTable. If the specified key was already in this
@@ -178,25 +892,72 @@ public class HashTable implements Map{
      * @postcondition
      *  The specified key and value have been added to this HashTable and size has been incremented. If the key already
      *  existed in this HashTable, then the old value has been replaced with the new specified value and size is not
-     *  incremented.
+     *  incremented. If the new entry would push the number of used buckets past the load factor, then this HashTable
+     *  has been rehashed first. The rehash reclaims previously used buckets in place when that frees enough room, and
+     *  otherwise grows to a larger twin prime capacity.
+     * @exception IllegalStateException
+     *  Indicates that this HashTable has reached its maximum capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger HashTable.
      */
     @Override
     public void put(int k, String v) {
-        int index = findIndex(k);
+        int index;
 
-        if (index != -1) { // The key already exists
-            data[index] = v;
-        } else if (size < data.length) {
-            index = hash(k);
-            while (keys[index] != null) { // Implements open addressing to find the next available bucket
-                index = nextIndex(index);
-            }
-            keys[index] = k;
+        if (data.length == 0) { makeRoom(); }
+
+        index = findSlot(k); // A single probe sequence either finds the key or the bucket where it belongs.
+        if (index >= 0) { // The key already exists
             data[index] = v;
-            hasBeenUsed[index] = true;
-            size++;
+            return;
+        }
+
+        if (size + tombstones >= threshold) {
+            makeRoom();
+            index = findSlot(k);
+        }
+
+        insert(k, v, -index - 1, ordered ? appendPosition() : -1);
+        size++;
+        cursor = -1;
+        if (filter != null) { filter.add(k); }
+    }
+
+    /**
+     * public void putAll(int[] batch, String[] values)
+     * Mutator method that adds a batch of keys and values to this HashTable. Room for the entire batch is made before
+     * any of it is added, so the batch causes at most one rehash. Large batches are added in order of proper bucket
+     * rather than in the order given. If a key appears more than once in the batch, then the value that appears last
+     * is kept.
+     * @param batch
+     *  The keys to add.
+     * @param values
+     *  The values associated with the keys. values[i] is the value for batch[i].
+     * @postcondition
+     *  Every key in the batch and its value have been added to this HashTable in the same manner as put.
+     * @exception IllegalArgumentException
+     *  Indicates that batch or values is null, or that they are not the same length.
+     * @exception IllegalStateException
+     *  Indicates that the batch would exceed the maximum capacity of a HashTable.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger HashTable.
+     */
+    public void putAll(int[] batch, String[] values) {
+        int position;
+
+        if (batch == null || values == null || batch.length != values.length) {
+            throw new IllegalArgumentException("The keys and values must be arrays of the same length.");
+        }
+
+        ensureCapacity((int) Math.min((long) size + batch.length, MAX_CAPACITY));
+
+        if (batch.length < BUCKET_ORDER_THRESHOLD) {
+            for (int i = 0; i < batch.length; i++) { put(batch[i], values[i]); }
         } else {
-            throw new IllegalStateException("This HashTable is full.");
+            for (long entry : bucketOrder(batch)) {
+                position = (int) entry;
+                put(batch[position], values[position]);
+            }
         }
     }
 
@@ -211,6 +972,142 @@ public class HashTable implements Map{
         System.out.println(toString());
     }
 
+    /*
+     * private void rebuildFilter()
+     * Helper method that replaces the BloomFilter with a new one holding exactly the keys in this HashTable. The new
+     * filter has room for threshold keys plus the deletions allowed before the next rebuild.
+     * @postcondition
+     *  filter holds every key in this HashTable and filterDeletions is zero.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the BloomFilter.
+     */
+    private void rebuildFilter() {
+        filter = new BloomFilter((int) (threshold * (1 + MAX_FILTER_DELETION_RATIO)) + 1, falsePositiveRate);
+        filterDeletions = 0;
+        for (Integer key : keys) {
+            if (key != null) { filter.add(key); }
+        }
+    }
+
+    /*
+     * private void record(boolean found, int length)
+     * Helper method that adds a lookup to the statistics of this HashTable.
+     * @param found
+     *  True if the lookup found its key.
+     * @param length
+     *  The number of buckets the lookup examined.
+     * @postcondition
+     *  Either hits or misses has been incremented, and probes and maxProbeLength include the lookup.
+     */
+    private void record(boolean found, int length) {
+        if (found) {
+            hits++;
+        } else {
+            misses++;
+        }
+        probes += length;
+        if (length > maxProbeLength) { maxProbeLength = length; }
+    }
+
+    /*
+     * private void rehash(int capacity)
+     * Helper method that moves every entry of this HashTable into new arrays of the specified capacity. Previously
+     * used buckets are not carried over, so every probe sequence in the new arrays is as short as possible.
+     * @param capacity
+     *  The new capacity of this HashTable. Must be larger than size.
+     * @postcondition
+     *  Every key and value has been reinserted at its proper bucket in arrays of the specified capacity, tombstones is
+     *  zero, and threshold has been recalculated. There is no current entry, because the old cursor no longer names
+     *  the same entry.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void rehash(int capacity) {
+        Integer[] oldKeys = keys;
+        String[] oldData = data;
+        int[] oldOrder = order;
+        int oldOrderSize = orderSize;
+        int bucket;
+
+        keys = new Integer[capacity];
+        data = new String[capacity];
+        hasBeenUsed = new boolean[capacity];
+        threshold = (int) Math.min(capacity * loadFactor, Math.max(capacity - 1, 0));
+        tombstones = 0;
+        cursor = -1;
+
+        if (ordered) { // Reinsert in insertion order, so the new order array has no deleted positions.
+            order = new int[Math.max(capacity, ORDER_SLACK)];
+            positionOf = new int[capacity];
+            orderSize = 0;
+            for (int i = 0; i < oldOrderSize; i++) {
+                bucket = oldOrder[i];
+                if (bucket != -1) { insert(oldKeys[bucket], oldData[bucket], hash(oldKeys[bucket]), orderSize++); }
+            }
+        } else {
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) { insert(oldKeys[i], oldData[i], hash(oldKeys[i]), -1); }
+            }
+        }
+
+        if (filter != null) { rebuildFilter(); }
+    }
+
+    /**
+     * public void resetStatistics()
+     * Mutator method that clears the lookup counters of this HashTable.
+     * @postcondition
+     *  hits, misses, probes, maxProbeLength, and the BloomFilter counters are zero. The layout of this HashTable is
+     *  unchanged.
+     */
+    public void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        probes = 0;
+        maxProbeLength = 0;
+        filterRejections = 0;
+        filterFalsePositives = 0;
+    }
+
+    /*
+     * private void shiftBackward(int index)
+     * Helper method used by ROBIN_HOOD probing to remove the entry at the specified index. Every following entry in
+     * the cluster that is not already in its proper bucket is moved back by one bucket, which keeps the cluster
+     * ordered without leaving a previously used bucket behind.
+     * @param index
+     *  The index of the entry being removed.
+     * @postcondition
+     *  The entry at the specified index has been removed and the rest of its cluster has been shifted back.
+     */
+    private void shiftBackward(int index) {
+        int next = nextIndex(index);
+
+        while (keys[next] != null && probeDistance(next) > 0) {
+            keys[index] = keys[next];
+            data[index] = data[next];
+            if (ordered) {
+                positionOf[index] = positionOf[next];
+                order[positionOf[index]] = index;
+            }
+            index = next;
+            next = nextIndex(next);
+        }
+
+        keys[index] = null;
+        data[index] = null;
+        hasBeenUsed[index] = false;
+    }
+
+    /**
+     * public void start()
+     * Modification method to set the current entry to the first entry of this HashTable, in bucket order or in
+     * insertion order.
+     * @postcondition
+     *   The first entry of this HashTable is now the current entry (but if this HashTable has no entries at all, then
+     *   there is no current entry).
+     */
+    public void start() { cursor = nextEntry(0); }
+
     /**
      * public String toString()
      * Prints every key and value pair in this HashTable.
@@ -0,0 +1,289 @@
+// File HashTableStatistics.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.util.Arrays;
+
+/**********************************************************************************************************************
+ * A HashTableStatistics is a snapshot of the occupancy and probe lengths of a HashTable, taken by
+ * HashTable.getStatistics(). It combines two kinds of figures. The counters describe the lookups made since the
+ * HashTable was created or since its statistics were last reset. The layout figures describe where the entries sit
+ * at the moment the snapshot was taken.
+ *
+ * @note
+ *  1. The probe length of a lookup is the number of buckets it examined, including the bucket where it stopped.
+ *  2. The displacement of an entry is the number of buckets between its proper bucket and the bucket it occupies. A
+ *     successful lookup of an entry examines exactly its displacement plus one bucket, so a growing average or maximum
+ *     displacement is the earliest sign that a key distribution is degrading into linear scans.
+ *  3. A cluster is a maximal run of buckets that are in use or previously used. Every probe that starts inside a
+ *     cluster runs to its end in the worst case.
+ *  4. A HashTableStatistics never changes once it has been taken.
+ *  5. getOccupancy is the ratio of size to capacity when the snapshot was taken. getLoadFactor is the largest ratio
+ *     the HashTable permits before it grows, the same figure as HashTable.getLoadFactor().
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class HashTableStatistics {
+    // Invariant of the HashTableStatistics class.
+    // 1. The instance variables size, capacity, tombstones, and loadFactor are the values held by the HashTable when
+    //    the snapshot was taken.
+    // 2. The instance variables hits and misses count the lookups that did and did not find their key. The instance
+    //    variable probes is the total probe length of those lookups and maxProbeLength is the longest one.
+    // 3. The instance variable totalDisplacement is the sum of the displacements of every entry and maxDisplacement
+    //    is the largest of them.
+    // 4. clusterHistogram[i] is the number of clusters whose length is at least 2^i and less than 2^(i + 1). Its last
+    //    element is not 0 unless it is empty.
+    // 5. The instance variables filterRejections and filterFalsePositives count the lookups that a BloomFilter
+    //    rejected and the lookups that it let through but that did not find their key. Both are 0 without a filter.
+    private int size;
+    private int capacity;
+    private int tombstones;
+    private double loadFactor;
+    private long hits;
+    private long misses;
+    private long probes;
+    private int maxProbeLength;
+    private long totalDisplacement;
+    private int maxDisplacement;
+    private int[] clusterHistogram;
+    private long filterRejections;
+    private long filterFalsePositives;
+
+    /**
+     * HashTableStatistics(int size, int capacity, int tombstones, double loadFactor, long hits, long misses,
+     * long probes, int maxProbeLength, long totalDisplacement, int maxDisplacement, int[] clusterHistogram,
+     * long filterRejections, long filterFalsePositives)
+     * Initialize a snapshot with the specified figures. Only a HashTable creates a HashTableStatistics.
+     * @param size
+     *  The number of entries.
+     * @param capacity
+     *  The number of buckets.
+     * @param tombstones
+     *  The number of previously used buckets.
+     * @param loadFactor
+     *  The largest permitted ratio of size to capacity.
+     * @param hits
+     *  The number of lookups that found their key.
+     * @param misses
+     *  The number of lookups that did not find their key.
+     * @param probes
+     *  The total probe length of every lookup.
+     * @param maxProbeLength
+     *  The longest probe length of any lookup.
+     * @param totalDisplacement
+     *  The sum of the displacements of every entry.
+     * @param maxDisplacement
+     *  The largest displacement of any entry.
+     * @param clusterHistogram
+     *  The number of clusters in each power of two range of lengths. The array is kept, not copied.
+     * @param filterRejections
+     *  The number of lookups rejected by a BloomFilter.
+     * @param filterFalsePositives
+     *  The number of lookups let through by a BloomFilter that did not find their key.
+     * @postcondition
+     *  A HashTableStatistics holding the specified figures has been initialized.
+     */
+    HashTableStatistics(int size, int capacity, int tombstones, double loadFactor, long hits, long misses, long probes,
+                        int maxProbeLength, long totalDisplacement, int maxDisplacement, int[] clusterHistogram,
+                        long filterRejections, long filterFalsePositives) {
+        this.size = size;
+        this.capacity = capacity;
+        this.tombstones = tombstones;
+        this.loadFactor = loadFactor;
+        this.hits = hits;
+        this.misses = misses;
+        this.probes = probes;
+        this.maxProbeLength = maxProbeLength;
+        this.totalDisplacement = totalDisplacement;
+        this.maxDisplacement = maxDisplacement;
+        this.clusterHistogram = clusterHistogram;
+        this.filterRejections = filterRejections;
+        this.filterFalsePositives = filterFalsePositives;
+    }
+
+    /**
+     * public double getAverageDisplacement()
+     * Accessor method that retrieves the average displacement of the entries.
+     * @return double
+     *  The average number of buckets between an entry and its proper bucket, or 0 if there are no entries.
+     */
+    public double getAverageDisplacement() { return size == 0 ? 0 : (double) totalDisplacement / size; }
+
+    /**
+     * public double getAverageProbeLength()
+     * Accessor method that retrieves the average probe length of the counted lookups.
+     * @return double
+     *  The average number of buckets examined by a lookup, or 0 if no lookups have been counted.
+     */
+    public double getAverageProbeLength() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) probes / lookups;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that retrieves the capacity of the HashTable.
+     * @return int
+     *  The number of buckets.
+     */
+    public int getCapacity() { return capacity; }
+
+    /**
+     * public int[] getClusterHistogram()
+     * Accessor method that retrieves the number of clusters of each length.
+     * @return int[]
+     *  A new array whose element i is the number of clusters whose length is at least 2^i and less than 2^(i + 1).
+     */
+    public int[] getClusterHistogram() { return clusterHistogram.clone(); }
+
+    /**
+     * public double getFilterFalsePositiveRate()
+     * Accessor method that retrieves the fraction of missing keys that a BloomFilter failed to reject.
+     * @return double
+     *  The ratio of false positives to the lookups of missing keys that reached the filter, or 0 if there were none.
+     */
+    public double getFilterFalsePositiveRate() {
+        long negatives = filterRejections + filterFalsePositives;
+        return negatives == 0 ? 0 : (double) filterFalsePositives / negatives;
+    }
+
+    /**
+     * public long getFilterFalsePositives()
+     * Accessor method that retrieves the number of lookups a BloomFilter let through that did not find their key.
+     * @return long
+     *  The number of false positives, or 0 if there is no BloomFilter.
+     */
+    public long getFilterFalsePositives() { return filterFalsePositives; }
+
+    /**
+     * public long getFilterRejections()
+     * Accessor method that retrieves the number of lookups a BloomFilter rejected without probing.
+     * @return long
+     *  The number of rejections, or 0 if there is no BloomFilter.
+     */
+    public long getFilterRejections() { return filterRejections; }
+
+    /**
+     * public double getHitRatio()
+     * Accessor method that retrieves the fraction of counted lookups that found their key.
+     * @return double
+     *  The ratio of hits to lookups, or 0 if no lookups have been counted.
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * public long getHits()
+     * Accessor method that retrieves the number of lookups that found their key.
+     * @return long
+     *  The number of hits.
+     */
+    public long getHits() { return hits; }
+
+    /**
+     * public double getLoadFactor()
+     * Accessor method that retrieves the load factor the HashTable was configured with, as HashTable.getLoadFactor()
+     * does.
+     * @return double
+     *  The largest permitted ratio of size to capacity before the HashTable grows.
+     */
+    public double getLoadFactor() { return loadFactor; }
+
+    /**
+     * public int getMaxDisplacement()
+     * Accessor method that retrieves the largest displacement of any entry.
+     * @return int
+     *  The largest number of buckets between an entry and its proper bucket.
+     */
+    public int getMaxDisplacement() { return maxDisplacement; }
+
+    /**
+     * public int getMaxProbeLength()
+     * Accessor method that retrieves the longest probe length of any counted lookup.
+     * @return int
+     *  The largest number of buckets examined by a single lookup.
+     */
+    public int getMaxProbeLength() { return maxProbeLength; }
+
+    /**
+     * public long getMisses()
+     * Accessor method that retrieves the number of lookups that did not find their key.
+     * @return long
+     *  The number of misses.
+     */
+    public long getMisses() { return misses; }
+
+    /**
+     * public double getOccupancy()
+     * Accessor method that retrieves the current ratio of size to capacity.
+     * @return double
+     *  The ratio of size to capacity, or 0 if the capacity is 0.
+     */
+    public double getOccupancy() { return capacity == 0 ? 0 : (double) size / capacity; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in the HashTable.
+     * @return int
+     *  The number of entries.
+     */
+    public int getSize() { return size; }
+
+    /**
+     * public int getTombstones()
+     * Accessor method that retrieves the number of previously used buckets.
+     * @return int
+     *  The number of buckets that have been used but no longer hold an entry.
+     */
+    public int getTombstones() { return tombstones; }
+
+    /**
+     * public String toString()
+     * Returns every figure in this HashTableStatistics.
+     * @return String
+     *  One line for each figure, followed by one line for each range of cluster lengths.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        stringBuilder.append("Size = ").append(size).append("\n");
+        stringBuilder.append("Capacity = ").append(capacity).append("\n");
+        stringBuilder.append("Tombstones = ").append(tombstones).append("\n");
+        stringBuilder.append("Occupancy = ").append(getOccupancy()).append("\n");
+        stringBuilder.append("Load Factor = ").append(loadFactor).append("\n");
+        stringBuilder.append("Hits = ").append(hits).append("\n");
+        stringBuilder.append("Misses = ").append(misses).append("\n");
+        stringBuilder.append("Average Probe Length = ").append(getAverageProbeLength()).append("\n");
+        stringBuilder.append("Max Probe Length = ").append(maxProbeLength).append("\n");
+        stringBuilder.append("Average Displacement = ").append(getAverageDisplacement()).append("\n");
+        stringBuilder.append("Max Displacement = ").append(maxDisplacement).append("\n");
+        stringBuilder.append("Filter Rejections = ").append(filterRejections).append("\n");
+        stringBuilder.append("Filter False Positives = ").append(filterFalsePositives).append("\n");
+        for (int i = 0; i < clusterHistogram.length; i++) {
+            stringBuilder.append("Clusters[").append(1L << i).append(", ").append(1L << (i + 1)).append(") = ")
+                    .append(clusterHistogram[i]).append("\n");
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /*
+     * static int[] trim(int[] histogram)
+     * Helper method used by HashTable that drops the trailing empty ranges from a histogram.
+     * @param histogram
+     *  A histogram of cluster lengths.
+     * @return int[]
+     *  A copy of histogram without its trailing zeros.
+     */
+    static int[] trim(int[] histogram) {
+        int length = histogram.length;
+
+        while (length > 0 && histogram[length - 1] == 0) { length--; }
+        return Arrays.copyOf(histogram, length);
+    }
+}
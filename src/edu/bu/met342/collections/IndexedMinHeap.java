@@ -0,0 +1,333 @@
+// File IndexedMinHeap.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * An IndexedMinHeap is a PriorityQueue of the indexes 0 through capacity - 1, each with an int key, in which the index
+ * with the smallest key is removed first. It is stored as a binary heap of indexes, together with an array that
+ * records where each index sits in the heap, so the key of an index that is already in the heap can be lowered in
+ * O(log n) time with decreaseKey. This is the operation that Dijkstra's and Prim's algorithms need, with a vertex
+ * number as the index and its tentative distance as the key.
+ *
+ * @note
+ *  1. add, decreaseKey and remove take O(log n) time. contains, getKey and peek take constant time. The arrays are
+ *     allocated once by the constructor, so none of the operations allocate.
+ *  2. Each index can be in an IndexedMinHeap at most once. Indexes with equal keys may be removed in any order.
+ *  3. add(int, int), peekInt() and removeInt() should be used wherever possible. The methods add(Integer), peek()
+ *     and remove() exist so that an IndexedMinHeap can be used as a PriorityQueue<Integer>. add(Integer) gives the
+ *     index the largest possible key, Integer.MAX_VALUE, to be lowered later with decreaseKey.
+ *  4. peek() and remove() return null when this IndexedMinHeap is empty, whereas peekInt() and removeInt() throw an
+ *     exception.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class IndexedMinHeap implements PriorityQueue<Integer> {
+    // Invariant of the IndexedMinHeap class.
+    // 1. The indexes in this IndexedMinHeap are heap[0] through heap[size - 1], and no index appears twice.
+    // 2. position[i] is the slot of heap that holds index i, or NOT_PRESENT if i is not in this IndexedMinHeap.
+    // 3. keys[i] is the key of index i while i is in this IndexedMinHeap.
+    // 4. For every slot s from 1 to size - 1, keys[heap[(s - 1) / 2]] <= keys[heap[s]].
+    private int[] heap;
+    private int[] position;
+    private int[] keys;
+    private int size;
+    private static final int NOT_PRESENT = -1;
+
+    /**
+     * public IndexedMinHeap(int capacity)
+     * Initialize an empty IndexedMinHeap for the indexes 0 through capacity - 1.
+     * @param capacity
+     *  The number of indexes. For a graph, this is the number of vertices.
+     * @postcondition
+     *  This IndexedMinHeap is empty.
+     * @exception IllegalArgumentException
+     *  Indicates that capacity is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IndexedMinHeap.
+     */
+    public IndexedMinHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must not be negative: " + capacity);
+        }
+        heap = new int[capacity];
+        position = new int[capacity];
+        keys = new int[capacity];
+        for (int i = 0; i < capacity; i++) { position[i] = NOT_PRESENT; }
+        size = 0;
+    }
+
+    /**
+     * public void add(int index, int key)
+     * Mutator method that adds an index with the given key to this IndexedMinHeap.
+     * @param index
+     *  The index to be added.
+     * @param key
+     *  The key of the index.
+     * @precondition
+     *  index is from 0 to capacity - 1 and is not already in this IndexedMinHeap.
+     * @postcondition
+     *  The index has been added with the given key.
+     * @exception IllegalArgumentException
+     *  Indicates that index is out of range or is already in this IndexedMinHeap.
+     */
+    public void add(int index, int key) {
+        checkIndex(index);
+        if (position[index] != NOT_PRESENT) {
+            throw new IllegalArgumentException("Index " + index + " is already in this IndexedMinHeap.");
+        }
+
+        keys[index] = key;
+        siftUp(size, index);
+        size++;
+    }
+
+    /**
+     * public void add(Integer index)
+     * Mutator method that adds an index to this IndexedMinHeap with the largest possible key, Integer.MAX_VALUE.
+     * @param index
+     *  The index to be added.
+     * @precondition
+     *  index is from 0 to capacity - 1 and is not already in this IndexedMinHeap.
+     * @postcondition
+     *  The index has been added with the key Integer.MAX_VALUE.
+     * @exception IllegalArgumentException
+     *  Indicates that index is null, is out of range or is already in this IndexedMinHeap.
+     */
+    @Override
+    public void add(Integer index) {
+        if (index == null) { throw new IllegalArgumentException("An IndexedMinHeap cannot hold a null index."); }
+        add(index.intValue(), Integer.MAX_VALUE);
+    }
+
+    /*
+     * private void checkIndex(int index)
+     * Helper method that verifies that an index is in the range of this IndexedMinHeap.
+     * @param index
+     *  The index to verify.
+     * @exception IllegalArgumentException
+     *  Indicates that index is negative or is not less than the capacity.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= position.length) {
+            throw new IllegalArgumentException("Invalid index. It must be from 0 to " + (position.length - 1) + ": "
+                    + index);
+        }
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every index from this IndexedMinHeap.
+     * @postcondition
+     *  This IndexedMinHeap is empty.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) { position[heap[i]] = NOT_PRESENT; }
+        size = 0;
+    }
+
+    /**
+     * public boolean contains(int index)
+     * Accessor method that determines whether or not an index is in this IndexedMinHeap.
+     * @param index
+     *  The index to look for.
+     * @return boolean
+     *  True if index is in this IndexedMinHeap. Otherwise false.
+     * @exception IllegalArgumentException
+     *  Indicates that index is out of range.
+     */
+    public boolean contains(int index) {
+        checkIndex(index);
+        return position[index] != NOT_PRESENT;
+    }
+
+    /**
+     * public void decreaseKey(int index, int key)
+     * Mutator method that lowers the key of an index in this IndexedMinHeap, moving the index up the heap past every
+     * parent with a larger key.
+     * @param index
+     *  The index whose key is lowered.
+     * @param key
+     *  The new key of the index.
+     * @precondition
+     *  index is in this IndexedMinHeap, and key is no greater than its current key.
+     * @postcondition
+     *  The key of the index is key.
+     * @exception IllegalArgumentException
+     *  Indicates that index is out of range or is not in this IndexedMinHeap, or that key is greater than its current
+     *  key.
+     */
+    public void decreaseKey(int index, int key) {
+        if (!contains(index)) {
+            throw new IllegalArgumentException("Index " + index + " is not in this IndexedMinHeap.");
+        }
+        if (key > keys[index]) {
+            throw new IllegalArgumentException("Invalid key. " + key + " is greater than the current key "
+                    + keys[index] + " of index " + index);
+        }
+
+        keys[index] = key;
+        siftUp(position[index], index);
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the number of indexes of this IndexedMinHeap.
+     * @return int
+     *  One more than the largest index that can be added.
+     */
+    public int getCapacity() { return position.length; }
+
+    /**
+     * public int getKey(int index)
+     * Accessor method that returns the key of an index in this IndexedMinHeap.
+     * @param index
+     *  The index whose key is returned.
+     * @return int
+     *  The current key of the index.
+     * @exception IllegalArgumentException
+     *  Indicates that index is out of range or is not in this IndexedMinHeap.
+     */
+    public int getKey(int index) {
+        if (!contains(index)) {
+            throw new IllegalArgumentException("Index " + index + " is not in this IndexedMinHeap.");
+        }
+        return keys[index];
+    }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this IndexedMinHeap is empty.
+     * @return boolean
+     *  True if this IndexedMinHeap is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * public Integer peek()
+     * Accessor method that boxes the index with the smallest key without removing it.
+     * @return Integer
+     *  The index with the smallest key, or null if this IndexedMinHeap is empty.
+     */
+    @Override
+    public Integer peek() { return size == 0 ? null : heap[0]; }
+
+    /**
+     * public int peekInt()
+     * Accessor method that returns the index with the smallest key without removing it.
+     * @precondition
+     *  This IndexedMinHeap is not empty.
+     * @return int
+     *  The index with the smallest key.
+     * @exception IllegalStateException
+     *  Indicates that this IndexedMinHeap is empty.
+     */
+    public int peekInt() {
+        if (size == 0) { throw new IllegalStateException("This IndexedMinHeap is empty."); }
+        return heap[0];
+    }
+
+    /**
+     * public Integer remove()
+     * Mutator method that removes the index with the smallest key and boxes it.
+     * @return Integer
+     *  The index with the smallest key, or null if this IndexedMinHeap is empty.
+     * @postcondition
+     *  If this IndexedMinHeap was not empty, then the index with the smallest key has been removed.
+     */
+    @Override
+    public Integer remove() {
+        if (size == 0) { return null; }
+        return removeInt();
+    }
+
+    /**
+     * public int removeInt()
+     * Mutator method that removes the index with the smallest key. The last index of the heap takes its place at the
+     * root and moves down past every child with a smaller key.
+     * @precondition
+     *  This IndexedMinHeap is not empty.
+     * @return int
+     *  The index with the smallest key.
+     * @postcondition
+     *  The index has been removed, and may be added again. Size has been decreased by one.
+     * @exception IllegalStateException
+     *  Indicates that this IndexedMinHeap is empty.
+     */
+    public int removeInt() {
+        int smallest;
+
+        if (size == 0) { throw new IllegalStateException("This IndexedMinHeap is empty."); }
+
+        smallest = heap[0];
+        position[smallest] = NOT_PRESENT;
+        size--;
+        if (size > 0) { siftDown(0, heap[size]); }
+        return smallest;
+    }
+
+    /*
+     * private void siftDown(int slot, int index)
+     * Helper method that places an index at the given slot and moves it down the heap until neither child has a
+     * smaller key, keeping position up to date for every index it moves.
+     * @param slot
+     *  The slot of the hole where the index belongs.
+     * @param index
+     *  The index to place.
+     * @postcondition
+     *  The index is in the subtree at slot, and that subtree satisfies the heap order again.
+     */
+    private void siftDown(int slot, int index) {
+        int key = keys[index];
+        int half = size >>> 1;
+        int child;
+
+        while (slot < half) {
+            child = 2 * slot + 1;
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) { child++; }
+            if (key <= keys[heap[child]]) { break; }
+            heap[slot] = heap[child];
+            position[heap[slot]] = slot;
+            slot = child;
+        }
+        heap[slot] = index;
+        position[index] = slot;
+    }
+
+    /*
+     * private void siftUp(int slot, int index)
+     * Helper method that places an index at the given slot and moves it up the heap until its parent's key is no
+     * greater, keeping position up to date for every index it moves.
+     * @param slot
+     *  The slot of the hole where the index belongs.
+     * @param index
+     *  The index to place.
+     * @postcondition
+     *  The index is on the path from slot to the root, and the heap order holds on that path.
+     */
+    private void siftUp(int slot, int index) {
+        int key = keys[index];
+        int parent;
+
+        while (slot > 0) {
+            parent = (slot - 1) >>> 1;
+            if (keys[heap[parent]] <= key) { break; }
+            heap[slot] = heap[parent];
+            position[heap[slot]] = slot;
+            slot = parent;
+        }
+        heap[slot] = index;
+        position[index] = slot;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of indexes in this IndexedMinHeap.
+     * @return int
+     *  The number of indexes in this IndexedMinHeap.
+     */
+    @Override
+    public int size() { return size; }
+}
@@ -0,0 +1,330 @@
+// File IntArrayQueue.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * An IntArrayQueue is a First-in/First-out queue of int values, stored in a circular int array. It behaves like an
+ * ArrayQueue in power of two mode, but because the items are primitives rather than Integer objects, adding an item
+ * never allocates a box.
+ *
+ * @note
+ *  1. The capacity is always a power of two, no larger than 2^30, so indexes wrap around by masking with capacity - 1.
+ *     The capacity doubles whenever this IntArrayQueue is full.
+ *  2. The primitive methods add(int), addAll(int[], int, int), drainTo(int[], int), getFront() and removeInt()
+ *     should be used wherever possible. The methods add(Integer) and remove() exist so that an IntArrayQueue can be
+ *     used as a Queue<Integer>, and they box and unbox each item.
+ *  3. An IntArrayQueue cannot hold a null reference, so add(Integer) rejects one. As with every other Queue, remove()
+ *     returns null when this IntArrayQueue is empty, whereas removeInt() throws an exception.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class IntArrayQueue implements Queue<Integer> {
+    // Invariant of the IntArrayQueue class.
+    // 1. The length of data is a power of two and mask is one less than it.
+    // 2. For a nonempty IntArrayQueue, the items are stored in a circular array beginning at data[front] and continuing
+    //    for size items, so the rear item is at data[(front + size - 1) & mask].
+    // 3. The instance variable size is the number of items in this IntArrayQueue.
+    private int[] data;
+    private int mask;
+    private int front;
+    private int size;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * public IntArrayQueue()
+     * Initialize an IntArrayQueue with an initial capacity of 16 items.
+     * @postcondition
+     *  This IntArrayQueue is empty and has an initial capacity of 16 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntArrayQueue.
+     */
+    public IntArrayQueue() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * public IntArrayQueue(int capacity)
+     * Initialize an IntArrayQueue with the given initial capacity.
+     * @param capacity
+     *  The initial capacity. It is rounded up to the next power of two.
+     * @postcondition
+     *  This IntArrayQueue is empty and has been initialized with the given initial capacity.
+     * @exception IllegalArgumentException
+     *  Indicates an invalid initial capacity. Initial capacity must not be negative.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntArrayQueue.
+     */
+    public IntArrayQueue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be positive: " + capacity);
+        }
+        data = new int[roundUp(capacity)];
+        mask = data.length - 1;
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * public void add(int item)
+     * Mutator method that adds a new item to the rear of this IntArrayQueue.
+     * @param item
+     *  The item to be added to this IntArrayQueue.
+     * @postcondition
+     *  The item has been added to the rear of this IntArrayQueue. If it was full, then its capacity has been doubled.
+     * @exception IllegalStateException
+     *  Indicates that this IntArrayQueue is full and its capacity cannot be doubled.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntArrayQueue.
+     */
+    public void add(int item) {
+        if (size == data.length) { ensureCapacity(size + 1); }
+
+        data[(front + size) & mask] = item;
+        size++;
+    }
+
+    /**
+     * public void add(Integer item)
+     * Mutator method that unboxes a new item and adds it to the rear of this IntArrayQueue.
+     * @param item
+     *  The item to be added to this IntArrayQueue.
+     * @postcondition
+     *  The item has been added to the rear of this IntArrayQueue. If it was full, then its capacity has been doubled.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception IllegalStateException
+     *  Indicates that this IntArrayQueue is full and its capacity cannot be doubled.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntArrayQueue.
+     */
+    @Override
+    public void add(Integer item) {
+        if (item == null) { throw new IllegalArgumentException("An IntArrayQueue cannot hold a null item."); }
+        add(item.intValue());
+    }
+
+    /**
+     * public void addAll(int[] items, int offset, int length)
+     * Mutator method that adds a range of items to the rear of this IntArrayQueue, in order, with at most two calls
+     * to System.arraycopy.
+     * @param items
+     *  The array that holds the items.
+     * @param offset
+     *  The index in items of the first item to add.
+     * @param length
+     *  The number of items to add.
+     * @postcondition
+     *  items[offset] through items[offset + length - 1] have been added to the rear of this IntArrayQueue. If there was
+     *  not enough room, then its capacity has been increased first.
+     * @exception IllegalArgumentException
+     *  Indicates that offset and length do not describe a range of items. Nothing has been added.
+     * @exception IllegalStateException
+     *  Indicates that the items would make the capacity exceed 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntArrayQueue.
+     */
+    public void addAll(int[] items, int offset, int length) {
+        int start;
+        int distanceToEnd;
+
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IllegalArgumentException("Invalid range. Offset " + offset + " and length " + length
+                    + " do not fit in an array of length " + items.length);
+        }
+        if ((long) size + length > MAX_CAPACITY) {
+            throw new IllegalStateException("This IntArrayQueue is full.");
+        }
+        ensureCapacity(size + length);
+
+        start = (front + size) & mask;
+        distanceToEnd = data.length - start;
+        if (length <= distanceToEnd) {
+            System.arraycopy(items, offset, data, start, length);
+        } else {
+            System.arraycopy(items, offset, data, start, distanceToEnd);
+            System.arraycopy(items, offset + distanceToEnd, data, 0, length - distanceToEnd);
+        }
+        size += length;
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every item from this IntArrayQueue.
+     * @postcondition
+     *  This IntArrayQueue is empty. Its capacity has not changed.
+     */
+    public void clear() {
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * public int drainTo(int[] array, int max)
+     * Mutator method that removes up to max items from the front of this IntArrayQueue and copies them, in order, to
+     * the start of the specified array, with at most two calls to System.arraycopy.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this IntArrayQueue held fewer items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items, and the next item is now the front item.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    public int drainTo(int[] array, int max) {
+        int count;
+        int distanceToEnd;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+
+        count = Math.min(max, size);
+        distanceToEnd = data.length - front;
+        if (count <= distanceToEnd) {
+            System.arraycopy(data, front, array, 0, count);
+        } else {
+            System.arraycopy(data, front, array, 0, distanceToEnd);
+            System.arraycopy(data, 0, array, distanceToEnd, count - distanceToEnd);
+        }
+        front = (front + count) & mask;
+        size -= count;
+        return count;
+    }
+
+    /**
+     * public void ensureCapacity(int capacity)
+     * Increase the capacity of this IntArrayQueue. Note that the capacity will not be increased if the current capacity
+     * is already at least the given capacity.
+     * @param capacity
+     *  The new capacity of this IntArrayQueue. It is rounded up to the next power of two.
+     * @postcondition
+     *  This IntArrayQueue's capacity is at least the given capacity. If it was increased, then the items have been
+     *  copied to start at index 0 of the new array.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the larger IntArrayQueue.
+     */
+    public void ensureCapacity(int capacity) {
+        int[] largerArray;
+        int distanceToEnd;
+
+        if (data.length >= capacity) { return; }
+
+        largerArray = new int[roundUp(capacity)];
+        distanceToEnd = data.length - front;
+        if (size <= distanceToEnd) {
+            System.arraycopy(data, front, largerArray, 0, size);
+        } else {
+            System.arraycopy(data, front, largerArray, 0, distanceToEnd);
+            System.arraycopy(data, 0, largerArray, distanceToEnd, size - distanceToEnd);
+        }
+
+        data = largerArray;
+        mask = data.length - 1;
+        front = 0;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the current capacity of this IntArrayQueue.
+     * @return int
+     *  The number of items this IntArrayQueue can hold before it must grow.
+     */
+    public int getCapacity() { return data.length; }
+
+    /**
+     * public int getFront()
+     * Accessor method that returns the front item of this IntArrayQueue without removing it.
+     * @precondition
+     *  This IntArrayQueue is not empty.
+     * @return int
+     *  The front item of this IntArrayQueue.
+     * @exception IllegalStateException
+     *  Indicates that this IntArrayQueue is empty.
+     */
+    public int getFront() {
+        if (size == 0) { throw new IllegalStateException("This IntArrayQueue is empty."); }
+        return data[front];
+    }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this IntArrayQueue is empty.
+     * @return boolean
+     *  True if this IntArrayQueue is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * public Integer remove()
+     * Mutator method that removes the front item from this IntArrayQueue and boxes it.
+     * @return Integer
+     *  The front item from this IntArrayQueue, or null if it is empty.
+     * @postcondition
+     *  If this IntArrayQueue was not empty, then the front item has been removed and the next item is now the front
+     *  item.
+     */
+    @Override
+    public Integer remove() {
+        if (size == 0) { return null; }
+        return removeInt();
+    }
+
+    /**
+     * public int removeInt()
+     * Mutator method that removes the front item from this IntArrayQueue.
+     * @precondition
+     *  This IntArrayQueue is not empty.
+     * @return int
+     *  The front item from this IntArrayQueue.
+     * @postcondition
+     *  The front item has been removed and the next item is now the front item. Size has been decreased by one.
+     * @exception IllegalStateException
+     *  Indicates that this IntArrayQueue is empty.
+     */
+    public int removeInt() {
+        int removedItem;
+
+        if (size == 0) { throw new IllegalStateException("This IntArrayQueue is empty."); }
+
+        removedItem = data[front];
+        front = (front + 1) & mask;
+        size--;
+        return removedItem;
+    }
+
+    /*
+     * private static int roundUp(int capacity)
+     * Helper method that rounds the specified capacity up to a power of two.
+     * @param capacity
+     *  The requested capacity.
+     * @return int
+     *  The smallest power of two that is at least capacity, and at least 1.
+     * @exception IllegalStateException
+     *  Indicates that capacity exceeds 2^30.
+     */
+    private static int roundUp(int capacity) {
+        if (capacity > MAX_CAPACITY) { throw new IllegalStateException("This IntArrayQueue is full."); }
+        if (capacity <= 1) { return 1; }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this IntArrayQueue.
+     * @return int
+     *  The number of items in this IntArrayQueue.
+     */
+    @Override
+    public int size() { return size; }
+}
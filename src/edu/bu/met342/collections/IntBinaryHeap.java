@@ -0,0 +1,246 @@
+// File IntBinaryHeap.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * An IntBinaryHeap is a PriorityQueue of int values stored as a complete binary tree in an int array. It works like a
+ * BinaryHeap ordered by the natural ordering of the values, but because the items are primitives rather than Integer
+ * objects, adding an item never allocates a box and comparing two items never follows a reference.
+ *
+ * @note
+ *  1. add and remove take O(log n) time and peek takes constant time.
+ *  2. The primitive methods add(int), peekInt() and removeInt() should be used wherever possible. The methods
+ *     add(Integer), peek() and remove() exist so that an IntBinaryHeap can be used as a PriorityQueue<Integer>, and
+ *     they box and unbox each item.
+ *  3. An IntBinaryHeap cannot hold a null reference, so add(Integer) rejects one. peek() and remove() return null
+ *     when it is empty, whereas peekInt() and removeInt() throw an exception.
+ *  4. The capacity doubles whenever this IntBinaryHeap is full, up to 2^30 items.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class IntBinaryHeap implements PriorityQueue<Integer> {
+    // Invariant of the IntBinaryHeap class.
+    // 1. The items are in heap[0] through heap[size - 1].
+    // 2. For every index i from 1 to size - 1, heap[(i - 1) / 2] <= heap[i].
+    private int[] heap;
+    private int size;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * public IntBinaryHeap()
+     * Initialize an empty IntBinaryHeap with an initial capacity of 16 items.
+     * @postcondition
+     *  This IntBinaryHeap is empty and has an initial capacity of 16 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntBinaryHeap.
+     */
+    public IntBinaryHeap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * public IntBinaryHeap(int capacity)
+     * Initialize an empty IntBinaryHeap with the given initial capacity.
+     * @param capacity
+     *  The initial capacity.
+     * @postcondition
+     *  This IntBinaryHeap is empty and has been initialized with the given initial capacity.
+     * @exception IllegalArgumentException
+     *  Indicates that capacity is negative or exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntBinaryHeap.
+     */
+    public IntBinaryHeap(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be from 0 to 2^30: " + capacity);
+        }
+        heap = new int[capacity];
+        size = 0;
+    }
+
+    /**
+     * public void add(int item)
+     * Mutator method that adds a new item to this IntBinaryHeap, moving it up the tree past every larger parent.
+     * @param item
+     *  The item to be added to this IntBinaryHeap.
+     * @postcondition
+     *  The item has been added to this IntBinaryHeap. If it was full, then its capacity has been doubled.
+     * @exception IllegalStateException
+     *  Indicates that this IntBinaryHeap already holds 2^30 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntBinaryHeap.
+     */
+    public void add(int item) {
+        int index;
+        int parent;
+
+        if (size == heap.length) { ensureCapacity(size + 1); }
+
+        index = size;
+        while (index > 0) {
+            parent = (index - 1) >>> 1;
+            if (item >= heap[parent]) { break; }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+        size++;
+    }
+
+    /**
+     * public void add(Integer item)
+     * Mutator method that unboxes a new item and adds it to this IntBinaryHeap.
+     * @param item
+     *  The item to be added to this IntBinaryHeap.
+     * @postcondition
+     *  The item has been added to this IntBinaryHeap. If it was full, then its capacity has been doubled.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception IllegalStateException
+     *  Indicates that this IntBinaryHeap already holds 2^30 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntBinaryHeap.
+     */
+    @Override
+    public void add(Integer item) {
+        if (item == null) { throw new IllegalArgumentException("An IntBinaryHeap cannot hold a null item."); }
+        add(item.intValue());
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every item from this IntBinaryHeap.
+     * @postcondition
+     *  This IntBinaryHeap is empty. Its capacity has not changed.
+     */
+    public void clear() { size = 0; }
+
+    /**
+     * public void ensureCapacity(int capacity)
+     * Increase the capacity of this IntBinaryHeap. Note that the capacity will not be increased if the current
+     * capacity is already at least the given capacity.
+     * @param capacity
+     *  The new capacity of this IntBinaryHeap.
+     * @postcondition
+     *  This IntBinaryHeap's capacity is at least the given capacity, and at least double the old capacity if it grew.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the larger IntBinaryHeap.
+     */
+    public void ensureCapacity(int capacity) {
+        int[] largerArray;
+
+        if (heap.length >= capacity) { return; }
+        if (capacity > MAX_CAPACITY) { throw new IllegalStateException("This IntBinaryHeap is full."); }
+
+        largerArray = new int[(int) Math.min(MAX_CAPACITY, Math.max(capacity, 2L * heap.length))];
+        System.arraycopy(heap, 0, largerArray, 0, size);
+        heap = largerArray;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the current capacity of this IntBinaryHeap.
+     * @return int
+     *  The number of items this IntBinaryHeap can hold before it must grow.
+     */
+    public int getCapacity() { return heap.length; }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this IntBinaryHeap is empty.
+     * @return boolean
+     *  True if this IntBinaryHeap is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * public Integer peek()
+     * Accessor method that boxes the smallest item of this IntBinaryHeap without removing it.
+     * @return Integer
+     *  The smallest item of this IntBinaryHeap, or null if it is empty.
+     */
+    @Override
+    public Integer peek() { return size == 0 ? null : heap[0]; }
+
+    /**
+     * public int peekInt()
+     * Accessor method that returns the smallest item of this IntBinaryHeap without removing it.
+     * @precondition
+     *  This IntBinaryHeap is not empty.
+     * @return int
+     *  The smallest item of this IntBinaryHeap.
+     * @exception IllegalStateException
+     *  Indicates that this IntBinaryHeap is empty.
+     */
+    public int peekInt() {
+        if (size == 0) { throw new IllegalStateException("This IntBinaryHeap is empty."); }
+        return heap[0];
+    }
+
+    /**
+     * public Integer remove()
+     * Mutator method that removes the smallest item from this IntBinaryHeap and boxes it.
+     * @return Integer
+     *  The smallest item of this IntBinaryHeap, or null if it is empty.
+     * @postcondition
+     *  If this IntBinaryHeap was not empty, then the smallest item has been removed.
+     */
+    @Override
+    public Integer remove() {
+        if (size == 0) { return null; }
+        return removeInt();
+    }
+
+    /**
+     * public int removeInt()
+     * Mutator method that removes the smallest item from this IntBinaryHeap. The last item of the array takes its place
+     * at the root and moves down the tree past every smaller child.
+     * @precondition
+     *  This IntBinaryHeap is not empty.
+     * @return int
+     *  The smallest item of this IntBinaryHeap.
+     * @postcondition
+     *  The smallest item has been removed. Size has been decreased by one.
+     * @exception IllegalStateException
+     *  Indicates that this IntBinaryHeap is empty.
+     */
+    public int removeInt() {
+        int smallest;
+        int item;
+        int index;
+        int half;
+        int child;
+
+        if (size == 0) { throw new IllegalStateException("This IntBinaryHeap is empty."); }
+
+        smallest = heap[0];
+        size--;
+        item = heap[size];
+        index = 0;
+        half = size >>> 1;
+        while (index < half) {
+            child = 2 * index + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) { child++; }
+            if (item <= heap[child]) { break; }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+        return smallest;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this IntBinaryHeap.
+     * @return int
+     *  The number of items in this IntBinaryHeap.
+     */
+    @Override
+    public int size() { return size; }
+}
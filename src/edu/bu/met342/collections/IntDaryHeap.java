@@ -0,0 +1,269 @@
+// File IntDaryHeap.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * An IntDaryHeap is a PriorityQueue of int values stored as a complete d-ary tree in an int array. It works like a
+ * DaryHeap ordered by the natural ordering of the values, but because the items are primitives rather than Integer
+ * objects, adding an item never allocates a box, and the d children of an item are d adjacent ints that are compared
+ * without following any references.
+ *
+ * @note
+ *  1. The children of the item at index i are at indexes d * i + 1 through d * i + d. The default arity is 4, so
+ *     the four children of an item fill only 16 bytes and usually share a cache line.
+ *  2. The primitive methods add(int), peekInt() and removeInt() should be used wherever possible. The methods
+ *     add(Integer), peek() and remove() exist so that an IntDaryHeap can be used as a PriorityQueue<Integer>, and
+ *     they box and unbox each item.
+ *  3. An IntDaryHeap cannot hold a null reference, so add(Integer) rejects one. peek() and remove() return null
+ *     when it is empty, whereas peekInt() and removeInt() throw an exception.
+ *  4. The capacity doubles whenever this IntDaryHeap is full, up to 2^30 items.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class IntDaryHeap implements PriorityQueue<Integer> {
+    // Invariant of the IntDaryHeap class.
+    // 1. The items are in heap[0] through heap[size - 1].
+    // 2. For every index i from 1 to size - 1, heap[(i - 1) / arity] <= heap[i].
+    // 3. arity is the largest number of children of an item, and is at least 2.
+    private int[] heap;
+    private int size;
+    private int arity;
+    private static final int ARITY = 4;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * public IntDaryHeap()
+     * Initialize an empty 4-ary IntDaryHeap with an initial capacity of 16 items.
+     * @postcondition
+     *  This IntDaryHeap is empty and has an initial capacity of 16 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntDaryHeap.
+     */
+    public IntDaryHeap() {
+        this(ARITY, INITIAL_CAPACITY);
+    }
+
+    /**
+     * public IntDaryHeap(int arity, int capacity)
+     * Initialize an empty IntDaryHeap with the given arity and initial capacity.
+     * @param arity
+     *  The largest number of children of an item.
+     * @param capacity
+     *  The initial capacity.
+     * @postcondition
+     *  This IntDaryHeap is empty and has been initialized with the given arity and initial capacity.
+     * @exception IllegalArgumentException
+     *  Indicates that arity is less than 2, or that capacity is negative or exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntDaryHeap.
+     */
+    public IntDaryHeap(int arity, int capacity) {
+        if (arity < 2) { throw new IllegalArgumentException("Invalid arity. Arity must be at least 2: " + arity); }
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be from 0 to 2^30: " + capacity);
+        }
+        heap = new int[capacity];
+        size = 0;
+        this.arity = arity;
+    }
+
+    /**
+     * public void add(int item)
+     * Mutator method that adds a new item to this IntDaryHeap, moving it up the tree past every larger parent.
+     * @param item
+     *  The item to be added to this IntDaryHeap.
+     * @postcondition
+     *  The item has been added to this IntDaryHeap. If it was full, then its capacity has been doubled.
+     * @exception IllegalStateException
+     *  Indicates that this IntDaryHeap already holds 2^30 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntDaryHeap.
+     */
+    public void add(int item) {
+        int index;
+        int parent;
+
+        if (size == heap.length) { ensureCapacity(size + 1); }
+
+        index = size;
+        while (index > 0) {
+            parent = (index - 1) / arity;
+            if (item >= heap[parent]) { break; }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = item;
+        size++;
+    }
+
+    /**
+     * public void add(Integer item)
+     * Mutator method that unboxes a new item and adds it to this IntDaryHeap.
+     * @param item
+     *  The item to be added to this IntDaryHeap.
+     * @postcondition
+     *  The item has been added to this IntDaryHeap. If it was full, then its capacity has been doubled.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception IllegalStateException
+     *  Indicates that this IntDaryHeap already holds 2^30 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntDaryHeap.
+     */
+    @Override
+    public void add(Integer item) {
+        if (item == null) { throw new IllegalArgumentException("An IntDaryHeap cannot hold a null item."); }
+        add(item.intValue());
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every item from this IntDaryHeap.
+     * @postcondition
+     *  This IntDaryHeap is empty. Its capacity has not changed.
+     */
+    public void clear() { size = 0; }
+
+    /**
+     * public void ensureCapacity(int capacity)
+     * Increase the capacity of this IntDaryHeap. Note that the capacity will not be increased if the current capacity
+     * is already at least the given capacity.
+     * @param capacity
+     *  The new capacity of this IntDaryHeap.
+     * @postcondition
+     *  This IntDaryHeap's capacity is at least the given capacity, and at least double the old capacity if it grew.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the larger IntDaryHeap.
+     */
+    public void ensureCapacity(int capacity) {
+        int[] largerArray;
+
+        if (heap.length >= capacity) { return; }
+        if (capacity > MAX_CAPACITY) { throw new IllegalStateException("This IntDaryHeap is full."); }
+
+        largerArray = new int[(int) Math.min(MAX_CAPACITY, Math.max(capacity, 2L * heap.length))];
+        System.arraycopy(heap, 0, largerArray, 0, size);
+        heap = largerArray;
+    }
+
+    /**
+     * public int getArity()
+     * Accessor method that returns the largest number of children of an item in this IntDaryHeap.
+     * @return int
+     *  The arity of this IntDaryHeap.
+     */
+    public int getArity() { return arity; }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the current capacity of this IntDaryHeap.
+     * @return int
+     *  The number of items this IntDaryHeap can hold before it must grow.
+     */
+    public int getCapacity() { return heap.length; }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this IntDaryHeap is empty.
+     * @return boolean
+     *  True if this IntDaryHeap is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * public Integer peek()
+     * Accessor method that boxes the smallest item of this IntDaryHeap without removing it.
+     * @return Integer
+     *  The smallest item of this IntDaryHeap, or null if it is empty.
+     */
+    @Override
+    public Integer peek() { return size == 0 ? null : heap[0]; }
+
+    /**
+     * public int peekInt()
+     * Accessor method that returns the smallest item of this IntDaryHeap without removing it.
+     * @precondition
+     *  This IntDaryHeap is not empty.
+     * @return int
+     *  The smallest item of this IntDaryHeap.
+     * @exception IllegalStateException
+     *  Indicates that this IntDaryHeap is empty.
+     */
+    public int peekInt() {
+        if (size == 0) { throw new IllegalStateException("This IntDaryHeap is empty."); }
+        return heap[0];
+    }
+
+    /**
+     * public Integer remove()
+     * Mutator method that removes the smallest item from this IntDaryHeap and boxes it.
+     * @return Integer
+     *  The smallest item of this IntDaryHeap, or null if it is empty.
+     * @postcondition
+     *  If this IntDaryHeap was not empty, then the smallest item has been removed.
+     */
+    @Override
+    public Integer remove() {
+        if (size == 0) { return null; }
+        return removeInt();
+    }
+
+    /**
+     * public int removeInt()
+     * Mutator method that removes the smallest item from this IntDaryHeap. The last item of the array takes its place
+     * at the root and moves down the tree past every smaller child.
+     * @precondition
+     *  This IntDaryHeap is not empty.
+     * @return int
+     *  The smallest item of this IntDaryHeap.
+     * @postcondition
+     *  The smallest item has been removed. Size has been decreased by one.
+     * @exception IllegalStateException
+     *  Indicates that this IntDaryHeap is empty.
+     */
+    public int removeInt() {
+        int smallest;
+        int item;
+        int index;
+        long first;
+        int last;
+        int child;
+
+        if (size == 0) { throw new IllegalStateException("This IntDaryHeap is empty."); }
+
+        smallest = heap[0];
+        size--;
+        item = heap[size];
+        index = 0;
+        while (true) {
+            first = (long) arity * index + 1;
+            if (first >= size) { break; }
+
+            child = (int) first;
+            last = (int) Math.min(size - 1, first + arity - 1);
+            for (int i = child + 1; i <= last; i++) {
+                if (heap[i] < heap[child]) { child = i; }
+            }
+            if (item <= heap[child]) { break; }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = item;
+        return smallest;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this IntDaryHeap.
+     * @return int
+     *  The number of items in this IntDaryHeap.
+     */
+    @Override
+    public int size() { return size; }
+}
@@ -0,0 +1,362 @@
+// File IntObjectMap.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * An IntObjectMap is a collection used to map primitive integer keys to values. It offers the same operations as a
+ * Map, but its keys are stored in an int[] rather than an Integer[], so no key is ever boxed. Looking up, adding, or
+ * removing a key does not allocate any memory unless the table has to grow.
+ *
+ * @note
+ *  1. The key 0 marks an empty bucket, so the key 0 itself is stored outside of the table in a dedicated field.
+ *  2. The capacity of an IntObjectMap is always a power of two, so a bucket is found by masking a mixed hash code
+ *     rather than by division. The bits of every key are scrambled first so that sequential or patterned keys still
+ *     spread across the whole table.
+ *  3. This implementation uses Open Addressing with linear probing. Deleted entries are removed by shifting the rest
+ *     of their cluster backwards, so there are never any previously used buckets to skip over.
+ *  4. The capacity grows automatically by doubling whenever an insertion would push the ratio of size to capacity past
+ *     the load factor. The capacity cannot exceed 2^30 buckets.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class IntObjectMap<V> {
+    // Invariant of the IntObjectMap class.
+    // 1. The number of entries is in the instance variable size. This includes the entry for the key 0, if there is
+    //    one.
+    // 2. Each nonzero key is stored in keys[index] and its value in values[index]. A bucket is empty exactly when
+    //    keys[index] is 0. The proper bucket for a key is at OpenAddressing.hash(key) & mask, and the key sits at the
+    //    first bucket on or after its proper bucket in which it fit when it was added, with no empty bucket in between.
+    // 3. The instance variable hasZeroKey indicates whether or not the key 0 is in this IntObjectMap. If it is, then
+    //    its value is in the instance variable zeroValue.
+    // 4. The length of keys is a power of two and mask is one less than that length.
+    // 5. The instance variable threshold is the number of nonzero keys at which the ratio of size to capacity reaches
+    //    loadFactor. It is always less than the capacity, so there is always at least one empty bucket.
+    private int size;
+    private int mask;
+    private int threshold;
+    private double loadFactor;
+    private int[] keys;
+    private Object[] values;
+    private boolean hasZeroKey;
+    private Object zeroValue;
+    private static final int CAPACITY = 32;
+    private static final double DEFAULT_LOAD_FACTOR = 0.75;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * public IntObjectMap()
+     * Initialize an empty IntObjectMap with an initial capacity of 32 and a load factor of 0.75.
+     * @postcondition
+     *  An empty IntObjectMap with an initial capacity of 32 and a load factor of 0.75 has been initialized.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntObjectMap.
+     */
+    public IntObjectMap() {
+        this(CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * public IntObjectMap(int capacity)
+     * Initialize an empty IntObjectMap with room for the given number of buckets and a load factor of 0.75.
+     * @param capacity
+     *  The initial capacity of this IntObjectMap. It is rounded up to the next power of two.
+     * @postcondition
+     *  An empty IntObjectMap has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntObjectMap.
+     */
+    public IntObjectMap(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * public IntObjectMap(int capacity, double loadFactor)
+     * Initialize an empty IntObjectMap with room for the given number of buckets and the given load factor.
+     * @param capacity
+     *  The initial capacity of this IntObjectMap. It is rounded up to the next power of two.
+     * @param loadFactor
+     *  The largest permitted ratio of size to capacity before this IntObjectMap grows. Must be greater than 0 and no
+     *  greater than 1.
+     * @postcondition
+     *  An empty IntObjectMap has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative or that the load factor is not in the range (0, 1].
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntObjectMap.
+     */
+    public IntObjectMap(int capacity, double loadFactor) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        if (!(loadFactor > 0 && loadFactor <= 1)) {
+            throw new IllegalArgumentException("Load factor must be in the range (0, 1]: " + loadFactor);
+        }
+        size = 0;
+        hasZeroKey = false;
+        zeroValue = null;
+        this.loadFactor = loadFactor;
+        allocate(OpenAddressing.tableSizeFor(capacity, 2, MAX_CAPACITY));
+    }
+
+    /*
+     * private void allocate(int capacity)
+     * Helper method that replaces the table with empty arrays of the specified capacity.
+     * @param capacity
+     *  The new capacity. Must be a power of two.
+     * @postcondition
+     *  keys and values are empty arrays of the specified capacity, and mask and threshold have been recalculated.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) Math.min(capacity * loadFactor, capacity - 1);
+    }
+
+    /**
+     * public boolean contains(int k)
+     * Accessor method that confirms whether or not a specified key is in this IntObjectMap.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this IntObjectMap. Otherwise false.
+     */
+    public boolean contains(int k) {
+        if (k == 0) { return hasZeroKey; }
+        return findIndex(k) != -1;
+    }
+
+    /**
+     * public void delete(int k)
+     * Mutator method that removes the specified key and it's value from this IntObjectMap.
+     * @param k
+     *  The key to search for.
+     * @postcondition
+     *  The specified key and it's value have been removed from this IntObjectMap if they existed. Otherwise, no
+     *  mutation occurs.
+     */
+    public void delete(int k) {
+        int index;
+
+        if (k == 0) {
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return;
+        }
+
+        index = findIndex(k);
+        if (index != -1) {
+            shiftBackward(index);
+            size--;
+        }
+    }
+
+    /*
+     * private int findIndex(int k)
+     * Helper method that returns the index of the specified nonzero key if it exists. Otherwise it returns -1.
+     * @param k
+     *  The key to search for. Must not be 0.
+     * @return int
+     *  The index of the specified key or -1 if the key is not in this IntObjectMap.
+     */
+    private int findIndex(int k) {
+        int index = OpenAddressing.hash(k) & mask;
+        int current;
+
+        while ((current = keys[index]) != 0) {
+            if (current == k) { return index; }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * public V get(int k)
+     * Accessor method that retrieves the value associated with the specified key. Note, we have suppressed warnings
+     * because our programming guarantees that only V objects are stored as values.
+     * @param k
+     *  The key to search for.
+     * @return V
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int k) {
+        int index;
+
+        if (k == 0) { return (V) zeroValue; }
+
+        index = findIndex(k);
+        if (index != -1) { return (V) values[index]; }
+        return null;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that retrieves the capacity of this IntObjectMap.
+     * @return int
+     *  The number of buckets in this IntObjectMap.
+     */
+    public int getCapacity() { return keys.length; }
+
+    /**
+     * public double getLoadFactor()
+     * Accessor method that retrieves the load factor of this IntObjectMap.
+     * @return double
+     *  The largest permitted ratio of size to capacity before this IntObjectMap grows.
+     */
+    public double getLoadFactor() { return loadFactor; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in this IntObjectMap.
+     * @return int
+     *  The number of entries in this IntObjectMap.
+     */
+    public int getSize() { return size; }
+
+    /**
+     * public void printHash()
+     * Prints every key and value pair in this IntObjectMap.
+     * @postcondition
+     *  The keys and values in this IntObjectMap have been written using System.out.println().
+     */
+    public void printHash() {
+        System.out.println(toString());
+    }
+
+    /**
+     * public void put(int k, V v)
+     * Mutator method that adds the specified key and value to this IntObjectMap. If the specified key was already in
+     * this IntObjectMap, then the old value will be replaced with the specified value.
+     * @param k
+     *  The key to add.
+     * @param v
+     *  The value associated with the specified key.
+     * @postcondition
+     *  The specified key and value have been added to this IntObjectMap and size has been incremented. If the key
+     *  already existed, then the old value has been replaced and size is not incremented. If the new entry would push
+     *  the ratio of size to capacity past the load factor, then the capacity has been doubled first.
+     * @exception IllegalStateException
+     *  Indicates that this IntObjectMap has reached its maximum capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntObjectMap.
+     */
+    public void put(int k, V v) {
+        int index;
+        int current;
+
+        if (k == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = v;
+            return;
+        }
+
+        // A single probe either finds the key or stops at the empty bucket where the key belongs.
+        index = OpenAddressing.hash(k) & mask;
+        while ((current = keys[index]) != 0) {
+            if (current == k) {
+                values[index] = v;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (size - (hasZeroKey ? 1 : 0) >= threshold) {
+            if (keys.length == MAX_CAPACITY) { throw new IllegalStateException("This IntObjectMap is full."); }
+            rehash(keys.length * 2);
+            index = OpenAddressing.hash(k) & mask;
+            while (keys[index] != 0) { index = (index + 1) & mask; }
+        }
+
+        keys[index] = k;
+        values[index] = v;
+        size++;
+    }
+
+    /*
+     * private void rehash(int capacity)
+     * Helper method that moves every nonzero key of this IntObjectMap into new arrays of the specified capacity.
+     * @param capacity
+     *  The new capacity. Must be a power of two that is larger than size.
+     * @postcondition
+     *  Every nonzero key and its value have been reinserted in arrays of the specified capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int index;
+
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                index = OpenAddressing.hash(oldKeys[i]) & mask;
+                while (keys[index] != 0) { index = (index + 1) & mask; }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /*
+     * private void shiftBackward(int index)
+     * Helper method that empties the bucket at the specified index. Each later entry of the cluster that
+     * OpenAddressing.canFill allows is moved into the gap, with its value, until an empty bucket is reached.
+     * @param index
+     *  The index of the entry being removed.
+     * @postcondition
+     *  The entry at the specified index has been removed and every remaining key can still be found by probing from
+     *  its proper bucket.
+     */
+    private void shiftBackward(int index) {
+        int gap = index;
+        int next = (index + 1) & mask;
+        int home;
+
+        while (keys[next] != 0) {
+            home = OpenAddressing.hash(keys[next]) & mask;
+            if (OpenAddressing.canFill(gap, next, home, mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    /**
+     * public String toString()
+     * Returns every key and value pair in this IntObjectMap.
+     * @return String
+     *  One line for each key and value pair in this IntObjectMap.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        if (hasZeroKey) { stringBuilder.append("Key[0] = ").append(zeroValue).append("\n"); }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                stringBuilder.append("Key[").append(keys[i]).append("] = ").append(values[i]).append("\n");
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+}
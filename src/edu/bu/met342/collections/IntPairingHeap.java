@@ -0,0 +1,331 @@
+// File IntPairingHeap.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * An IntPairingHeap is a PriorityQueue of int values stored as a pairing heap. It works like a PairingHeap ordered by
+ * the natural ordering of the values, but its nodes are not objects. Node n is the three array slots keys[n], child[n]
+ * and sibling[n], and the links are array indexes, so adding an item allocates neither a node nor a box.
+ *
+ * @note
+ *  1. add and peek take constant time, and remove takes O(log n) amortized time, as in a PairingHeap.
+ *  2. The slots of removed nodes are kept on a free list and reused by later adds. The arrays double whenever every
+ *     slot is in use, up to 2^30 items.
+ *  3. The primitive methods add(int), peekInt() and removeInt() should be used wherever possible. The methods
+ *     add(Integer), peek() and remove() exist so that an IntPairingHeap can be used as a PriorityQueue<Integer>, and
+ *     they box and unbox each item.
+ *  4. An IntPairingHeap cannot hold a null reference, so add(Integer) rejects one. peek() and remove() return null
+ *     when it is empty, whereas peekInt() and removeInt() throw an exception.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class IntPairingHeap implements PriorityQueue<Integer> {
+    // Invariant of the IntPairingHeap class.
+    // 1. keys, child and sibling have the same length. A node is an index into them, and NONE stands for no node.
+    // 2. root is the root of a tree of size nodes, or NONE if this IntPairingHeap is empty. For each node n of the
+    //    tree, keys[n] is its item, child[n] is its first child and sibling[n] is its next sibling. The root has no
+    //    sibling, and the key of every node is no greater than the keys of its children.
+    // 3. free is the first node of a list, linked by sibling, of slots that are not in the tree. used is the number of
+    //    slots that have ever been handed out, and slots from used to the end of the arrays are also free.
+    private int[] keys;
+    private int[] child;
+    private int[] sibling;
+    private int root;
+    private int size;
+    private int free;
+    private int used;
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * public IntPairingHeap()
+     * Initialize an empty IntPairingHeap with an initial capacity of 16 items.
+     * @postcondition
+     *  This IntPairingHeap is empty and has an initial capacity of 16 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntPairingHeap.
+     */
+    public IntPairingHeap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * public IntPairingHeap(int capacity)
+     * Initialize an empty IntPairingHeap with the given initial capacity.
+     * @param capacity
+     *  The initial capacity.
+     * @postcondition
+     *  This IntPairingHeap is empty and has been initialized with the given initial capacity.
+     * @exception IllegalArgumentException
+     *  Indicates that capacity is negative or exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this IntPairingHeap.
+     */
+    public IntPairingHeap(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be from 0 to 2^30: " + capacity);
+        }
+        keys = new int[capacity];
+        child = new int[capacity];
+        sibling = new int[capacity];
+        clear();
+    }
+
+    /**
+     * public void add(int item)
+     * Mutator method that adds a new item to this IntPairingHeap by linking a new node with the root.
+     * @param item
+     *  The item to be added to this IntPairingHeap.
+     * @postcondition
+     *  The item has been added to this IntPairingHeap. If every slot was in use, then its capacity has been doubled.
+     * @exception IllegalStateException
+     *  Indicates that this IntPairingHeap already holds 2^30 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntPairingHeap.
+     */
+    public void add(int item) {
+        int node;
+
+        if (free != NONE) {
+            node = free;
+            free = sibling[node];
+        } else {
+            if (used == keys.length) { ensureCapacity(used + 1); }
+            node = used++;
+        }
+
+        keys[node] = item;
+        child[node] = NONE;
+        sibling[node] = NONE;
+        root = link(root, node);
+        size++;
+    }
+
+    /**
+     * public void add(Integer item)
+     * Mutator method that unboxes a new item and adds it to this IntPairingHeap.
+     * @param item
+     *  The item to be added to this IntPairingHeap.
+     * @postcondition
+     *  The item has been added to this IntPairingHeap. If every slot was in use, then its capacity has been doubled.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception IllegalStateException
+     *  Indicates that this IntPairingHeap already holds 2^30 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger IntPairingHeap.
+     */
+    @Override
+    public void add(Integer item) {
+        if (item == null) { throw new IllegalArgumentException("An IntPairingHeap cannot hold a null item."); }
+        add(item.intValue());
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every item from this IntPairingHeap.
+     * @postcondition
+     *  This IntPairingHeap is empty and every slot is free. Its capacity has not changed.
+     */
+    public void clear() {
+        root = NONE;
+        size = 0;
+        free = NONE;
+        used = 0;
+    }
+
+    /**
+     * public void ensureCapacity(int capacity)
+     * Increase the capacity of this IntPairingHeap. Note that the capacity will not be increased if the current
+     * capacity is already at least the given capacity.
+     * @param capacity
+     *  The new capacity of this IntPairingHeap.
+     * @postcondition
+     *  This IntPairingHeap's capacity is at least the given capacity, and at least double the old capacity if it grew.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the larger IntPairingHeap.
+     */
+    public void ensureCapacity(int capacity) {
+        int newCapacity;
+        int[] largerKeys;
+        int[] largerChild;
+        int[] largerSibling;
+
+        if (keys.length >= capacity) { return; }
+        if (capacity > MAX_CAPACITY) { throw new IllegalStateException("This IntPairingHeap is full."); }
+
+        newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(capacity, 2L * keys.length));
+        largerKeys = new int[newCapacity];
+        largerChild = new int[newCapacity];
+        largerSibling = new int[newCapacity];
+        System.arraycopy(keys, 0, largerKeys, 0, used);
+        System.arraycopy(child, 0, largerChild, 0, used);
+        System.arraycopy(sibling, 0, largerSibling, 0, used);
+        keys = largerKeys;
+        child = largerChild;
+        sibling = largerSibling;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the current capacity of this IntPairingHeap.
+     * @return int
+     *  The number of items this IntPairingHeap can hold before it must grow.
+     */
+    public int getCapacity() { return keys.length; }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this IntPairingHeap is empty.
+     * @return boolean
+     *  True if this IntPairingHeap is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /*
+     * private int link(int first, int second)
+     * Helper method that combines two trees into one. The root with the larger key becomes the first child of the
+     * other root.
+     * @param first
+     *  The root of a tree, or NONE.
+     * @param second
+     *  The root of another tree, or NONE.
+     * @return int
+     *  The root of the combined tree. Its sibling link has not been changed.
+     */
+    private int link(int first, int second) {
+        int swap;
+
+        if (first == NONE) { return second; }
+        if (second == NONE) { return first; }
+
+        if (keys[second] < keys[first]) {
+            swap = first;
+            first = second;
+            second = swap;
+        }
+        sibling[second] = child[first];
+        child[first] = second;
+        return first;
+    }
+
+    /*
+     * private int mergePairs(int first)
+     * Helper method that combines a list of sibling trees into one. The first pass links the trees in pairs from left
+     * to right, and pushes each pair onto a list so that the second pass can link them from right to left.
+     * @param first
+     *  The first tree of the list, linked to the rest by sibling, or NONE.
+     * @return int
+     *  The root of the combined tree, with no sibling, or NONE if the list was empty.
+     */
+    private int mergePairs(int first) {
+        int pairs = NONE;
+        int pair;
+        int next;
+        int result;
+
+        while (first != NONE) {
+            if (sibling[first] == NONE) {
+                sibling[first] = pairs;
+                pairs = first;
+                break;
+            }
+            next = sibling[sibling[first]];
+            pair = link(first, sibling[first]);
+            sibling[pair] = pairs;
+            pairs = pair;
+            first = next;
+        }
+
+        if (pairs == NONE) { return NONE; }
+
+        result = pairs;
+        pairs = sibling[pairs];
+        while (pairs != NONE) {
+            next = sibling[pairs];
+            result = link(result, pairs);
+            pairs = next;
+        }
+        sibling[result] = NONE;
+        return result;
+    }
+
+    /**
+     * public Integer peek()
+     * Accessor method that boxes the smallest item of this IntPairingHeap without removing it.
+     * @return Integer
+     *  The smallest item of this IntPairingHeap, or null if it is empty.
+     */
+    @Override
+    public Integer peek() { return size == 0 ? null : keys[root]; }
+
+    /**
+     * public int peekInt()
+     * Accessor method that returns the smallest item of this IntPairingHeap without removing it.
+     * @precondition
+     *  This IntPairingHeap is not empty.
+     * @return int
+     *  The smallest item of this IntPairingHeap.
+     * @exception IllegalStateException
+     *  Indicates that this IntPairingHeap is empty.
+     */
+    public int peekInt() {
+        if (size == 0) { throw new IllegalStateException("This IntPairingHeap is empty."); }
+        return keys[root];
+    }
+
+    /**
+     * public Integer remove()
+     * Mutator method that removes the smallest item from this IntPairingHeap and boxes it.
+     * @return Integer
+     *  The smallest item of this IntPairingHeap, or null if it is empty.
+     * @postcondition
+     *  If this IntPairingHeap was not empty, then the smallest item has been removed.
+     */
+    @Override
+    public Integer remove() {
+        if (size == 0) { return null; }
+        return removeInt();
+    }
+
+    /**
+     * public int removeInt()
+     * Mutator method that removes the smallest item from this IntPairingHeap. The children of the root are combined
+     * into the new tree, and the root's slot is put on the free list.
+     * @precondition
+     *  This IntPairingHeap is not empty.
+     * @return int
+     *  The smallest item of this IntPairingHeap.
+     * @postcondition
+     *  The smallest item has been removed. Size has been decreased by one.
+     * @exception IllegalStateException
+     *  Indicates that this IntPairingHeap is empty.
+     */
+    public int removeInt() {
+        int oldRoot;
+
+        if (size == 0) { throw new IllegalStateException("This IntPairingHeap is empty."); }
+
+        oldRoot = root;
+        root = mergePairs(child[oldRoot]);
+        sibling[oldRoot] = free;
+        free = oldRoot;
+        size--;
+        return keys[oldRoot];
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this IntPairingHeap.
+     * @return int
+     *  The number of items in this IntPairingHeap.
+     */
+    @Override
+    public int size() { return size; }
+}
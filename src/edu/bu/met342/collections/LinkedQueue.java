@@ -10,6 +10,8 @@ import edu.bu.met342.nodes.Node;
  *
  * @note
  *   1. Beyond Integer.MAX_VALUE elements, the size method does not work.
+ *   2. addAll links its new nodes to each other before splicing them onto the rear, and removeBatch hands the removed
+ *      nodes to the new LinkedQueue without copying them.
  *
  * @author mlewis
  * @version Nov 1, 2019
@@ -55,15 +57,98 @@ public class LinkedQueue<E> implements Queue<E> {
     public void add(Object item) {
         E element = (E) item;
         if (isEmpty()) {
-            front = new Node<>(element, front);
+            front = new Node<>(element, null);
             rear = front;
         } else {
-            rear.setNext(new Node<>(element, rear));
+            rear.setNext(new Node<>(element, null));
             rear = rear.getNext();
         }
         size++;
     }
 
+    /**
+     * public void addAll(E[] items, int offset, int length)
+     * Mutator method that adds a range of items to the rear of this LinkedQueue, in order. The new nodes are linked to
+     * each other first and then spliced onto the rear with a single link.
+     * @param items
+     *  The array that holds the items.
+     * @param offset
+     *  The index in items of the first item to add.
+     * @param length
+     *  The number of items to add.
+     * @postcondition
+     *  items[offset] through items[offset + length - 1] have been added to the rear of this LinkedQueue.
+     * @exception IllegalArgumentException
+     *  Indicates that offset and length do not describe a range of items. Nothing has been added.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for these items.
+     */
+    @Override
+    public void addAll(E[] items, int offset, int length) {
+        Node<E> head;
+        Node<E> tail;
+
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IllegalArgumentException("Invalid range. Offset " + offset + " and length " + length
+                    + " do not fit in an array of length " + items.length);
+        }
+        if (length == 0) { return; }
+
+        head = new Node<>(items[offset], null);
+        tail = head;
+        for (int i = offset + 1; i < offset + length; i++) {
+            tail.setNext(new Node<>(items[i], null));
+            tail = tail.getNext();
+        }
+
+        if (isEmpty()) {
+            front = head;
+        } else {
+            rear.setNext(head);
+        }
+        rear = tail;
+        size += length;
+    }
+
+    /**
+     * public int drainTo(Object[] array, int max)
+     * Mutator method that removes up to max items from the front of this LinkedQueue and copies them, in order, to the
+     * start of the specified array. The removed nodes are unlinked from the front all at once.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this LinkedQueue held fewer items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    @Override
+    public int drainTo(Object[] array, int max) {
+        int count;
+        Node<E> cursor = front;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+
+        count = Math.min(max, size);
+        for (int i = 0; i < count; i++) {
+            array[i] = cursor.getData();
+            cursor = cursor.getNext();
+        }
+
+        front = cursor;
+        size -= count;
+        if (size == 0) {
+            front = null;
+            rear = null;
+        }
+        return count;
+    }
+
     /**
      * public boolean isEmpty()
      * Accessor method that determines whether or not this Queue is empty.
@@ -119,6 +204,44 @@ public class LinkedQueue<E> implements Queue<E> {
         return answer.getData();
     }
 
+    /**
+     * public Queue<E> removeBatch(int max)
+     * Mutator method that removes up to max items from the front of this LinkedQueue and returns them as a new
+     * LinkedQueue. The removed nodes are spliced into the new LinkedQueue as they are, so no node is copied.
+     * @param max
+     *  The largest number of items to remove.
+     * @return Queue<E>
+     *  A new LinkedQueue holding the removed items in the same order. It has fewer than max items if this LinkedQueue
+     *  held fewer.
+     * @postcondition
+     *  The removed items are no longer in this LinkedQueue.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative.
+     */
+    @Override
+    public Queue<E> removeBatch(int max) {
+        LinkedQueue<E> batch = new LinkedQueue<>();
+        Node<E> cut;
+
+        if (max < 0) { throw new IllegalArgumentException("Invalid max. It must not be negative: " + max); }
+        if (max == 0 || size == 0) { return batch; }
+
+        batch.size = Math.min(max, size);
+        cut = front;
+        for (int i = 1; i < batch.size; i++) { cut = cut.getNext(); }
+
+        batch.front = front;
+        batch.rear = cut;
+        front = cut.getNext();
+        cut.setNext(null);
+        size -= batch.size;
+        if (size == 0) {
+            front = null;
+            rear = null;
+        }
+        return batch;
+    }
+
     /**
      * public int size()
      * Accessor method to determine the number of elements in this Queue.
@@ -10,6 +10,8 @@ import org.jetbrains.annotations.Contract;
  *
  * @note
  *   1. Beyond Integer.MAX_VALUE elements, the size method does not work.
+ *   2. An ArrayDeque offers the same push, pop and peek in a circular array, without allocating a node for each
+ *      item.
  *
  * @author mlewis
  * @version Nov 2, 2019
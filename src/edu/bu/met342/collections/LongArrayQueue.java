@@ -0,0 +1,330 @@
+// File LongArrayQueue.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A LongArrayQueue is a First-in/First-out queue of long values, stored in a circular long array. It behaves like an
+ * ArrayQueue in power of two mode, but because the items are primitives rather than Long objects, adding an item
+ * never allocates a box.
+ *
+ * @note
+ *  1. The capacity is always a power of two, no larger than 2^30, so indexes wrap around by masking with capacity - 1.
+ *     The capacity doubles whenever this LongArrayQueue is full.
+ *  2. The primitive methods add(long), addAll(long[], int, int), drainTo(long[], int), getFront() and removeLong()
+ *     should be used wherever possible. The methods add(Long) and remove() exist so that a LongArrayQueue can be used
+ *     as a Queue<Long>, and they box and unbox each item.
+ *  3. A LongArrayQueue cannot hold a null reference, so add(Long) rejects one. As with every other Queue, remove()
+ *     returns null when this LongArrayQueue is empty, whereas removeLong() throws an exception.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class LongArrayQueue implements Queue<Long> {
+    // Invariant of the LongArrayQueue class.
+    // 1. The length of data is a power of two and mask is one less than it.
+    // 2. For a nonempty LongArrayQueue, the items are stored in a circular array beginning at data[front] and
+    //    continuing for size items, so the rear item is at data[(front + size - 1) & mask].
+    // 3. The instance variable size is the number of items in this LongArrayQueue.
+    private long[] data;
+    private int mask;
+    private int front;
+    private int size;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * public LongArrayQueue()
+     * Initialize a LongArrayQueue with an initial capacity of 16 items.
+     * @postcondition
+     *  This LongArrayQueue is empty and has an initial capacity of 16 items.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this LongArrayQueue.
+     */
+    public LongArrayQueue() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * public LongArrayQueue(int capacity)
+     * Initialize a LongArrayQueue with the given initial capacity.
+     * @param capacity
+     *  The initial capacity. It is rounded up to the next power of two.
+     * @postcondition
+     *  This LongArrayQueue is empty and has been initialized with the given initial capacity.
+     * @exception IllegalArgumentException
+     *  Indicates an invalid initial capacity. Initial capacity must not be negative.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this LongArrayQueue.
+     */
+    public LongArrayQueue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be positive: " + capacity);
+        }
+        data = new long[roundUp(capacity)];
+        mask = data.length - 1;
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * public void add(long item)
+     * Mutator method that adds a new item to the rear of this LongArrayQueue.
+     * @param item
+     *  The item to be added to this LongArrayQueue.
+     * @postcondition
+     *  The item has been added to the rear of this LongArrayQueue. If it was full, then its capacity has been doubled.
+     * @exception IllegalStateException
+     *  Indicates that this LongArrayQueue is full and its capacity cannot be doubled.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger LongArrayQueue.
+     */
+    public void add(long item) {
+        if (size == data.length) { ensureCapacity(size + 1); }
+
+        data[(front + size) & mask] = item;
+        size++;
+    }
+
+    /**
+     * public void add(Long item)
+     * Mutator method that unboxes a new item and adds it to the rear of this LongArrayQueue.
+     * @param item
+     *  The item to be added to this LongArrayQueue.
+     * @postcondition
+     *  The item has been added to the rear of this LongArrayQueue. If it was full, then its capacity has been doubled.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception IllegalStateException
+     *  Indicates that this LongArrayQueue is full and its capacity cannot be doubled.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger LongArrayQueue.
+     */
+    @Override
+    public void add(Long item) {
+        if (item == null) { throw new IllegalArgumentException("A LongArrayQueue cannot hold a null item."); }
+        add(item.longValue());
+    }
+
+    /**
+     * public void addAll(long[] items, int offset, int length)
+     * Mutator method that adds a range of items to the rear of this LongArrayQueue, in order, with at most two calls
+     * to System.arraycopy.
+     * @param items
+     *  The array that holds the items.
+     * @param offset
+     *  The index in items of the first item to add.
+     * @param length
+     *  The number of items to add.
+     * @postcondition
+     *  items[offset] through items[offset + length - 1] have been added to the rear of this LongArrayQueue. If there
+     *  was not enough room, then its capacity has been increased first.
+     * @exception IllegalArgumentException
+     *  Indicates that offset and length do not describe a range of items. Nothing has been added.
+     * @exception IllegalStateException
+     *  Indicates that the items would make the capacity exceed 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger LongArrayQueue.
+     */
+    public void addAll(long[] items, int offset, int length) {
+        int start;
+        int distanceToEnd;
+
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IllegalArgumentException("Invalid range. Offset " + offset + " and length " + length
+                    + " do not fit in an array of length " + items.length);
+        }
+        if ((long) size + length > MAX_CAPACITY) {
+            throw new IllegalStateException("This LongArrayQueue is full.");
+        }
+        ensureCapacity(size + length);
+
+        start = (front + size) & mask;
+        distanceToEnd = data.length - start;
+        if (length <= distanceToEnd) {
+            System.arraycopy(items, offset, data, start, length);
+        } else {
+            System.arraycopy(items, offset, data, start, distanceToEnd);
+            System.arraycopy(items, offset + distanceToEnd, data, 0, length - distanceToEnd);
+        }
+        size += length;
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every item from this LongArrayQueue.
+     * @postcondition
+     *  This LongArrayQueue is empty. Its capacity has not changed.
+     */
+    public void clear() {
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * public int drainTo(long[] array, int max)
+     * Mutator method that removes up to max items from the front of this LongArrayQueue and copies them, in order, to
+     * the start of the specified array, with at most two calls to System.arraycopy.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this LongArrayQueue held fewer items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items, and the next item is now the front item.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    public int drainTo(long[] array, int max) {
+        int count;
+        int distanceToEnd;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+
+        count = Math.min(max, size);
+        distanceToEnd = data.length - front;
+        if (count <= distanceToEnd) {
+            System.arraycopy(data, front, array, 0, count);
+        } else {
+            System.arraycopy(data, front, array, 0, distanceToEnd);
+            System.arraycopy(data, 0, array, distanceToEnd, count - distanceToEnd);
+        }
+        front = (front + count) & mask;
+        size -= count;
+        return count;
+    }
+
+    /**
+     * public void ensureCapacity(int capacity)
+     * Increase the capacity of this LongArrayQueue. Note that the capacity will not be increased if the current
+     * capacity is already at least the given capacity.
+     * @param capacity
+     *  The new capacity of this LongArrayQueue. It is rounded up to the next power of two.
+     * @postcondition
+     *  This LongArrayQueue's capacity is at least the given capacity. If it was increased, then the items have been
+     *  copied to start at index 0 of the new array.
+     * @exception IllegalStateException
+     *  Indicates that the capacity exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the larger LongArrayQueue.
+     */
+    public void ensureCapacity(int capacity) {
+        long[] largerArray;
+        int distanceToEnd;
+
+        if (data.length >= capacity) { return; }
+
+        largerArray = new long[roundUp(capacity)];
+        distanceToEnd = data.length - front;
+        if (size <= distanceToEnd) {
+            System.arraycopy(data, front, largerArray, 0, size);
+        } else {
+            System.arraycopy(data, front, largerArray, 0, distanceToEnd);
+            System.arraycopy(data, 0, largerArray, distanceToEnd, size - distanceToEnd);
+        }
+
+        data = largerArray;
+        mask = data.length - 1;
+        front = 0;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the current capacity of this LongArrayQueue.
+     * @return int
+     *  The number of items this LongArrayQueue can hold before it must grow.
+     */
+    public int getCapacity() { return data.length; }
+
+    /**
+     * public long getFront()
+     * Accessor method that returns the front item of this LongArrayQueue without removing it.
+     * @precondition
+     *  This LongArrayQueue is not empty.
+     * @return long
+     *  The front item of this LongArrayQueue.
+     * @exception IllegalStateException
+     *  Indicates that this LongArrayQueue is empty.
+     */
+    public long getFront() {
+        if (size == 0) { throw new IllegalStateException("This LongArrayQueue is empty."); }
+        return data[front];
+    }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this LongArrayQueue is empty.
+     * @return boolean
+     *  True if this LongArrayQueue is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * public Long remove()
+     * Mutator method that removes the front item from this LongArrayQueue and boxes it.
+     * @return Long
+     *  The front item from this LongArrayQueue, or null if it is empty.
+     * @postcondition
+     *  If this LongArrayQueue was not empty, then the front item has been removed and the next item is now the front
+     *  item.
+     */
+    @Override
+    public Long remove() {
+        if (size == 0) { return null; }
+        return removeLong();
+    }
+
+    /**
+     * public long removeLong()
+     * Mutator method that removes the front item from this LongArrayQueue.
+     * @precondition
+     *  This LongArrayQueue is not empty.
+     * @return long
+     *  The front item from this LongArrayQueue.
+     * @postcondition
+     *  The front item has been removed and the next item is now the front item. Size has been decreased by one.
+     * @exception IllegalStateException
+     *  Indicates that this LongArrayQueue is empty.
+     */
+    public long removeLong() {
+        long removedItem;
+
+        if (size == 0) { throw new IllegalStateException("This LongArrayQueue is empty."); }
+
+        removedItem = data[front];
+        front = (front + 1) & mask;
+        size--;
+        return removedItem;
+    }
+
+    /*
+     * private static int roundUp(int capacity)
+     * Helper method that rounds the specified capacity up to a power of two.
+     * @param capacity
+     *  The requested capacity.
+     * @return int
+     *  The smallest power of two that is at least capacity, and at least 1.
+     * @exception IllegalStateException
+     *  Indicates that capacity exceeds 2^30.
+     */
+    private static int roundUp(int capacity) {
+        if (capacity > MAX_CAPACITY) { throw new IllegalStateException("This LongArrayQueue is full."); }
+        if (capacity <= 1) { return 1; }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this LongArrayQueue.
+     * @return int
+     *  The number of items in this LongArrayQueue.
+     */
+    @Override
+    public int size() { return size; }
+}
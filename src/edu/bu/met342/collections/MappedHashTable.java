@@ -0,0 +1,556 @@
+// File MappedHashTable.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**********************************************************************************************************************
+ * A MappedHashTable is a HashTable whose contents live in a memory-mapped file rather than on the heap. Opening an
+ * existing file only maps it into memory, so the table is ready at once no matter how many entries it holds, and the
+ * operating system's page cache keeps the parts in use in memory.
+ *
+ * @note
+ *  1. The file starts with a 64 byte header, followed by one 16 byte slot per bucket, followed by an append-only region
+ *     of values. Each slot holds a key, the state of the bucket (never used, in use, or previously used), and the
+ *     offset of the value's record in the value region. Keeping all three in one slot means a probe touches a single
+ *     cache line per bucket. Each value record is a length followed by the UTF-8 bytes of the value.
+ *  2. Replacing or deleting a value leaves its old record behind. Whenever the slots pass the load factor, or the value
+ *     region fills up while at least half of it is garbage, the table is rebuilt into a new file that holds only the
+ *     live entries, and the new file atomically replaces the old one.
+ *  3. Changes are written to the mapped memory, so they survive the process exiting or crashing. They only survive an
+ *     operating system crash or power loss once flush or close has been called. The file is not journaled, so a
+ *     power loss in the middle of an update can leave that update partly written.
+ *  4. The whole file is mapped at once, so the file cannot exceed Integer.MAX_VALUE bytes.
+ *  5. A MappedHashTable is not safe for use by more than one thread, or by more than one process, at a time.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class MappedHashTable implements Map, Closeable {
+    // Invariant of the MappedHashTable class.
+    // 1. The instance variable buffer maps the whole file at path through channel. The header at the start of buffer
+    //    holds the capacity, size, tombstones, valueEnd, and garbage, and the instance variables of the same names are
+    //    always equal to the header.
+    // 2. The slot for bucket index starts at slotOffset(index). The proper bucket for a key is at
+    //    OpenAddressing.hash(key) & mask, and buckets are probed linearly from there. A probe sequence ends at the
+    //    first bucket that has never been used.
+    // 3. size is the number of slots in use and tombstones is the number of slots that were used but no longer are.
+    //    Their sum never exceeds threshold, which is less than capacity.
+    // 4. The value region starts at valueStart and the next record is appended at valueEnd. garbage is the number of
+    //    bytes before valueEnd that belong to records no slot refers to anymore.
+    private Path path;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int mask;
+    private int threshold;
+    private int size;
+    private int tombstones;
+    private long valueStart;
+    private long valueEnd;
+    private long garbage;
+    private static final int MAGIC = 0x4D485431; // "MHT1"
+    private static final int CAPACITY = 1024;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int MAX_CAPACITY = 1 << 26;
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 16;
+    private static final int CAPACITY_FIELD = 4;
+    private static final int SIZE_FIELD = 8;
+    private static final int TOMBSTONES_FIELD = 12;
+    private static final int VALUE_END_FIELD = 16;
+    private static final int GARBAGE_FIELD = 24;
+    private static final int NEVER_USED = 0;
+    private static final int IN_USE = 1;
+    private static final int PREVIOUSLY_USED = 2;
+    private static final int NULL_VALUE = -1;
+
+    /**
+     * public MappedHashTable(Path path)
+     * Open the MappedHashTable stored in the specified file. If the file does not exist, then it is created with room
+     * for 1024 buckets.
+     * @param path
+     *  The file that holds this MappedHashTable.
+     * @postcondition
+     *  The file has been mapped into memory and every entry it holds is available.
+     * @exception IllegalArgumentException
+     *  Indicates that the file exists but does not hold a MappedHashTable.
+     * @exception IOException
+     *  Indicates that the file could not be opened, created, or mapped.
+     */
+    public MappedHashTable(Path path) throws IOException {
+        this(path, CAPACITY);
+    }
+
+    /**
+     * public MappedHashTable(Path path, int capacity)
+     * Open the MappedHashTable stored in the specified file. If the file does not exist, then it is created with room
+     * for the specified number of buckets.
+     * @param path
+     *  The file that holds this MappedHashTable.
+     * @param capacity
+     *  The number of buckets to create if the file does not exist. It is rounded up to a power of two. It is ignored
+     *  if the file already exists.
+     * @postcondition
+     *  The file has been mapped into memory and every entry it holds is available.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative or that the file exists but does not hold a MappedHashTable.
+     * @exception IOException
+     *  Indicates that the file could not be opened, created, or mapped.
+     */
+    public MappedHashTable(Path path, int capacity) throws IOException {
+        int buckets;
+
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        this.path = path;
+        if (Files.exists(path)) {
+            open();
+        } else {
+            buckets = OpenAddressing.tableSizeFor(capacity, 2, MAX_CAPACITY);
+            create(path, buckets, HEADER_BYTES + (long) buckets * SLOT_BYTES);
+            open();
+        }
+    }
+
+    /**
+     * public void close()
+     * Writes every change to the storage device and closes the file.
+     * @postcondition
+     *  Every change has been written to the storage device and this MappedHashTable can no longer be used.
+     * @exception IOException
+     *  Indicates that the file could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * public boolean contains(int k)
+     * Accessor method that confirms whether or not a specified key is in this MappedHashTable.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this MappedHashTable. Otherwise false.
+     */
+    @Override
+    public boolean contains(int k) { return findIndex(k) != -1; }
+
+    /*
+     * private static void create(Path path, int capacity, long length)
+     * Helper method that creates a file holding an empty MappedHashTable.
+     * @param path
+     *  The file to create. Any existing file is replaced.
+     * @param capacity
+     *  The number of buckets. Must be a power of two.
+     * @param length
+     *  The initial length of the file. Must be large enough for the header and every slot.
+     * @postcondition
+     *  The file holds a header and capacity slots that have never been used, followed by an empty value region.
+     * @exception IOException
+     *  Indicates that the file could not be created.
+     */
+    private static void create(Path path, int capacity, long length) throws IOException {
+        MappedByteBuffer header;
+
+        try (FileChannel created = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            header = created.map(FileChannel.MapMode.READ_WRITE, 0, length); // Newly mapped file bytes are zero.
+            header.order(ByteOrder.nativeOrder());
+            header.putInt(0, MAGIC);
+            header.putInt(CAPACITY_FIELD, capacity);
+            header.putLong(VALUE_END_FIELD, HEADER_BYTES + (long) capacity * SLOT_BYTES);
+            header.force();
+        }
+    }
+
+    /**
+     * public void delete(int k)
+     * Mutator method that removes the specified key and it's value from this MappedHashTable.
+     * @param k
+     *  The key to search for.
+     * @postcondition
+     *  The specified key and it's value have been removed from this MappedHashTable if they existed. Otherwise, no
+     *  mutation occurs.
+     */
+    @Override
+    public void delete(int k) {
+        int index = findIndex(k);
+        int slot;
+
+        if (index == -1) { return; }
+
+        slot = slotOffset(index);
+        garbage += recordLength(buffer.getLong(slot + 8));
+        buffer.putInt(slot + 4, PREVIOUSLY_USED);
+        size--;
+        tombstones++;
+        writeHeader();
+    }
+
+    /*
+     * private int findIndex(int k)
+     * Helper method that returns the index of the specified key if it exists. Otherwise it returns -1.
+     * @param k
+     *  The key to search for.
+     * @return int
+     *  The index of the specified key or -1 if the key is not in this MappedHashTable.
+     */
+    private int findIndex(int k) {
+        int index = OpenAddressing.hash(k) & mask;
+        int slot;
+        int state;
+
+        for (int count = 0; count < capacity; count++) {
+            slot = slotOffset(index);
+            state = buffer.getInt(slot + 4);
+            if (state == NEVER_USED) { return -1; }
+            if (state == IN_USE && buffer.getInt(slot) == k) { return index; }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * public void flush()
+     * Writes every change made so far to the storage device.
+     * @postcondition
+     *  Every change made so far will survive an operating system crash or power loss.
+     */
+    public void flush() { buffer.force(); }
+
+    /**
+     * public String get(int k)
+     * Accessor method that retrieves the value associated with the specified key.
+     * @param k
+     *  The key to search for.
+     * @return String
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     */
+    @Override
+    public String get(int k) {
+        int index = findIndex(k);
+        long offset;
+        int length;
+        byte[] bytes;
+
+        if (index == -1) { return null; }
+
+        offset = buffer.getLong(slotOffset(index) + 8);
+        length = buffer.getInt((int) offset);
+        if (length == NULL_VALUE) { return null; }
+
+        bytes = new byte[length];
+        buffer.get((int) offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that retrieves the capacity of this MappedHashTable.
+     * @return int
+     *  The number of buckets in this MappedHashTable.
+     */
+    public int getCapacity() { return capacity; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in this MappedHashTable.
+     * @return int
+     *  The number of entries in this MappedHashTable.
+     */
+    public int getSize() { return size; }
+
+    /*
+     * private void map(long length)
+     * Helper method that maps the first length bytes of the file, extending the file if it is shorter.
+     * @param length
+     *  The number of bytes to map.
+     * @postcondition
+     *  buffer maps the first length bytes of the file.
+     * @exception IllegalStateException
+     *  Indicates that length exceeds Integer.MAX_VALUE bytes.
+     * @exception IOException
+     *  Indicates that the file could not be mapped.
+     */
+    private void map(long length) throws IOException {
+        if (length > Integer.MAX_VALUE) { throw new IllegalStateException("This MappedHashTable is full."); }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+        buffer.order(ByteOrder.nativeOrder());
+    }
+
+    /*
+     * private void open()
+     * Helper method that opens and maps the file at path and reads its header.
+     * @postcondition
+     *  channel and buffer refer to the file, and every instance variable matches the header.
+     * @exception IllegalArgumentException
+     *  Indicates that the file does not hold a MappedHashTable.
+     * @exception IOException
+     *  Indicates that the file could not be opened or mapped.
+     */
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        map(channel.size());
+
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            channel.close();
+            throw new IllegalArgumentException("The file does not hold a MappedHashTable: " + path);
+        }
+
+        capacity = buffer.getInt(CAPACITY_FIELD);
+        size = buffer.getInt(SIZE_FIELD);
+        tombstones = buffer.getInt(TOMBSTONES_FIELD);
+        valueEnd = buffer.getLong(VALUE_END_FIELD);
+        garbage = buffer.getLong(GARBAGE_FIELD);
+        mask = capacity - 1;
+        threshold = (int) Math.min(capacity * LOAD_FACTOR, capacity - 1);
+        valueStart = HEADER_BYTES + (long) capacity * SLOT_BYTES;
+    }
+
+    /**
+     * public void printHash()
+     * Prints every key and value pair in this MappedHashTable.
+     * @postcondition
+     *  The keys and values in this MappedHashTable have been written using System.out.println().
+     */
+    @Override
+    public void printHash() {
+        System.out.println(toString());
+    }
+
+    /**
+     * public void put(int k, String v)
+     * Mutator method that adds the specified key and value to this MappedHashTable. If the specified key was already
+     * in this MappedHashTable, then the old value will be replaced with the specified value.
+     * @param k
+     *  The key to add.
+     * @param v
+     *  The value associated with the specified key. May be null.
+     * @postcondition
+     *  The value has been appended to the value region and the slot for the key refers to it. If the key already
+     *  existed, then its old value has become garbage. If the slots or the value region were full, then the table has
+     *  been rebuilt first.
+     * @exception IllegalStateException
+     *  Indicates that this MappedHashTable has reached its maximum size.
+     * @exception UncheckedIOException
+     *  Indicates that the file could not be extended or rebuilt.
+     */
+    @Override
+    public void put(int k, String v) {
+        byte[] bytes = v == null ? null : v.getBytes(StandardCharsets.UTF_8);
+        int index = findIndex(k);
+        int slot;
+
+        try {
+            if (index == -1 && size + tombstones >= threshold) {
+                if (capacity == MAX_CAPACITY && size >= threshold / 2) {
+                    throw new IllegalStateException("This MappedHashTable is full.");
+                }
+                rebuild(size >= threshold / 2 ? capacity * 2 : capacity);
+            }
+            if (reserve(bytes == null ? 4 : 4 + bytes.length) && index != -1) {
+                index = findIndex(k); // The slot may have moved because the table was rebuilt.
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (index == -1) {
+            index = OpenAddressing.hash(k) & mask;
+            while (buffer.getInt(slotOffset(index) + 4) == IN_USE) { index = (index + 1) & mask; }
+            slot = slotOffset(index);
+            if (buffer.getInt(slot + 4) == PREVIOUSLY_USED) { tombstones--; }
+            buffer.putInt(slot, k);
+            size++;
+        } else {
+            slot = slotOffset(index);
+            garbage += recordLength(buffer.getLong(slot + 8));
+        }
+
+        buffer.putLong(slot + 8, writeRecord(bytes));
+        buffer.putInt(slot + 4, IN_USE);
+        writeHeader();
+    }
+
+    /*
+     * private void rebuild(int newCapacity)
+     * Helper method that copies every live entry into a new file with the specified number of buckets and then
+     * replaces the file at path with the new file. Previously used buckets and garbage records are left behind.
+     * @param newCapacity
+     *  The number of buckets in the new file. Must be a power of two that is larger than size.
+     * @postcondition
+     *  The file at path holds only the live entries, tombstones and garbage are zero, and every instance variable
+     *  matches the new header.
+     * @exception IOException
+     *  Indicates that the new file could not be written or moved into place.
+     */
+    private void rebuild(int newCapacity) throws IOException {
+        Path rebuilt = path.resolveSibling(path.getFileName() + ".rebuild");
+        MappedHashTable target;
+        long liveBytes = valueEnd - valueStart - garbage;
+        int slot;
+        int index;
+        long offset;
+        byte[] record;
+
+        create(rebuilt, newCapacity, HEADER_BYTES + (long) newCapacity * SLOT_BYTES + liveBytes);
+        target = new MappedHashTable(rebuilt, newCapacity);
+
+        for (int i = 0; i < capacity; i++) {
+            slot = slotOffset(i);
+            if (buffer.getInt(slot + 4) == IN_USE) {
+                offset = buffer.getLong(slot + 8);
+                record = new byte[recordLength(offset)];
+                buffer.get((int) offset, record);
+
+                index = OpenAddressing.hash(buffer.getInt(slot)) & target.mask;
+                while (target.buffer.getInt(target.slotOffset(index) + 4) == IN_USE) {
+                    index = (index + 1) & target.mask;
+                }
+                target.buffer.putInt(target.slotOffset(index), buffer.getInt(slot));
+                target.buffer.putInt(target.slotOffset(index) + 4, IN_USE);
+                target.buffer.putLong(target.slotOffset(index) + 8, target.valueEnd);
+                target.buffer.put((int) target.valueEnd, record);
+                target.valueEnd += record.length;
+                target.size++;
+            }
+        }
+        target.writeHeader();
+        target.close();
+
+        channel.close();
+        Files.move(rebuilt, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        open();
+    }
+
+    /*
+     * private int recordLength(long offset)
+     * Helper method that returns the number of bytes used by the value record at the specified offset.
+     * @param offset
+     *  The offset of a value record.
+     * @return int
+     *  The length of the record, including the length field itself.
+     */
+    private int recordLength(long offset) {
+        int length = buffer.getInt((int) offset);
+        return length == NULL_VALUE ? 4 : 4 + length;
+    }
+
+    /*
+     * private boolean reserve(int length)
+     * Helper method that makes sure a record of the specified length can be appended to the value region. If it
+     * cannot, then the table is rebuilt without its garbage when there is some garbage and it is at least half of the
+     * value region, and the file is extended otherwise. A value region with no garbage, such as the empty region of a
+     * new table, is never rebuilt, because rebuilding it would copy the whole file without freeing anything.
+     * @param length
+     *  The length of the record that is about to be appended.
+     * @return boolean
+     *  True if the table was rebuilt, in which case every entry may be in a different slot. Otherwise false.
+     * @postcondition
+     *  At least length bytes are mapped after valueEnd.
+     * @exception IllegalStateException
+     *  Indicates that the file would exceed Integer.MAX_VALUE bytes.
+     * @exception IOException
+     *  Indicates that the file could not be extended or rebuilt.
+     */
+    private boolean reserve(int length) throws IOException {
+        long needed = valueEnd + length;
+        boolean rebuilt = false;
+
+        if (needed <= buffer.capacity()) { return false; }
+
+        if (garbage > 0 && garbage >= (valueEnd - valueStart) / 2) {
+            rebuild(capacity);
+            rebuilt = true;
+            needed = valueEnd + length;
+            if (needed <= buffer.capacity()) { return true; }
+        }
+
+        map(Math.max(needed, Math.min(2L * buffer.capacity(), Integer.MAX_VALUE)));
+        return rebuilt;
+    }
+
+    /*
+     * private int slotOffset(int index)
+     * Helper method that returns the offset in the file of the slot for the specified bucket.
+     * @param index
+     *  The index of a bucket.
+     * @return int
+     *  The offset of the slot. The key is at this offset, the state at this offset + 4, and the offset of the value
+     *  record at this offset + 8.
+     */
+    private int slotOffset(int index) { return HEADER_BYTES + index * SLOT_BYTES; }
+
+    /**
+     * public String toString()
+     * Returns every key and value pair in this MappedHashTable.
+     * @return String
+     *  One line for each key and value pair in this MappedHashTable.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        int key;
+
+        for (int i = 0; i < capacity; i++) {
+            if (buffer.getInt(slotOffset(i) + 4) == IN_USE) {
+                key = buffer.getInt(slotOffset(i));
+                stringBuilder.append("Key[").append(key).append("] = ").append(get(key)).append("\n");
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /*
+     * private void writeHeader()
+     * Helper method that copies size, tombstones, valueEnd, and garbage into the header.
+     * @postcondition
+     *  The header matches the instance variables.
+     */
+    private void writeHeader() {
+        buffer.putInt(SIZE_FIELD, size);
+        buffer.putInt(TOMBSTONES_FIELD, tombstones);
+        buffer.putLong(VALUE_END_FIELD, valueEnd);
+        buffer.putLong(GARBAGE_FIELD, garbage);
+    }
+
+    /*
+     * private long writeRecord(byte[] bytes)
+     * Helper method that appends a value record at valueEnd.
+     * @param bytes
+     *  The UTF-8 bytes of the value, or null for a null value.
+     * @return long
+     *  The offset of the new record.
+     * @precondition
+     *  reserve has made room for the record.
+     */
+    private long writeRecord(byte[] bytes) {
+        long offset = valueEnd;
+
+        if (bytes == null) {
+            buffer.putInt((int) offset, NULL_VALUE);
+            valueEnd += 4;
+        } else {
+            buffer.putInt((int) offset, bytes.length);
+            buffer.put((int) offset + 4, bytes);
+            valueEnd += 4 + bytes.length;
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,541 @@
+// File MappedQueue.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**********************************************************************************************************************
+ * A MappedQueue is a First-in/First-out queue of byte arrays that lives in a directory of memory-mapped files rather
+ * than on the heap. Its items survive the process exiting or crashing, and the number of items is limited by the free
+ * space on the disk rather than by the size of the heap.
+ *
+ * @note
+ *  1. Items are appended to a chain of segment files, 64 MB each by default. Each record is an 8 byte header, holding
+ *     the length of the item and the number of its segment, followed by the item padded to a multiple of 8 bytes. When
+ *     a record does not fit in the current segment, an end of segment marker is written and the next segment is
+ *     started.
+ *  2. The position of the front item is kept in a small mapped file of its own and is updated by every remove, so a
+ *     MappedQueue that is opened again continues with the first item that had not been removed.
+ *  3. Once every item of a segment has been removed, the file is recycled. Up to two drained files are kept as spares
+ *     and renamed to become the next segments, so the writer rarely has to create and grow a new file. Because a
+ *     recycled file still holds its old records, a record only counts if the segment number in its header matches the
+ *     segment it is in.
+ *  4. add copies an item straight into the mapped page cache and removeView returns a read-only view of it in the page
+ *     cache, so neither copies the item through any other buffer. remove copies the item into a new byte array.
+ *  5. Changes survive the process exiting or crashing as soon as they are made. They only survive an operating system
+ *     crash or power loss once flush or close has been called. A segment is also written to the storage device when
+ *     the writer moves on from it.
+ *  6. Beyond Integer.MAX_VALUE items, the size method does not work.
+ *  7. A MappedQueue is not safe for use by more than one thread, or by more than one process, at a time.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class MappedQueue implements Queue<byte[]>, Closeable {
+    // Invariant of the MappedQueue class.
+    // 1. Segments are numbered from 1 and stored in directory under segmentPath(number). Every segment from
+    //    readSegment to writeSegment exists, and no other segment does.
+    // 2. Items are added at writeOffset in writeBuffer, which maps segment writeSegment. There is always room for an
+    //    end of segment marker at writeOffset.
+    // 3. The front item is at readOffset in readBuffer, which maps segment readSegment. If readSegment is writeSegment,
+    //    then readBuffer is writeBuffer. positionBuffer always holds readSegment and readOffset.
+    // 4. count is the number of items from the front item up to writeOffset in writeSegment.
+    // 5. spares holds the recycled segment files that are ready to become new segments. There are at most MAX_SPARES.
+    private Path directory;
+    private int segmentSize;
+    private MappedByteBuffer writeBuffer;
+    private long writeSegment;
+    private int writeOffset;
+    private MappedByteBuffer readBuffer;
+    private long readSegment;
+    private int readOffset;
+    private MappedByteBuffer positionBuffer;
+    private long count;
+    private LinkedQueue<Path> spares;
+    private static final int MAGIC = 0x4D515331; // "MQS1"
+    private static final int POSITION_MAGIC = 0x4D515031; // "MQP1"
+    private static final String POSITION_FILE = "consumer.position";
+    private static final int POSITION_FIELD = 8;
+    private static final int SEGMENT_SIZE = 1 << 26;
+    private static final int MIN_SEGMENT_SIZE = 1 << 12;
+    private static final int MAX_SEGMENT_SIZE = 1 << 30;
+    private static final int SEGMENT_HEADER_BYTES = 16;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final int MAX_SPARES = 2;
+
+    /**
+     * public MappedQueue(Path directory)
+     * Open the MappedQueue stored in the specified directory, with 64 MB segments. If the directory does not exist,
+     * then it is created and the MappedQueue is empty.
+     * @param directory
+     *  The directory that holds this MappedQueue.
+     * @postcondition
+     *  Every item that was added and not removed before the MappedQueue was last closed, or its process ended, is in
+     *  this MappedQueue in the same order.
+     * @exception IllegalArgumentException
+     *  Indicates that the directory holds files that do not belong to a MappedQueue.
+     * @exception IOException
+     *  Indicates that the directory or its files could not be created, opened, or mapped.
+     */
+    public MappedQueue(Path directory) throws IOException {
+        this(directory, SEGMENT_SIZE);
+    }
+
+    /**
+     * public MappedQueue(Path directory, int segmentSize)
+     * Open the MappedQueue stored in the specified directory. If the directory does not exist, then it is created and
+     * the MappedQueue is empty.
+     * @param directory
+     *  The directory that holds this MappedQueue.
+     * @param segmentSize
+     *  The size in bytes of each new segment file. Segments that already exist keep their own size.
+     * @postcondition
+     *  Every item that was added and not removed before the MappedQueue was last closed, or its process ended, is in
+     *  this MappedQueue in the same order.
+     * @exception IllegalArgumentException
+     *  Indicates that segmentSize is less than 4 KB or more than 1 GB, or that the directory holds files that do not
+     *  belong to a MappedQueue.
+     * @exception IOException
+     *  Indicates that the directory or its files could not be created, opened, or mapped.
+     */
+    public MappedQueue(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE || segmentSize > MAX_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be from 4 KB to 1 GB: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        spares = new LinkedQueue<>();
+        open();
+    }
+
+    /**
+     * public void add(byte[] item)
+     * Mutator method that appends a new item to the rear of this MappedQueue.
+     * @param item
+     *  The item to be added to this MappedQueue.
+     * @postcondition
+     *  The item has been copied into the current segment. If it did not fit, then the next segment has been started.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null or too large to fit in a segment.
+     * @exception UncheckedIOException
+     *  Indicates that the next segment could not be created or mapped.
+     */
+    @Override
+    public void add(byte[] item) {
+        if (item == null) { throw new IllegalArgumentException("A MappedQueue cannot hold a null item."); }
+        if (item.length > segmentSize - SEGMENT_HEADER_BYTES - 2 * RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("The item is too large for a segment: " + item.length + " bytes");
+        }
+
+        if (writeOffset + RECORD_HEADER_BYTES + align(item.length) + RECORD_HEADER_BYTES > writeBuffer.capacity()) {
+            try {
+                roll();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        writeBuffer.put(writeOffset + RECORD_HEADER_BYTES, item);
+        writeBuffer.putInt(writeOffset, item.length);
+        writeBuffer.putInt(writeOffset + 4, (int) writeSegment); // Written last, so a torn record never counts.
+        writeOffset += RECORD_HEADER_BYTES + align(item.length);
+        count++;
+    }
+
+    /*
+     * private void advance()
+     * Helper method that moves the front of this MappedQueue to the start of the next segment and recycles the segment
+     * it leaves.
+     * @precondition
+     *  The front of this MappedQueue is at the end of segment marker of a segment before writeSegment.
+     * @postcondition
+     *  readSegment has been incremented, readOffset is the start of its first record, and the position has been saved.
+     *  The old segment has become a spare or has been deleted.
+     * @exception UncheckedIOException
+     *  Indicates that the next segment could not be mapped or the old one could not be recycled.
+     */
+    private void advance() {
+        try {
+            readBuffer = readSegment + 1 == writeSegment ? writeBuffer : map(readSegment + 1, false);
+            readSegment++;
+            readOffset = SEGMENT_HEADER_BYTES;
+            writePosition(); // Save the new position before the old segment disappears.
+            recycle(readSegment - 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+     * private static int align(int length)
+     * Helper method that rounds the length of an item up to a multiple of 8, so that every record header is aligned.
+     * @param length
+     *  The length of an item, which is not negative.
+     * @return int
+     *  The smallest multiple of 8 that is at least length.
+     */
+    private static int align(int length) { return (length + 7) & ~7; }
+
+    /**
+     * public void close()
+     * Writes every change to the storage device.
+     * @postcondition
+     *  Every change has been written to the storage device and this MappedQueue can no longer be used.
+     */
+    @Override
+    public void close() {
+        flush();
+        writeBuffer = null;
+        readBuffer = null;
+        positionBuffer = null;
+    }
+
+    /**
+     * public void flush()
+     * Writes every change made so far to the storage device.
+     * @postcondition
+     *  Every item added and every item removed so far will survive an operating system crash or power loss.
+     */
+    public void flush() {
+        writeBuffer.force();
+        positionBuffer.force();
+    }
+
+    /**
+     * public int getSegmentCount()
+     * Accessor method that returns the number of segment files that hold items of this MappedQueue.
+     * @return int
+     *  The number of segments from the front segment to the rear segment inclusive. Spare files are not counted.
+     */
+    public int getSegmentCount() { return (int) (writeSegment - readSegment + 1); }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this MappedQueue is empty.
+     * @return boolean
+     *  True if this MappedQueue is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return count == 0; }
+
+    /*
+     * private boolean isUnstarted(long number)
+     * Helper method that determines whether a segment file was created but its header was never written, as happens
+     * when the writer crashes inside map while starting a new segment.
+     * @param number
+     *  The number of an existing segment.
+     * @return boolean
+     *  True if the file is too short to hold a header or its header is still zero. Otherwise false.
+     * @exception IOException
+     *  Indicates that the file could not be read.
+     */
+    private boolean isUnstarted(long number) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.nativeOrder());
+
+        try (FileChannel channel = FileChannel.open(segmentPath(number), StandardOpenOption.READ)) {
+            channel.read(header, 0);
+        }
+        return header.position() < Integer.BYTES || header.getInt(0) == 0;
+    }
+
+    /*
+     * private MappedByteBuffer map(long number, boolean create)
+     * Helper method that maps the whole of the specified segment file.
+     * @param number
+     *  The number of the segment.
+     * @param create
+     *  True to start a new segment, from a spare file if there is one and the segment file does not exist yet. False
+     *  to map a segment that already exists.
+     * @return MappedByteBuffer
+     *  The mapped segment, in native byte order.
+     * @exception IllegalArgumentException
+     *  Indicates that an existing file does not hold a segment of a MappedQueue.
+     * @exception IOException
+     *  Indicates that the file could not be created, renamed, or mapped.
+     */
+    private MappedByteBuffer map(long number, boolean create) throws IOException {
+        Path path = segmentPath(number);
+        Path spare = create && Files.notExists(path) ? spares.remove() : null;
+        MappedByteBuffer segment;
+
+        if (spare != null) { Files.move(spare, path, StandardCopyOption.ATOMIC_MOVE); }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // Mapping past the end of a new file extends it with zero bytes. The mapping stays valid after closing.
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, create ? segmentSize : channel.size());
+        }
+        segment.order(ByteOrder.nativeOrder());
+
+        if (create) {
+            segment.putInt(0, MAGIC);
+        } else if (segment.capacity() < SEGMENT_HEADER_BYTES || segment.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("The file is not a segment of a MappedQueue: " + path);
+        }
+        return segment;
+    }
+
+    /*
+     * private static int nextRecord(MappedByteBuffer segment, long number, int offset)
+     * Helper method that checks for a record at the specified offset of a segment and finds the record after it.
+     * @param segment
+     *  The mapped segment.
+     * @param number
+     *  The number of the segment.
+     * @param offset
+     *  The offset of a possible record.
+     * @return int
+     *  The offset just after the record, or -1 if there is no record at offset. An end of segment marker, a record
+     *  left over from before the file was recycled, and bytes that were never written are not records.
+     */
+    private static int nextRecord(MappedByteBuffer segment, long number, int offset) {
+        int length;
+
+        if (offset + RECORD_HEADER_BYTES > segment.capacity() || segment.getInt(offset + 4) != (int) number) {
+            return -1;
+        }
+        length = segment.getInt(offset);
+        if (length < 0 || length > segment.capacity() - offset - RECORD_HEADER_BYTES) { return -1; }
+        return offset + RECORD_HEADER_BYTES + align(length);
+    }
+
+    /*
+     * private void open()
+     * Helper method that opens the files in directory and recovers the state of this MappedQueue from them.
+     * @postcondition
+     *  Every instance variable satisfies the invariant. Segments before the front segment, left behind by a crash,
+     *  have been recycled. If the writer crashed while moving to a new segment, then the new segment has been started
+     *  again if its header was never written, and every segment before it ends with an end of segment marker.
+     * @exception IllegalArgumentException
+     *  Indicates that the directory holds files that do not belong to a MappedQueue.
+     * @exception IOException
+     *  Indicates that the directory or its files could not be created, opened, or mapped.
+     */
+    private void open() throws IOException {
+        long first = Long.MAX_VALUE;
+        long last = 0;
+        long position;
+        long number;
+        String name;
+        MappedByteBuffer segment;
+        int offset;
+        int next;
+
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.dat")) {
+            for (Path file : files) {
+                name = file.getFileName().toString();
+                if (name.startsWith("spare-") && spares.size() < MAX_SPARES) {
+                    spares.add(file);
+                } else if (name.startsWith("spare-")) {
+                    Files.delete(file);
+                } else if (name.startsWith("segment-")) {
+                    number = Long.parseLong(name.substring(8, name.length() - 4));
+                    first = Math.min(first, number);
+                    last = Math.max(last, number);
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(directory.resolve(POSITION_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            positionBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, 2 * Long.BYTES);
+        }
+        positionBuffer.order(ByteOrder.nativeOrder());
+        if (positionBuffer.getInt(0) == 0) {
+            positionBuffer.putInt(0, POSITION_MAGIC);
+        } else if (positionBuffer.getInt(0) != POSITION_MAGIC) {
+            throw new IllegalArgumentException("The directory does not hold a MappedQueue: " + directory);
+        }
+
+        if (last == 0) {
+            writeSegment = 1;
+            writeBuffer = map(writeSegment, true);
+            writeOffset = SEGMENT_HEADER_BYTES;
+            readSegment = writeSegment;
+            readBuffer = writeBuffer;
+            readOffset = writeOffset;
+            count = 0;
+            writePosition();
+            return;
+        }
+
+        position = positionBuffer.getLong(POSITION_FIELD);
+        readSegment = position >>> 32;
+        readOffset = (int) position;
+        if (readSegment < first || readSegment > last) {
+            readSegment = first;
+            readOffset = SEGMENT_HEADER_BYTES;
+        }
+        for (long s = first; s < readSegment; s++) {
+            if (Files.exists(segmentPath(s))) { recycle(s); }
+        }
+
+        writeSegment = last;
+        writeBuffer = map(writeSegment, isUnstarted(writeSegment)); // roll() may have crashed before writing MAGIC.
+        writeOffset = SEGMENT_HEADER_BYTES;
+        while ((next = nextRecord(writeBuffer, writeSegment, writeOffset)) != -1) { writeOffset = next; }
+        if (writeOffset + RECORD_HEADER_BYTES <= writeBuffer.capacity()
+                && writeBuffer.getInt(writeOffset) == END_OF_SEGMENT
+                && writeBuffer.getInt(writeOffset + 4) == (int) writeSegment) {
+            roll(); // The writer stopped after ending this segment but before starting the next one.
+        }
+
+        readBuffer = readSegment == writeSegment ? writeBuffer : map(readSegment, false);
+        count = 0;
+        segment = readBuffer;
+        offset = readOffset;
+        for (long s = readSegment; ; s++) {
+            while ((next = nextRecord(segment, s, offset)) != -1) {
+                count++;
+                offset = next;
+            }
+            if (s >= writeSegment) { break; }
+            if (segment.getInt(offset) != END_OF_SEGMENT || segment.getInt(offset + 4) != (int) s) {
+                // roll() starts the next segment before ending this one, so a crash between the two leaves this
+                // segment without its marker. Its records stop here, so end it here.
+                segment.putInt(offset, END_OF_SEGMENT);
+                segment.putInt(offset + 4, (int) s);
+                segment.force();
+            }
+            segment = s + 1 == writeSegment ? writeBuffer : map(s + 1, false);
+            offset = SEGMENT_HEADER_BYTES;
+        }
+        writePosition();
+    }
+
+    /*
+     * private void recycle(long number)
+     * Helper method that turns a segment whose items have all been removed into a spare file, or deletes it if there
+     * are enough spares already.
+     * @param number
+     *  The number of the segment, which must be before readSegment.
+     * @postcondition
+     *  The segment file no longer exists under its segment name.
+     * @exception IOException
+     *  Indicates that the file could not be renamed or deleted.
+     */
+    private void recycle(long number) throws IOException {
+        Path path = segmentPath(number);
+        Path spare;
+
+        if (spares.size() < MAX_SPARES && Files.size(path) == segmentSize) {
+            spare = directory.resolve("spare-" + number + ".dat");
+            Files.move(path, spare, StandardCopyOption.ATOMIC_MOVE);
+            spares.add(spare);
+        } else {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * public byte[] remove()
+     * Mutator method that removes the front item from this MappedQueue and copies it into a new array.
+     * @return byte[]
+     *  The front item from this MappedQueue, or null if it is empty.
+     * @postcondition
+     *  If this MappedQueue was not empty, then the front item has been removed and the new position has been saved.
+     * @exception UncheckedIOException
+     *  Indicates that the next segment could not be mapped or the old one could not be recycled.
+     */
+    @Override
+    public byte[] remove() {
+        ByteBuffer view = removeView();
+        byte[] item;
+
+        if (view == null) { return null; }
+
+        item = new byte[view.remaining()];
+        view.get(item);
+        return item;
+    }
+
+    /**
+     * public ByteBuffer removeView()
+     * Mutator method that removes the front item from this MappedQueue without copying it.
+     * @return ByteBuffer
+     *  A read-only view of the front item in its mapped segment, or null if this MappedQueue is empty. The view is only
+     *  valid until the next call to remove or removeView, after which its segment may be recycled and overwritten.
+     * @postcondition
+     *  If this MappedQueue was not empty, then the front item has been removed and the new position has been saved.
+     * @exception UncheckedIOException
+     *  Indicates that the next segment could not be mapped or the old one could not be recycled.
+     */
+    public ByteBuffer removeView() {
+        int length;
+        ByteBuffer view;
+
+        if (count == 0) { return null; }
+
+        length = readBuffer.getInt(readOffset);
+        if (length == END_OF_SEGMENT) {
+            advance();
+            length = readBuffer.getInt(readOffset);
+        }
+
+        view = readBuffer.slice(readOffset + RECORD_HEADER_BYTES, length).asReadOnlyBuffer();
+        readOffset += RECORD_HEADER_BYTES + align(length);
+        count--;
+        writePosition();
+        return view;
+    }
+
+    /*
+     * private void roll()
+     * Helper method that ends the current segment and starts the next one.
+     * @postcondition
+     *  The current segment ends with an end of segment marker and has been written to the storage device. writeBuffer
+     *  maps a new, empty segment numbered writeSegment.
+     * @exception IOException
+     *  Indicates that the new segment could not be created or mapped.
+     */
+    private void roll() throws IOException {
+        MappedByteBuffer next = map(writeSegment + 1, true); // Start the next segment before ending this one.
+
+        writeBuffer.putInt(writeOffset, END_OF_SEGMENT);
+        writeBuffer.putInt(writeOffset + 4, (int) writeSegment);
+        writeBuffer.force();
+        writeBuffer = next;
+        writeSegment++;
+        writeOffset = SEGMENT_HEADER_BYTES;
+    }
+
+    /*
+     * private Path segmentPath(long number)
+     * Helper method that returns the path of the specified segment file.
+     * @param number
+     *  The number of the segment.
+     * @return Path
+     *  The path of the segment in directory. The number is padded with zeros so that names sort in segment order.
+     */
+    private Path segmentPath(long number) { return directory.resolve(String.format("segment-%019d.dat", number)); }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this MappedQueue.
+     * @return int
+     *  The number of items in this MappedQueue.
+     */
+    @Override
+    public int size() { return (int) Math.min(count, Integer.MAX_VALUE); }
+
+    /*
+     * private void writePosition()
+     * Helper method that saves the position of the front item.
+     * @postcondition
+     *  The position file holds readSegment and readOffset, packed into one long so that it is written in one store.
+     */
+    private void writePosition() { positionBuffer.putLong(POSITION_FIELD, readSegment << 32 | readOffset); }
+}
@@ -0,0 +1,412 @@
+// File MpmcArrayQueue.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**********************************************************************************************************************
+ * An MpmcArrayQueue is a bounded First-in/First-out queue that may be shared by any number of producer and consumer
+ * threads. offer and poll never block. They claim a slot with a single compare-and-set, using the sequence numbered
+ * ring described by Dmitry Vyukov. put and take wait for room or for an item, sleeping rather than spinning.
+ *
+ * @note
+ *  1. Every slot of the ring has a sequence number that says whose turn it is. A producer may fill slot i & mask when
+ *     its sequence is i, and then sets it to i + 1. A consumer may empty the slot when its sequence is i + 1, and then
+ *     sets it to i + capacity, the turn of the producer on the next lap. Producers compete only on the tail index and
+ *     consumers only on the head index, so a producer and a consumer never touch the same index.
+ *  2. put and take first try offer and poll. Only when the queue is full or empty do they take a lock and wait on a
+ *     Condition, which parks the thread. A parked thread uses no processor time, and a virtual thread that parks
+ *     releases its carrier thread. offer and poll take the lock only when a thread is known to be waiting.
+ *  3. The contention statistics count failed compare-and-set attempts on the head and tail, and the number of times
+ *     put waited because the queue was full and take waited because it was empty. They are kept in LongAdders, so
+ *     counting does not itself become a point of contention.
+ *  4. The capacity is a power of two, from 2 to 2^30, and never changes. An MpmcArrayQueue cannot hold a null item,
+ *     because poll returns null to mean that the queue is empty.
+ *  5. drainTo and removeBatch repeat poll until it returns null, rather than using the Queue defaults, which check
+ *     isEmpty before each remove. Another consumer can take the last item between those two calls.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class MpmcArrayQueue<E> implements Queue<E> {
+    // Invariant of the MpmcArrayQueue class.
+    // 1. The length of buffer and of sequences is a power of two and mask is one less than it.
+    // 2. indexes[TAIL] is the number of slots ever claimed by producers and indexes[HEAD] the number ever claimed by
+    //    consumers. They are only changed by compare-and-set, and they are PADDING longs apart, and PADDING longs from
+    //    either end of indexes, so that they are on different cache lines.
+    // 3. For the slot at index s, sequences[s] is the claim number i, with i & mask == s, of the producer that may fill
+    //    it next, or i + 1 once that producer has filled it, in which case buffer[s] holds the item. A consumer that
+    //    empties the slot sets buffer[s] to null and sequences[s] to i + buffer.length.
+    // 4. consumersWaiting and producersWaiting are the numbers of threads waiting in take and put. They are only
+    //    changed while lock is held. notEmpty is signalled after an item is added, and notFull after one is removed,
+    //    whenever a thread is waiting on it.
+    private Object[] buffer;
+    private long[] sequences;
+    private int mask;
+    private long[] indexes;
+    private ReentrantLock lock;
+    private Condition notEmpty;
+    private Condition notFull;
+    private volatile int consumersWaiting;
+    private volatile int producersWaiting;
+    private LongAdder casFailures;
+    private LongAdder emptyWaits;
+    private LongAdder fullWaits;
+    private static final int PADDING = 16; // 16 longs are 128 bytes, which covers a pair of adjacent cache lines.
+    private static final int TAIL = PADDING;
+    private static final int HEAD = 2 * PADDING;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * public MpmcArrayQueue(int capacity)
+     * Initialize an empty MpmcArrayQueue with the given capacity.
+     * @param capacity
+     *  The maximum number of items. It is rounded up to the next power of two, and to at least 2.
+     * @postcondition
+     *  An empty MpmcArrayQueue with every statistic at 0 has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that capacity is not positive or exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this MpmcArrayQueue.
+     */
+    public MpmcArrayQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be from 1 to 2^30: " + capacity);
+        }
+        buffer = new Object[capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1];
+        sequences = new long[buffer.length];
+        for (int i = 0; i < sequences.length; i++) { sequences[i] = i; }
+        mask = buffer.length - 1;
+        indexes = new long[3 * PADDING];
+        lock = new ReentrantLock();
+        notEmpty = lock.newCondition();
+        notFull = lock.newCondition();
+        casFailures = new LongAdder();
+        emptyWaits = new LongAdder();
+        fullWaits = new LongAdder();
+    }
+
+    /**
+     * public void add(E item)
+     * Mutator method that adds a new item to the rear of this MpmcArrayQueue without waiting.
+     * @param item
+     *  The item to be added to this MpmcArrayQueue.
+     * @postcondition
+     *  The item has been added to the rear of this MpmcArrayQueue.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception IllegalStateException
+     *  Indicates that this MpmcArrayQueue is full.
+     */
+    @Override
+    public void add(E item) {
+        if (!offer(item)) { throw new IllegalStateException("This MpmcArrayQueue is full."); }
+    }
+
+    /**
+     * public int drainTo(Object[] array, int max)
+     * Mutator method that removes up to max items from the front of this MpmcArrayQueue and copies them, in order, to
+     * the start of the specified array, without waiting. It stops early once poll finds this MpmcArrayQueue empty, so
+     * it is safe to call while other consumers are removing items.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this MpmcArrayQueue ran out of items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items, none of which is null.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    @Override
+    public int drainTo(Object[] array, int max) {
+        int count = 0;
+        E item;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+        while (count < max && (item = poll()) != null) { array[count++] = item; }
+        return count;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the capacity of this MpmcArrayQueue.
+     * @return int
+     *  The maximum number of items this MpmcArrayQueue can hold.
+     */
+    public int getCapacity() { return buffer.length; }
+
+    /**
+     * public long getCasFailures()
+     * Accessor method that returns the number of compare-and-set attempts on the head or tail that failed because
+     * another thread claimed the same slot first.
+     * @return long
+     *  The number of failed compare-and-set attempts since this MpmcArrayQueue was created or its statistics reset.
+     */
+    public long getCasFailures() { return casFailures.sum(); }
+
+    /**
+     * public long getEmptyWaits()
+     * Accessor method that returns the number of times a call to take had to wait because this MpmcArrayQueue was
+     * empty.
+     * @return long
+     *  The number of waits since this MpmcArrayQueue was created or its statistics reset.
+     */
+    public long getEmptyWaits() { return emptyWaits.sum(); }
+
+    /**
+     * public long getFullWaits()
+     * Accessor method that returns the number of times a call to put had to wait because this MpmcArrayQueue was
+     * full.
+     * @return long
+     *  The number of waits since this MpmcArrayQueue was created or its statistics reset.
+     */
+    public long getFullWaits() { return fullWaits.sum(); }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this MpmcArrayQueue is empty. When other threads are adding or
+     * removing items, the answer may be out of date by the time it is returned.
+     * @return boolean
+     *  True if this MpmcArrayQueue is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size() == 0; }
+
+    /**
+     * public boolean offer(E item)
+     * Mutator method that adds a new item to the rear of this MpmcArrayQueue if there is room, without waiting.
+     * @param item
+     *  The item to be added to this MpmcArrayQueue.
+     * @return boolean
+     *  True if the item was added, or false if this MpmcArrayQueue was full.
+     * @postcondition
+     *  If the return value is true, then the item has been added to the rear of this MpmcArrayQueue and a thread
+     *  waiting in take, if there is one, has been woken up. Otherwise this MpmcArrayQueue has not been modified.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     */
+    public boolean offer(E item) {
+        long tail = (long) LONGS.getVolatile(indexes, TAIL);
+        long difference;
+        int slot;
+
+        if (item == null) { throw new IllegalArgumentException("An MpmcArrayQueue cannot hold a null item."); }
+
+        while (true) {
+            slot = (int) tail & mask;
+            difference = (long) LONGS.getAcquire(sequences, slot) - tail;
+            if (difference == 0) {
+                if (LONGS.compareAndSet(indexes, TAIL, tail, tail + 1)) { break; }
+                casFailures.increment();
+                tail = (long) LONGS.getVolatile(indexes, TAIL);
+            } else if (difference < 0) {
+                return false; // The consumer of the previous lap has not emptied the slot, so the queue is full.
+            } else {
+                tail = (long) LONGS.getVolatile(indexes, TAIL); // Another producer claimed the slot first.
+            }
+        }
+
+        buffer[slot] = item;
+        LONGS.setVolatile(sequences, slot, tail + 1); // Volatile so that the read of consumersWaiting is not hoisted.
+        if (consumersWaiting > 0) { signal(notEmpty); }
+        return true;
+    }
+
+    /**
+     * public E poll()
+     * Mutator method that removes the front item from this MpmcArrayQueue if there is one, without waiting. Note, we
+     * have suppressed warnings because our programming guarantees that an E object is returned.
+     * @return E
+     *  The front item from this MpmcArrayQueue, or null if it is empty.
+     * @postcondition
+     *  If the return value is not null, then the front item has been removed and a thread waiting in put, if there is
+     *  one, has been woken up. Otherwise this MpmcArrayQueue has not been modified.
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long head = (long) LONGS.getVolatile(indexes, HEAD);
+        long difference;
+        int slot;
+        E item;
+
+        while (true) {
+            slot = (int) head & mask;
+            difference = (long) LONGS.getAcquire(sequences, slot) - (head + 1);
+            if (difference == 0) {
+                if (LONGS.compareAndSet(indexes, HEAD, head, head + 1)) { break; }
+                casFailures.increment();
+                head = (long) LONGS.getVolatile(indexes, HEAD);
+            } else if (difference < 0) {
+                return null; // The producer of this lap has not filled the slot, so the queue is empty.
+            } else {
+                head = (long) LONGS.getVolatile(indexes, HEAD); // Another consumer claimed the slot first.
+            }
+        }
+
+        item = (E) buffer[slot];
+        buffer[slot] = null;
+        LONGS.setVolatile(sequences, slot, head + buffer.length);
+        if (producersWaiting > 0) { signal(notFull); }
+        return item;
+    }
+
+    /**
+     * public void put(E item)
+     * Mutator method that adds a new item to the rear of this MpmcArrayQueue, waiting for room if it is full.
+     * @param item
+     *  The item to be added to this MpmcArrayQueue.
+     * @postcondition
+     *  The item has been added to the rear of this MpmcArrayQueue.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception InterruptedException
+     *  Indicates that the thread was interrupted while waiting. The item has not been added.
+     */
+    public void put(E item) throws InterruptedException {
+        if (offer(item)) { return; }
+
+        lock.lockInterruptibly();
+        producersWaiting++;
+        try {
+            VarHandle.fullFence(); // Publish producersWaiting before looking at the queue again.
+            while (!offer(item)) {
+                fullWaits.increment();
+                try {
+                    notFull.await();
+                } catch (InterruptedException e) {
+                    notFull.signal(); // Pass on a wake up this thread may have been given.
+                    throw e;
+                }
+            }
+        } finally {
+            producersWaiting--;
+            lock.unlock();
+        }
+    }
+
+    /**
+     * public E remove()
+     * Mutator method that removes the front item from this MpmcArrayQueue without waiting.
+     * @return E
+     *  The front item from this MpmcArrayQueue, or null if it is empty.
+     * @postcondition
+     *  If the return value is not null, then the front item has been removed.
+     */
+    @Override
+    public E remove() { return poll(); }
+
+    /**
+     * public Queue<E> removeBatch(int max)
+     * Mutator method that removes up to max items from the front of this MpmcArrayQueue and returns them as a new
+     * LinkedQueue, without waiting. It stops early once poll finds this MpmcArrayQueue empty, so it is safe to call
+     * while other consumers are removing items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return Queue<E>
+     *  A new Queue holding the removed items in the same order, none of which is null.
+     * @postcondition
+     *  The removed items are no longer in this MpmcArrayQueue.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new Queue.
+     */
+    @Override
+    public Queue<E> removeBatch(int max) {
+        Queue<E> batch = new LinkedQueue<>();
+        E item;
+
+        if (max < 0) { throw new IllegalArgumentException("Invalid max. It must not be negative: " + max); }
+        for (int i = 0; i < max && (item = poll()) != null; i++) { batch.add(item); }
+        return batch;
+    }
+
+    /**
+     * public void resetStatistics()
+     * Mutator method that sets every contention statistic back to 0.
+     * @postcondition
+     *  getCasFailures, getEmptyWaits, and getFullWaits return 0 until there is more contention.
+     */
+    public void resetStatistics() {
+        casFailures.reset();
+        emptyWaits.reset();
+        fullWaits.reset();
+    }
+
+    /*
+     * private void signal(Condition condition)
+     * Helper method that wakes up one thread waiting on the specified condition.
+     * @param condition
+     *  notEmpty or notFull.
+     * @postcondition
+     *  One thread waiting on the condition, if there is one, has been woken up.
+     */
+    private void signal(Condition condition) {
+        lock.lock();
+        try {
+            condition.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this MpmcArrayQueue. The answer is exact while no other
+     * thread is adding or removing items. Otherwise it is an estimate from 0 to the capacity.
+     * @return int
+     *  The number of items in this MpmcArrayQueue.
+     */
+    @Override
+    public int size() {
+        long head = (long) LONGS.getVolatile(indexes, HEAD); // Read head first, so it can never be ahead of tail.
+        long tail = (long) LONGS.getVolatile(indexes, TAIL);
+
+        return (int) Math.max(0, Math.min(tail - head, buffer.length));
+    }
+
+    /**
+     * public E take()
+     * Mutator method that removes the front item from this MpmcArrayQueue, waiting for one if it is empty.
+     * @return E
+     *  The front item from this MpmcArrayQueue.
+     * @postcondition
+     *  The front item has been removed.
+     * @exception InterruptedException
+     *  Indicates that the thread was interrupted while waiting. Nothing has been removed.
+     */
+    public E take() throws InterruptedException {
+        E item = poll();
+
+        if (item != null) { return item; }
+
+        lock.lockInterruptibly();
+        consumersWaiting++;
+        try {
+            VarHandle.fullFence(); // Publish consumersWaiting before looking at the queue again.
+            while ((item = poll()) == null) {
+                emptyWaits.increment();
+                try {
+                    notEmpty.await();
+                } catch (InterruptedException e) {
+                    notEmpty.signal(); // Pass on a wake up this thread may have been given.
+                    throw e;
+                }
+            }
+        } finally {
+            consumersWaiting--;
+            lock.unlock();
+        }
+        return item;
+    }
+}
@@ -0,0 +1,80 @@
+// File OpenAddressing.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * OpenAddressing holds the helper methods shared by the linear probing tables of this package: ArenaHashTable,
+ * HashMap, IntObjectMap and MappedHashTable. CuckooHashTable and SwissHashTable share only tableSizeFor.
+ *
+ * @note
+ *  1. Each table has a power of two number of buckets and picks the proper bucket of a key as hash(key) & mask, where
+ *     mask is one less than the number of buckets.
+ *  2. The tables store their entries in different arrays, or in a mapped file, so each one keeps its own
+ *     shiftBackward loop. canFill is the test that decides which entries that loop moves.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+final class OpenAddressing {
+
+    /*
+     * private OpenAddressing()
+     * OpenAddressing only has static methods, so it is never instantiated.
+     */
+    private OpenAddressing() { }
+
+    /**
+     * static boolean canFill(int gap, int next, int home, int mask)
+     * Accessor method used when an entry is removed by shifting later entries of its cluster backward. It determines
+     * whether or not the entry at bucket next may be moved into the empty bucket gap, which it may only if its proper
+     * bucket home is not cyclically within (gap, next]. Otherwise, moving the entry would put it before its proper
+     * bucket, where a probe could not find it.
+     * @param gap
+     *  The empty bucket.
+     * @param next
+     *  The bucket of an entry later in the same cluster.
+     * @param home
+     *  The proper bucket of the entry at next.
+     * @param mask
+     *  One less than the number of buckets.
+     * @return boolean
+     *  True if the entry at next may fill the gap. Otherwise false.
+     */
+    static boolean canFill(int gap, int next, int home, int mask) {
+        return ((next - home) & mask) >= ((next - gap) & mask);
+    }
+
+    /**
+     * static int hash(int h)
+     * Accessor method that scrambles the bits of a key or a hash code so that they can be masked to pick a bucket. The
+     * value is multiplied by the golden ratio constant so that every input bit influences the upper bits, and the upper
+     * bits are then folded into the lower bits that the mask keeps.
+     * @param h
+     *  An int key, or the hash code of a key.
+     * @return int
+     *  The mixed hash code.
+     */
+    static int hash(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * static int tableSizeFor(int capacity, int minimum, int maximum)
+     * Accessor method that rounds a requested capacity up to a power of two between minimum and maximum.
+     * @param capacity
+     *  The requested capacity.
+     * @param minimum
+     *  The smallest capacity to return. Must be a power of two.
+     * @param maximum
+     *  The largest capacity to return. Must be a power of two that is at least minimum.
+     * @return int
+     *  The smallest power of two that is at least capacity, bounded by minimum and maximum.
+     */
+    static int tableSizeFor(int capacity, int minimum, int maximum) {
+        if (capacity >= maximum) { return maximum; }
+        if (capacity <= minimum) { return minimum; }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
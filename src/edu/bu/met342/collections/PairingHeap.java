@@ -0,0 +1,251 @@
+// File PairingHeap.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import edu.bu.met342.nodes.PairingNode;
+
+import java.util.Comparator;
+
+/**********************************************************************************************************************
+ * A PairingHeap is a PriorityQueue stored as a tree of PairingNodes in which any node may have any number of children
+ * and every item is no greater than its children. Two trees are combined by linking: the root with the larger item
+ * becomes the first child of the other root.
+ *
+ * @note
+ *  1. add, peek and merge take constant time, because each only links at most two roots. remove takes O(log n)
+ *     amortized time: it links the children of the old root in pairs from left to right, and then links the pairs
+ *     from right to left into a single tree.
+ *  2. merge moves every item of another PairingHeap into this one in constant time, without copying anything.
+ *  3. Items are ordered by the Comparator given to the constructor, or by their natural ordering if it is null. With
+ *     the natural ordering, every item must implement Comparable.
+ *  4. A PairingHeap cannot hold a null reference, because remove and peek return null when it is empty.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class PairingHeap<E> implements PriorityQueue<E> {
+    // Invariant of the PairingHeap class.
+    // 1. root is the root of a tree of size nodes, one for each item, or null if this PairingHeap is empty. The root
+    //    has no sibling.
+    // 2. The item of every node is no greater than the items of its children.
+    // 3. comparator orders the items, or is null if the items are ordered by their natural ordering.
+    private PairingNode<E> root;
+    private int size;
+    private Comparator<? super E> comparator;
+
+    /**
+     * public PairingHeap()
+     * Initialize an empty PairingHeap that orders its items by their natural ordering.
+     * @postcondition
+     *  This PairingHeap is empty.
+     */
+    public PairingHeap() {
+        this(null);
+    }
+
+    /**
+     * public PairingHeap(Comparator<? super E> comparator)
+     * Initialize an empty PairingHeap that orders its items with the given Comparator.
+     * @param comparator
+     *  The Comparator that orders the items, or null to use their natural ordering.
+     * @postcondition
+     *  This PairingHeap is empty.
+     */
+    public PairingHeap(Comparator<? super E> comparator) {
+        root = null;
+        size = 0;
+        this.comparator = comparator;
+    }
+
+    /**
+     * public void add(E item)
+     * Mutator method that adds a new item to this PairingHeap by linking a new node with the root.
+     * @param item
+     *  The item to be added to this PairingHeap.
+     * @postcondition
+     *  The item has been added to this PairingHeap.
+     * @exception ClassCastException
+     *  Indicates that there is no Comparator and the item is not Comparable to the other items.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new PairingNode.
+     */
+    @Override
+    public void add(E item) {
+        if (item == null) { throw new IllegalArgumentException("A PairingHeap cannot hold a null item."); }
+
+        root = link(root, new PairingNode<>(item));
+        size++;
+    }
+
+    /**
+     * public void clear()
+     * Mutator method that removes every item from this PairingHeap.
+     * @postcondition
+     *  This PairingHeap is empty.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /*
+     * private int compare(E first, E second)
+     * Helper method that compares two items of this PairingHeap. Note, we have suppressed warnings because our
+     * programming guarantees that every item is an E object.
+     * @return int
+     *  A negative number, zero or a positive number as first is less than, equal to or greater than second.
+     * @exception ClassCastException
+     *  Indicates that there is no Comparator and first is not Comparable to second.
+     */
+    @SuppressWarnings("unchecked")
+    private int compare(E first, E second) {
+        if (comparator == null) { return ((Comparable<? super E>) first).compareTo(second); }
+        return comparator.compare(first, second);
+    }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this PairingHeap is empty.
+     * @return boolean
+     *  True if this PairingHeap is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size == 0; }
+
+    /*
+     * private PairingNode<E> link(PairingNode<E> first, PairingNode<E> second)
+     * Helper method that combines two trees into one. The root with the larger item becomes the first child of the
+     * other root.
+     * @param first
+     *  The root of a tree, or null.
+     * @param second
+     *  The root of another tree, or null.
+     * @return PairingNode<E>
+     *  The root of the combined tree. Its sibling link has not been changed.
+     */
+    private PairingNode<E> link(PairingNode<E> first, PairingNode<E> second) {
+        PairingNode<E> swap;
+
+        if (first == null) { return second; }
+        if (second == null) { return first; }
+
+        if (compare(second.getItem(), first.getItem()) < 0) {
+            swap = first;
+            first = second;
+            second = swap;
+        }
+        second.setSibling(first.getChild());
+        first.setChild(second);
+        return first;
+    }
+
+    /**
+     * public void merge(PairingHeap<E> other)
+     * Mutator method that moves every item of another PairingHeap into this one in constant time.
+     * @param other
+     *  The PairingHeap whose items are moved.
+     * @precondition
+     *  other orders its items the same way as this PairingHeap.
+     * @postcondition
+     *  This PairingHeap holds its own items and the items of other, and other is empty.
+     * @exception ClassCastException
+     *  Indicates that there is no Comparator and the items of other are not Comparable to the items of this one.
+     * @exception IllegalArgumentException
+     *  Indicates that other is this PairingHeap.
+     * @exception IllegalStateException
+     *  Indicates that the combined size would exceed Integer.MAX_VALUE.
+     */
+    public void merge(PairingHeap<E> other) {
+        if (other == this) { throw new IllegalArgumentException("A PairingHeap cannot be merged with itself."); }
+        if ((long) size + other.size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("This PairingHeap is full.");
+        }
+
+        root = link(root, other.root);
+        size += other.size;
+        other.clear();
+    }
+
+    /*
+     * private PairingNode<E> mergePairs(PairingNode<E> first)
+     * Helper method that combines a list of sibling trees into one. The first pass links the trees in pairs from left
+     * to right, and pushes each pair onto a list so that the second pass can link them from right to left.
+     * @param first
+     *  The first tree of the list, linked to the rest by their sibling links, or null.
+     * @return PairingNode<E>
+     *  The root of the combined tree, with no sibling, or null if the list was empty.
+     */
+    private PairingNode<E> mergePairs(PairingNode<E> first) {
+        PairingNode<E> pairs = null;
+        PairingNode<E> pair;
+        PairingNode<E> next;
+        PairingNode<E> result;
+
+        while (first != null) {
+            if (first.getSibling() == null) {
+                first.setSibling(pairs);
+                pairs = first;
+                break;
+            }
+            next = first.getSibling().getSibling();
+            pair = link(first, first.getSibling());
+            pair.setSibling(pairs);
+            pairs = pair;
+            first = next;
+        }
+
+        if (pairs == null) { return null; }
+
+        result = pairs;
+        pairs = pairs.getSibling();
+        while (pairs != null) {
+            next = pairs.getSibling();
+            result = link(result, pairs);
+            pairs = next;
+        }
+        result.setSibling(null);
+        return result;
+    }
+
+    /**
+     * public E peek()
+     * Accessor method that returns the smallest item of this PairingHeap without removing it.
+     * @return E
+     *  The smallest item of this PairingHeap, or null if it is empty.
+     */
+    @Override
+    public E peek() { return root == null ? null : root.getItem(); }
+
+    /**
+     * public E remove()
+     * Mutator method that removes the smallest item from this PairingHeap. The children of the root are combined into
+     * the new tree.
+     * @return E
+     *  The smallest item of this PairingHeap, or null if it is empty.
+     * @postcondition
+     *  If this PairingHeap was not empty, then the smallest item has been removed.
+     */
+    @Override
+    public E remove() {
+        E smallest;
+
+        if (root == null) { return null; }
+
+        smallest = root.getItem();
+        root = mergePairs(root.getChild());
+        size--;
+        return smallest;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this PairingHeap.
+     * @return int
+     *  The number of items in this PairingHeap.
+     */
+    @Override
+    public int size() { return size; }
+}
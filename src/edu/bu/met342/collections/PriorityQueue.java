@@ -0,0 +1,75 @@
+// File PriorityQueue.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A PriorityQueue is a collection of items in which the item removed next is always one with the highest priority,
+ * no matter when it was added. Throughout this package the highest priority item is the smallest one, so a
+ * PriorityQueue is a min queue.
+ *
+ * @note
+ *   1. Beyond Integer.MAX_VALUE elements, the size method does not work.
+ *   2. Items with equal priority may be removed in any order. A PriorityQueue is not First-in/First-out among them.
+ *   3. Implementations include the array based BinaryHeap and DaryHeap, the linked PairingHeap, and the primitive
+ *      IntBinaryHeap, IntDaryHeap, IntPairingHeap and IndexedMinHeap.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public interface PriorityQueue<E> {
+
+    /**
+     * public void add(E item)
+     * Mutator method that adds a new item to this PriorityQueue.
+     * @param item
+     *  The item to be added to this PriorityQueue.
+     * @postcondition
+     *  The item has been added to this PriorityQueue. Size has been increased by one.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this item.
+     */
+    void add(E item);
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this PriorityQueue is empty.
+     * @return boolean
+     *  True if this PriorityQueue is empty. Otherwise false.
+     * @postcondition
+     *  This PriorityQueue has not been modified.
+     */
+    boolean isEmpty();
+
+    /**
+     * public E peek()
+     * Accessor method that returns the highest priority item of this PriorityQueue without removing it.
+     * @return E
+     *  The smallest item of this PriorityQueue, or null if it is empty.
+     * @postcondition
+     *  This PriorityQueue has not been modified.
+     */
+    E peek();
+
+    /**
+     * public E remove()
+     * Mutator method that removes the highest priority item from this PriorityQueue.
+     * @return E
+     *  The smallest item of this PriorityQueue, or null if it is empty.
+     * @postcondition
+     *  If this PriorityQueue was not empty, then the smallest item has been removed. Size has been decreased by one.
+     */
+    E remove();
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this PriorityQueue.
+     * @return int
+     *  The number of items in this PriorityQueue.
+     * @postcondition
+     *  This PriorityQueue has not been modified.
+     */
+    int size();
+}
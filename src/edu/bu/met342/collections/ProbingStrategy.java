@@ -0,0 +1,23 @@
+// File ProbingStrategy.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A ProbingStrategy selects how a HashTable searches for a bucket when the proper bucket for a key is already taken.
+ * The strategy is chosen when the HashTable is constructed and cannot be changed afterwards.
+ *
+ * @note
+ *  1. LINEAR steps through the table one bucket at a time and marks deleted buckets as previously used.
+ *  2. ROBIN_HOOD also steps one bucket at a time, but an inserted key takes the bucket of any resident key that is
+ *     closer to its own proper bucket. Probe lengths stay short and even, so a search can stop as soon as it passes a
+ *     key closer to home than the key being searched for. Deleted entries are removed by shifting the rest of the
+ *     cluster backwards, so no previously used buckets are left behind.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public enum ProbingStrategy {
+    LINEAR,
+    ROBIN_HOOD
+}
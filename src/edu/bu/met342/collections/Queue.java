@@ -9,6 +9,8 @@ package edu.bu.met342.collections;
  *
  * @note
  *   1. Beyond Integer.MAX_VALUE elements, the size method does not work.
+ *   2. addAll, drainTo, and removeBatch move many items in one call. Their default implementations simply repeat add
+ *      and remove, and array and linked implementations override them to move a whole batch at once.
  *
  * @author mlewis
  * @version Nov 1, 2019
@@ -26,6 +28,57 @@ public interface Queue<E> {
      */
     void add(E item);
 
+    /**
+     * public void addAll(E[] items, int offset, int length)
+     * Mutator method that adds a range of items to the rear of this Queue, in order. The default implementation adds
+     * them one at a time. Implementations override it to move the whole range at once.
+     * @param items
+     *  The array that holds the items.
+     * @param offset
+     *  The index in items of the first item to add.
+     * @param length
+     *  The number of items to add.
+     * @postcondition
+     *  items[offset] through items[offset + length - 1] have been added to the rear of this Queue.
+     * @exception IllegalArgumentException
+     *  Indicates that offset and length do not describe a range of items. Nothing has been added.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for these items.
+     */
+    default void addAll(E[] items, int offset, int length) {
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IllegalArgumentException("Invalid range. Offset " + offset + " and length " + length
+                    + " do not fit in an array of length " + items.length);
+        }
+        for (int i = offset; i < offset + length; i++) { add(items[i]); }
+    }
+
+    /**
+     * public int drainTo(Object[] array, int max)
+     * Mutator method that removes up to max items from the front of this Queue and copies them, in order, to the start
+     * of the specified array. The default implementation removes them one at a time. Implementations override it to
+     * move the whole batch at once.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this Queue held fewer items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    default int drainTo(Object[] array, int max) {
+        int count = 0;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+        while (count < max && !isEmpty()) { array[count++] = remove(); }
+        return count;
+    }
+
     /**
      * public boolean isEmpty()
      * Accessor method that determines whether or not this Queue is empty.
@@ -49,6 +102,30 @@ public interface Queue<E> {
      */
     E remove();
 
+    /**
+     * public Queue<E> removeBatch(int max)
+     * Mutator method that removes up to max items from the front of this Queue and returns them as a new Queue. The
+     * default implementation moves them one at a time into a LinkedQueue. Implementations override it to move the whole
+     * batch at once.
+     * @param max
+     *  The largest number of items to remove.
+     * @return Queue<E>
+     *  A new Queue holding the removed items in the same order. It has fewer than max items if this Queue held fewer.
+     * @postcondition
+     *  The removed items are no longer in this Queue.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new Queue.
+     */
+    default Queue<E> removeBatch(int max) {
+        Queue<E> batch = new LinkedQueue<>();
+
+        if (max < 0) { throw new IllegalArgumentException("Invalid max. It must not be negative: " + max); }
+        for (int i = 0; i < max && !isEmpty(); i++) { batch.add(remove()); }
+        return batch;
+    }
+
     /**
      * public int size()
      * Accessor method to determine the number of elements in this Queue.
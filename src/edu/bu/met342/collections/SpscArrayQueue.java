@@ -0,0 +1,313 @@
+// File SpscArrayQueue.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**********************************************************************************************************************
+ * An SpscArrayQueue is a bounded First-in/First-out queue that passes items from exactly one producer thread to exactly
+ * one consumer thread without locks. Every operation finishes in a bounded number of steps no matter what the other
+ * thread is doing, so neither thread can ever block the other.
+ *
+ * @note
+ *  1. Only one thread may call add, offer, and offerAll, and only one (other) thread may call drainTo, peek, poll, and
+ *     remove. Using more than one producer or more than one consumer corrupts the queue. isEmpty, getCapacity, and
+ *     size may be called from any thread.
+ *  2. The producer publishes an item by writing it into the ring and then storing the new tail index with release
+ *     semantics. The consumer loads the tail with acquire semantics before it reads the item, so it always sees the
+ *     item completely written. The head index is handed back to the producer in the same way. No other memory fences
+ *     or atomic read-modify-write instructions are used.
+ *  3. The head and tail indexes are kept in a long[] at least 128 bytes apart, so that the two threads never write to
+ *     the same cache line. Each thread also keeps a cached copy of the other thread's index on its own line and only
+ *     reloads it when the cached copy says the queue is full or empty.
+ *  4. drainTo and offerAll move many items with at most two calls to System.arraycopy and publish them with a single
+ *     index store, which is much cheaper than moving them one at a time.
+ *  5. The capacity is a power of two, no larger than 2^30, and never changes. An SpscArrayQueue cannot hold a null
+ *     item, because poll returns null to mean that the queue is empty.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class SpscArrayQueue<E> implements Queue<E> {
+    // Invariant of the SpscArrayQueue class.
+    // 1. The length of buffer is a power of two and mask is one less than it.
+    // 2. indexes[TAIL] is the number of items ever added and indexes[HEAD] is the number of items ever removed, so
+    //    0 <= indexes[TAIL] - indexes[HEAD] <= buffer.length. The items are in buffer[i & mask] for every i from
+    //    indexes[HEAD] up to but not including indexes[TAIL], and every other slot of buffer is null.
+    // 3. indexes[TAIL] is only written by the producer and indexes[HEAD] only by the consumer, in both cases with a
+    //    release store. indexes[HEAD_CACHE] is a copy of indexes[HEAD] that is only used by the producer, and
+    //    indexes[TAIL_CACHE] is a copy of indexes[TAIL] that is only used by the consumer. Each copy is never ahead of
+    //    the index it copies.
+    // 4. The producer's slots TAIL and HEAD_CACHE and the consumer's slots HEAD and TAIL_CACHE are PADDING longs apart,
+    //    and both pairs are PADDING longs from either end of indexes.
+    private Object[] buffer;
+    private int mask;
+    private long[] indexes;
+    private static final int PADDING = 16; // 16 longs are 128 bytes, which covers a pair of adjacent cache lines.
+    private static final int TAIL = PADDING;
+    private static final int HEAD_CACHE = PADDING + 1;
+    private static final int HEAD = 2 * PADDING;
+    private static final int TAIL_CACHE = 2 * PADDING + 1;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final VarHandle INDEX = MethodHandles.arrayElementVarHandle(long[].class);
+
+    /**
+     * public SpscArrayQueue(int capacity)
+     * Initialize an empty SpscArrayQueue with the given capacity.
+     * @param capacity
+     *  The maximum number of items. It is rounded up to the next power of two.
+     * @postcondition
+     *  An empty SpscArrayQueue has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that capacity is not positive or exceeds 2^30.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this SpscArrayQueue.
+     */
+    public SpscArrayQueue(int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity. Capacity must be from 1 to 2^30: " + capacity);
+        }
+        buffer = new Object[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+        mask = buffer.length - 1;
+        indexes = new long[3 * PADDING];
+    }
+
+    /**
+     * public void add(E item)
+     * Mutator method that adds a new item to the rear of this SpscArrayQueue. May only be called by the producer.
+     * @param item
+     *  The item to be added to this SpscArrayQueue.
+     * @postcondition
+     *  The item has been added to the rear of this SpscArrayQueue and is visible to the consumer.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     * @exception IllegalStateException
+     *  Indicates that this SpscArrayQueue is full.
+     */
+    @Override
+    public void add(E item) {
+        if (!offer(item)) { throw new IllegalStateException("This SpscArrayQueue is full."); }
+    }
+
+    /**
+     * public int drainTo(Object[] array, int max)
+     * Mutator method that removes up to max items from the front of this SpscArrayQueue and copies them, in order, to
+     * the start of the specified array. May only be called by the consumer.
+     * @param array
+     *  The array that receives the items.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this SpscArrayQueue held fewer items.
+     * @postcondition
+     *  array[0] through array[n - 1] hold the n removed items, and the space they used is visible to the producer.
+     * @exception IllegalArgumentException
+     *  Indicates that max is negative or greater than the length of array.
+     */
+    @Override
+    public int drainTo(Object[] array, int max) {
+        long head = indexes[HEAD];
+        int count;
+        int start;
+        int distanceToEnd;
+
+        if (max < 0 || max > array.length) {
+            throw new IllegalArgumentException("Invalid max. It must be from 0 to the length of the array: " + max);
+        }
+
+        if (indexes[TAIL_CACHE] - head < max) { indexes[TAIL_CACHE] = (long) INDEX.getAcquire(indexes, TAIL); }
+        count = (int) Math.min(max, indexes[TAIL_CACHE] - head);
+        if (count == 0) { return 0; }
+
+        start = (int) head & mask;
+        distanceToEnd = buffer.length - start;
+        if (count <= distanceToEnd) {
+            System.arraycopy(buffer, start, array, 0, count);
+            Arrays.fill(buffer, start, start + count, null);
+        } else {
+            System.arraycopy(buffer, start, array, 0, distanceToEnd);
+            System.arraycopy(buffer, 0, array, distanceToEnd, count - distanceToEnd);
+            Arrays.fill(buffer, start, buffer.length, null);
+            Arrays.fill(buffer, 0, count - distanceToEnd, null);
+        }
+
+        INDEX.setRelease(indexes, HEAD, head + count);
+        return count;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that returns the capacity of this SpscArrayQueue.
+     * @return int
+     *  The maximum number of items this SpscArrayQueue can hold.
+     */
+    public int getCapacity() { return buffer.length; }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this SpscArrayQueue is empty. The answer is exact when called by
+     * the consumer, and otherwise may be out of date by the time it is returned.
+     * @return boolean
+     *  True if this SpscArrayQueue is empty. Otherwise false.
+     */
+    @Override
+    public boolean isEmpty() { return size() == 0; }
+
+    /**
+     * public boolean offer(E item)
+     * Mutator method that adds a new item to the rear of this SpscArrayQueue if there is room. May only be called by
+     * the producer.
+     * @param item
+     *  The item to be added to this SpscArrayQueue.
+     * @return boolean
+     *  True if the item was added, or false if this SpscArrayQueue was full.
+     * @postcondition
+     *  If the return value is true, then the item has been added to the rear of this SpscArrayQueue and is visible to
+     *  the consumer. Otherwise this SpscArrayQueue has not been modified.
+     * @exception IllegalArgumentException
+     *  Indicates that item is null.
+     */
+    public boolean offer(E item) {
+        long tail = indexes[TAIL];
+
+        if (item == null) { throw new IllegalArgumentException("An SpscArrayQueue cannot hold a null item."); }
+
+        if (tail - indexes[HEAD_CACHE] == buffer.length) {
+            indexes[HEAD_CACHE] = (long) INDEX.getAcquire(indexes, HEAD);
+            if (tail - indexes[HEAD_CACHE] == buffer.length) { return false; }
+        }
+
+        buffer[(int) tail & mask] = item;
+        INDEX.setRelease(indexes, TAIL, tail + 1);
+        return true;
+    }
+
+    /**
+     * public int offerAll(E[] items, int offset, int length)
+     * Mutator method that adds as many of the specified items as there is room for to the rear of this SpscArrayQueue,
+     * in order. May only be called by the producer.
+     * @param items
+     *  The array that holds the items.
+     * @param offset
+     *  The index in items of the first item to add.
+     * @param length
+     *  The number of items to add.
+     * @return int
+     *  The number of items added, which is less than length if this SpscArrayQueue became full.
+     * @postcondition
+     *  items[offset] through items[offset + n - 1] have been added to the rear of this SpscArrayQueue, where n is the
+     *  return value, and are visible to the consumer.
+     * @exception IllegalArgumentException
+     *  Indicates that offset and length do not describe a range of items, or that one of the items to be added is null.
+     *  Nothing has been added.
+     */
+    public int offerAll(E[] items, int offset, int length) {
+        long tail = indexes[TAIL];
+        int count;
+        int start;
+        int distanceToEnd;
+
+        if (offset < 0 || length < 0 || length > items.length - offset) {
+            throw new IllegalArgumentException("Invalid range. Offset " + offset + " and length " + length
+                    + " do not fit in an array of length " + items.length);
+        }
+
+        if (buffer.length - (tail - indexes[HEAD_CACHE]) < length) {
+            indexes[HEAD_CACHE] = (long) INDEX.getAcquire(indexes, HEAD);
+        }
+        count = (int) Math.min(length, buffer.length - (tail - indexes[HEAD_CACHE]));
+        for (int i = offset; i < offset + count; i++) {
+            if (items[i] == null) { throw new IllegalArgumentException("An SpscArrayQueue cannot hold a null item."); }
+        }
+        if (count == 0) { return 0; }
+
+        start = (int) tail & mask;
+        distanceToEnd = buffer.length - start;
+        if (count <= distanceToEnd) {
+            System.arraycopy(items, offset, buffer, start, count);
+        } else {
+            System.arraycopy(items, offset, buffer, start, distanceToEnd);
+            System.arraycopy(items, offset + distanceToEnd, buffer, 0, count - distanceToEnd);
+        }
+
+        INDEX.setRelease(indexes, TAIL, tail + count);
+        return count;
+    }
+
+    /**
+     * public E peek()
+     * Accessor method that returns the front item of this SpscArrayQueue without removing it. May only be called by
+     * the consumer. Note, we have suppressed warnings because our programming guarantees that an E object is returned.
+     * @return E
+     *  The front item of this SpscArrayQueue, or null if it is empty.
+     * @postcondition
+     *  This SpscArrayQueue has not been modified.
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        long head = indexes[HEAD];
+
+        if (head == indexes[TAIL_CACHE]) {
+            indexes[TAIL_CACHE] = (long) INDEX.getAcquire(indexes, TAIL);
+            if (head == indexes[TAIL_CACHE]) { return null; }
+        }
+        return (E) buffer[(int) head & mask];
+    }
+
+    /**
+     * public E poll()
+     * Mutator method that removes the front item from this SpscArrayQueue if there is one. May only be called by the
+     * consumer. Note, we have suppressed warnings because our programming guarantees that an E object is returned.
+     * @return E
+     *  The front item from this SpscArrayQueue, or null if it is empty.
+     * @postcondition
+     *  If the return value is not null, then the front item has been removed and the space it used is visible to the
+     *  producer. Otherwise this SpscArrayQueue has not been modified.
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long head = indexes[HEAD];
+        int index;
+        E item;
+
+        if (head == indexes[TAIL_CACHE]) {
+            indexes[TAIL_CACHE] = (long) INDEX.getAcquire(indexes, TAIL);
+            if (head == indexes[TAIL_CACHE]) { return null; }
+        }
+
+        index = (int) head & mask;
+        item = (E) buffer[index];
+        buffer[index] = null; // Let the item be garbage collected before the producer reuses the slot.
+        INDEX.setRelease(indexes, HEAD, head + 1);
+        return item;
+    }
+
+    /**
+     * public E remove()
+     * Mutator method that removes the front item from this SpscArrayQueue. May only be called by the consumer.
+     * @return E
+     *  The front item from this SpscArrayQueue, or null if it is empty.
+     * @postcondition
+     *  If the return value is not null, then the front item has been removed.
+     */
+    @Override
+    public E remove() { return poll(); }
+
+    /**
+     * public int size()
+     * Accessor method to determine the number of items in this SpscArrayQueue. The answer is exact while neither the
+     * producer nor the consumer is running. Otherwise it is an estimate from 0 to the capacity.
+     * @return int
+     *  The number of items in this SpscArrayQueue.
+     */
+    @Override
+    public int size() {
+        long head = (long) INDEX.getAcquire(indexes, HEAD); // Read head first, so it can never be ahead of tail.
+        long tail = (long) INDEX.getAcquire(indexes, TAIL);
+
+        return (int) Math.min(tail - head, buffer.length);
+    }
+}
@@ -0,0 +1,274 @@
+// File StringArena.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**********************************************************************************************************************
+ * A StringArena is an append-only store of UTF-8 encoded strings. Rather than keeping one String object per value,
+ * the bytes of every value are packed into a small number of large chunks, which may live either on the heap or
+ * off-heap. Each value is identified by the address returned when it was appended along with its length in bytes.
+ *
+ * @note
+ *  1. An address packs the index of a chunk into its upper 32 bits and the offset within that chunk into its lower 32
+ *     bits. A value never spans two chunks. A value longer than the chunk size is given a chunk of its own.
+ *  2. Nothing is ever overwritten, so an address and any view of it stay valid for as long as the StringArena exists.
+ *     To reclaim the space taken by values that are no longer needed, copy the live values into a new StringArena.
+ *  3. Off-heap chunks are invisible to the garbage collector, so they add nothing to the time it takes to mark the
+ *     heap. They are released when the StringArena itself is collected.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class StringArena {
+    // Invariant of the StringArena class.
+    // 1. The chunks in use are chunks[0] through chunks[chunkCount - 1]. Values are only ever appended to the last
+    //    chunk, at its position, and a chunk is never written again once a later chunk exists.
+    // 2. The instance variable chunkSize is the capacity of every chunk except those made for a single oversized value.
+    // 3. The instance variable direct indicates whether chunks are allocated off-heap.
+    // 4. The instance variable allocatedBytes is the sum of the capacities of every chunk in use.
+    // 5. readers[i], when it is not null, is a duplicate of chunks[i] that is only used as the source of a copy into
+    //    another StringArena. It has the same length as chunks.
+    private ByteBuffer[] chunks;
+    private ByteBuffer[] readers;
+    private int chunkCount;
+    private int chunkSize;
+    private boolean direct;
+    private long allocatedBytes;
+    private static final int CHUNK_SIZE = 1 << 20;
+
+    /**
+     * public StringArena()
+     * Initialize an empty StringArena that stores its values on the heap in chunks of 1 MB.
+     * @postcondition
+     *  An empty StringArena has been initialized. No chunk has been allocated yet.
+     */
+    public StringArena() {
+        this(CHUNK_SIZE, false);
+    }
+
+    /**
+     * public StringArena(int chunkSize, boolean direct)
+     * Initialize an empty StringArena with the given chunk size.
+     * @param chunkSize
+     *  The number of bytes in each chunk.
+     * @param direct
+     *  True to allocate chunks off-heap. Otherwise chunks are allocated on the heap as byte arrays.
+     * @postcondition
+     *  An empty StringArena has been initialized. No chunk has been allocated yet.
+     * @exception IllegalArgumentException
+     *  Indicates that chunkSize is not positive.
+     */
+    public StringArena(int chunkSize, boolean direct) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.direct = direct;
+        chunks = new ByteBuffer[8];
+        readers = new ByteBuffer[8];
+        chunkCount = 0;
+        allocatedBytes = 0;
+    }
+
+    /*
+     * private void addChunk(int capacity)
+     * Helper method that allocates a new last chunk with the specified capacity.
+     * @param capacity
+     *  The number of bytes in the new chunk.
+     * @postcondition
+     *  A new, empty chunk is the last chunk.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new chunk.
+     */
+    private void addChunk(int capacity) {
+        ByteBuffer[] largerArray;
+
+        if (chunkCount == chunks.length) {
+            largerArray = new ByteBuffer[chunks.length * 2];
+            System.arraycopy(chunks, 0, largerArray, 0, chunkCount);
+            chunks = largerArray;
+            largerArray = new ByteBuffer[chunks.length];
+            System.arraycopy(readers, 0, largerArray, 0, chunkCount);
+            readers = largerArray;
+        }
+        chunks[chunkCount++] = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        allocatedBytes += capacity;
+    }
+
+    /**
+     * public long append(byte[] bytes)
+     * Mutator method that appends the specified bytes to this StringArena.
+     * @param bytes
+     *  The bytes to append.
+     * @return long
+     *  The address of the appended bytes.
+     * @postcondition
+     *  The bytes have been copied into this StringArena and can be read back with the returned address and
+     *  bytes.length.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new chunk.
+     */
+    public long append(byte[] bytes) {
+        long address = reserve(bytes.length);
+
+        chunks[chunkCount - 1].put(bytes);
+        return address;
+    }
+
+    /**
+     * public long append(ByteBuffer bytes)
+     * Mutator method that appends the remaining bytes of the specified buffer to this StringArena, without copying
+     * them into a byte array first.
+     * @param bytes
+     *  The buffer holding the bytes to append, from its position to its limit.
+     * @return long
+     *  The address of the appended bytes. Their length is the number of bytes that were remaining in the buffer.
+     * @postcondition
+     *  The bytes have been copied into this StringArena, and the position of the buffer has been advanced to its
+     *  limit.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new chunk.
+     */
+    public long append(ByteBuffer bytes) {
+        long address = reserve(bytes.remaining());
+
+        chunks[chunkCount - 1].put(bytes);
+        return address;
+    }
+
+    /**
+     * public long append(StringArena source, long address, int length)
+     * Mutator method that copies a value from another StringArena straight from its chunk into this StringArena. No
+     * object is allocated for the copy, apart from one reusable reader for each chunk of the source.
+     * @param source
+     *  The StringArena holding the value.
+     * @param address
+     *  An address returned by an append to source.
+     * @param length
+     *  The number of bytes appended to source at that address.
+     * @return long
+     *  The address of the copy in this StringArena.
+     * @postcondition
+     *  The value has been copied into this StringArena. Neither source nor any view of it has changed.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new chunk.
+     */
+    public long append(StringArena source, long address, int length) {
+        return append(source.reader(address, length));
+    }
+
+    /**
+     * public long append(String value)
+     * Mutator method that appends the UTF-8 encoding of the specified string to this StringArena.
+     * @param value
+     *  The string to append.
+     * @return long
+     *  The address of the appended bytes. Their length is value.getBytes(StandardCharsets.UTF_8).length.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new chunk.
+     */
+    public long append(String value) { return append(value.getBytes(StandardCharsets.UTF_8)); }
+
+    /**
+     * public long getAllocatedBytes()
+     * Accessor method that retrieves the number of bytes allocated for chunks.
+     * @return long
+     *  The total capacity of every chunk in this StringArena.
+     */
+    public long getAllocatedBytes() { return allocatedBytes; }
+
+    /**
+     * public String getString(long address, int length)
+     * Accessor method that decodes the value at the specified address.
+     * @param address
+     *  An address returned by append.
+     * @param length
+     *  The number of bytes appended at that address.
+     * @return String
+     *  The decoded value.
+     */
+    public String getString(long address, int length) {
+        ByteBuffer chunk = chunks[(int) (address >>> 32)];
+        int offset = (int) address;
+        byte[] bytes;
+
+        if (chunk.hasArray()) {
+            return new String(chunk.array(), chunk.arrayOffset() + offset, length, StandardCharsets.UTF_8);
+        }
+
+        bytes = new byte[length];
+        chunk.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * public ByteBuffer getView(long address, int length)
+     * Accessor method that returns a read-only view of the UTF-8 bytes at the specified address. The bytes are not
+     * copied.
+     * @param address
+     *  An address returned by append.
+     * @param length
+     *  The number of bytes appended at that address.
+     * @return ByteBuffer
+     *  A read-only buffer whose position is 0 and whose limit is length, sharing its content with this StringArena.
+     */
+    public ByteBuffer getView(long address, int length) {
+        ByteBuffer view = chunks[(int) (address >>> 32)].asReadOnlyBuffer();
+        int offset = (int) address;
+
+        view.limit(offset + length).position(offset);
+        return view.slice();
+    }
+
+    /**
+     * public boolean isDirect()
+     * Accessor method that determines whether or not chunks are allocated off-heap.
+     * @return boolean
+     *  True if chunks are allocated off-heap. Otherwise false.
+     */
+    public boolean isDirect() { return direct; }
+
+    /*
+     * private ByteBuffer reader(long address, int length)
+     * Helper method that positions the reader of a chunk over the value at the specified address. The reader is
+     * created the first time that its chunk is copied from, and reused afterward.
+     * @param address
+     *  An address returned by append.
+     * @param length
+     *  The number of bytes appended at that address.
+     * @return ByteBuffer
+     *  The reader of the chunk holding the value, with its position at the value and its limit at the value's end.
+     */
+    private ByteBuffer reader(long address, int length) {
+        int index = (int) (address >>> 32);
+        int offset = (int) address;
+
+        if (readers[index] == null) { readers[index] = chunks[index].duplicate(); }
+        readers[index].limit(offset + length).position(offset);
+        return readers[index];
+    }
+
+    /*
+     * private long reserve(int length)
+     * Helper method that makes sure the last chunk has room for a value of the specified length.
+     * @param length
+     *  The number of bytes in the value.
+     * @return long
+     *  The address where the value will be written, at the position of the last chunk.
+     * @postcondition
+     *  The last chunk has at least length bytes remaining. A new chunk has been added if it did not.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a new chunk.
+     */
+    private long reserve(int length) {
+        if (length > chunkSize) {
+            addChunk(length); // An oversized value gets a chunk of its own, which it fills completely.
+        } else if (chunkCount == 0 || chunks[chunkCount - 1].remaining() < length) {
+            addChunk(chunkSize);
+        }
+        return ((long) (chunkCount - 1) << 32) | chunks[chunkCount - 1].position();
+    }
+}
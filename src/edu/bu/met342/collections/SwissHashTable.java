@@ -0,0 +1,426 @@
+// File SwissHashTable.java from the package edu.bu.met342.collections
+
+package edu.bu.met342.collections;
+
+/**********************************************************************************************************************
+ * A SwissHashTable is a HashTable that keeps one control byte for every slot in an array separate from the keys. The
+ * control byte of a slot holding an entry is 7 bits of the hash code of its key, so most slots whose key does not
+ * match can be ruled out without reading keys at all. The control bytes of 8 slots are packed into a single long and
+ * compared all at once with ordinary arithmetic, so a lookup checks a whole group of slots in a handful of
+ * instructions.
+ *
+ * @note
+ *  1. The hash code of a key is split in two. The upper 25 bits pick the group where probing starts and the lower 7
+ *     bits are stored in the control byte. Groups are probed in triangular order, which visits every group exactly
+ *     once before repeating.
+ *  2. A control byte is EMPTY, DELETED, or the 7 stored bits of a key. A lookup stops at the first group with an EMPTY
+ *     control byte, so a miss usually costs one long from the control array and no keys at all.
+ *  3. A deleted slot is marked EMPTY if its group still has an EMPTY slot, since no probe can have passed through that
+ *     group. Otherwise it is marked DELETED. DELETED slots are reused by later insertions and reclaimed by rehashing.
+ *  4. The capacity is always a power of two that is at least 8 and cannot exceed 2^30. This SwissHashTable grows once
+ *     seven eighths of its slots are in use or DELETED.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *********************************************************************************************************************/
+
+public class SwissHashTable implements Map {
+    // Invariant of the SwissHashTable class.
+    // 1. The number of entries is in the instance variable size and the number of DELETED control bytes is in the
+    //    instance variable tombstones.
+    // 2. The slots are divided into groups of GROUP_SIZE consecutive slots. Byte i of control[g], counting from the
+    //    least significant byte, is the control byte of slot g * GROUP_SIZE + i. The number of groups is a power of two
+    //    and groupMask is one less than it.
+    // 3. A slot holds an entry exactly when its control byte is h2(hash(k)) for its key k, with the highest bit clear.
+    //    The key and value of the entry are in keys[slot] and values[slot].
+    // 4. Every key is in the first group along its probe sequence that had a free slot when the key was added. Every
+    //    group before it along the probe sequence has no EMPTY control byte.
+    // 5. The instance variable growthLeft is the number of EMPTY slots that may still be filled before this
+    //    SwissHashTable is rehashed.
+    private int size;
+    private int tombstones;
+    private int growthLeft;
+    private int groupMask;
+    private long[] control;
+    private int[] keys;
+    private String[] values;
+    private static final int GROUP_SIZE = 8;
+    private static final int CAPACITY = 32;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long EMPTY = 0x80;
+    private static final long DELETED = 0xFE;
+    private static final long LSB = 0x0101010101010101L;
+    private static final long MSB = 0x8080808080808080L;
+
+    /**
+     * public SwissHashTable()
+     * Initialize an empty SwissHashTable with an initial capacity of 32.
+     * @postcondition
+     *  An empty SwissHashTable has been initialized.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this SwissHashTable.
+     */
+    public SwissHashTable() {
+        this(CAPACITY);
+    }
+
+    /**
+     * public SwissHashTable(int capacity)
+     * Initialize an empty SwissHashTable with room for the given number of slots.
+     * @param capacity
+     *  The initial capacity of this SwissHashTable. It is rounded up to a power of two that is at least 8.
+     * @postcondition
+     *  An empty SwissHashTable has been initialized.
+     * @exception IllegalArgumentException
+     *  Indicates that the capacity is negative.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this SwissHashTable.
+     */
+    public SwissHashTable(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative: " + capacity);
+        }
+        size = 0;
+        allocate(OpenAddressing.tableSizeFor(capacity, GROUP_SIZE, MAX_CAPACITY));
+    }
+
+    /*
+     * private void allocate(int capacity)
+     * Helper method that replaces the table with empty arrays of the specified capacity.
+     * @param capacity
+     *  The new capacity. Must be a power of two that is at least GROUP_SIZE.
+     * @postcondition
+     *  Every control byte is EMPTY, tombstones is zero, and groupMask and growthLeft have been recalculated for the new
+     *  capacity. size is unchanged.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void allocate(int capacity) {
+        control = new long[capacity / GROUP_SIZE];
+        keys = new int[capacity];
+        values = new String[capacity];
+        groupMask = control.length - 1;
+        tombstones = 0;
+        growthLeft = capacity - capacity / GROUP_SIZE - size;
+        for (int g = 0; g < control.length; g++) { control[g] = EMPTY * LSB; }
+    }
+
+    /**
+     * public boolean contains(int k)
+     * Accessor method that confirms whether or not a specified key is in this SwissHashTable.
+     * @param k
+     *  The key to search for.
+     * @return boolean
+     *  True if k is in this SwissHashTable. Otherwise false.
+     */
+    @Override
+    public boolean contains(int k) { return findIndex(k) != -1; }
+
+    /**
+     * public void delete(int k)
+     * Mutator method that removes the specified key and it's value from this SwissHashTable.
+     * @param k
+     *  The key to search for.
+     * @postcondition
+     *  The specified key and it's value have been removed from this SwissHashTable if they existed. Otherwise, no
+     *  mutation occurs.
+     */
+    @Override
+    public void delete(int k) {
+        int index = findIndex(k);
+
+        if (index == -1) { return; }
+
+        values[index] = null;
+        size--;
+        if (matchEmpty(control[index / GROUP_SIZE]) != 0) {
+            setControl(index, EMPTY); // No probe has passed through this group, so nothing depends on the slot.
+            growthLeft++;
+        } else {
+            setControl(index, DELETED);
+            tombstones++;
+        }
+    }
+
+    /*
+     * private int findIndex(int k)
+     * Helper method that returns the index of the specified key if it exists. Otherwise it returns -1.
+     * @param k
+     *  The key to search for.
+     * @return int
+     *  The index of the specified key or -1 if the key is not in this SwissHashTable.
+     */
+    private int findIndex(int k) {
+        int h = hash(k);
+        long h2 = h & 0x7F;
+        int group = (h >>> 7) & groupMask;
+        long word;
+        long match;
+        int index;
+
+        for (int step = 1; step <= control.length; step++) {
+            word = control[group];
+            match = matchByte(word, h2);
+            while (match != 0) {
+                index = group * GROUP_SIZE + (Long.numberOfTrailingZeros(match) >>> 3);
+                if (keys[index] == k) { return index; }
+                match &= match - 1;
+            }
+            if (matchEmpty(word) != 0) { return -1; }
+            group = (group + step) & groupMask;
+        }
+        return -1;
+    }
+
+    /*
+     * private int findInsertSlot(int h)
+     * Helper method that returns the first slot along the probe sequence of the specified hash code whose control byte
+     * is EMPTY or DELETED.
+     * @param h
+     *  The hash code of the key being added.
+     * @return int
+     *  The index of the first free slot along the probe sequence.
+     * @precondition
+     *  There is at least one free slot.
+     */
+    private int findInsertSlot(int h) {
+        int group = (h >>> 7) & groupMask;
+        long match;
+
+        for (int step = 1; ; step++) {
+            match = matchEmptyOrDeleted(control[group]);
+            if (match != 0) { return group * GROUP_SIZE + (Long.numberOfTrailingZeros(match) >>> 3); }
+            group = (group + step) & groupMask;
+        }
+    }
+
+    /**
+     * public String get(int k)
+     * Accessor method that retrieves the value associated with the specified key.
+     * @param k
+     *  The key to search for.
+     * @return String
+     *  The value associated with the specified key. If the key is not found, then null is returned.
+     */
+    @Override
+    public String get(int k) {
+        int index = findIndex(k);
+        if (index != -1) { return values[index]; }
+        return null;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method that retrieves the capacity of this SwissHashTable.
+     * @return int
+     *  The number of slots in this SwissHashTable.
+     */
+    public int getCapacity() { return keys.length; }
+
+    /**
+     * public int getSize()
+     * Accessor method that retrieves the number of entries in this SwissHashTable.
+     * @return int
+     *  The number of entries in this SwissHashTable.
+     */
+    public int getSize() { return size; }
+
+    /*
+     * private static int hash(int k)
+     * Helper method that mixes every bit of the specified key into every bit of its hash code, using the finalizer of
+     * MurmurHash3. Both halves of the hash code must be well mixed since they are used separately.
+     * @param k
+     *  The key to hash.
+     * @return int
+     *  The hash code for the specified key.
+     */
+    private static int hash(int k) {
+        int h = k;
+
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /*
+     * private void insert(int k, String v, int h)
+     * Helper method that stores a key that is known not to be in this SwissHashTable.
+     * @param k
+     *  The new key.
+     * @param v
+     *  The value associated with the new key.
+     * @param h
+     *  The hash code of the new key.
+     * @precondition
+     *  growthLeft is positive, or there is a DELETED slot along the probe sequence.
+     * @postcondition
+     *  The specified key and value have been stored in the first free slot along its probe sequence. Size has not been
+     *  changed.
+     */
+    private void insert(int k, String v, int h) {
+        int index = findInsertSlot(h);
+
+        if (((control[index / GROUP_SIZE] >>> ((index % GROUP_SIZE) * 8)) & 0xFF) == DELETED) {
+            tombstones--;
+        } else {
+            growthLeft--;
+        }
+        setControl(index, h & 0x7F);
+        keys[index] = k;
+        values[index] = v;
+    }
+
+    /*
+     * private static long matchByte(long word, long b)
+     * Helper method that finds the bytes of a control word equal to the specified byte. Subtracting 1 from every byte
+     * of word ^ (b * LSB) sets the highest bit of each byte that was 0. A byte above a matching byte may also be
+     * reported, because of the borrow, so every candidate must still be checked against its key.
+     * @param word
+     *  A control word.
+     * @param b
+     *  The byte to look for, with its highest bit clear.
+     * @return long
+     *  A word with the highest bit set in the byte of every candidate slot.
+     */
+    private static long matchByte(long word, long b) {
+        long x = word ^ (b * LSB);
+        return (x - LSB) & ~x & MSB;
+    }
+
+    /*
+     * private static long matchEmpty(long word)
+     * Helper method that finds the EMPTY bytes of a control word. EMPTY is the only control byte with its highest bit
+     * set and its second lowest bit clear.
+     * @param word
+     *  A control word.
+     * @return long
+     *  A word with the highest bit set in the byte of every EMPTY slot.
+     */
+    private static long matchEmpty(long word) { return word & (~word << 6) & MSB; }
+
+    /*
+     * private static long matchEmptyOrDeleted(long word)
+     * Helper method that finds the EMPTY and DELETED bytes of a control word. These are the only control bytes with
+     * their highest bit set.
+     * @param word
+     *  A control word.
+     * @return long
+     *  A word with the highest bit set in the byte of every free slot.
+     */
+    private static long matchEmptyOrDeleted(long word) { return word & MSB; }
+
+    /**
+     * public void printHash()
+     * Prints every key and value pair in this SwissHashTable.
+     * @postcondition
+     *  The keys and values in this SwissHashTable have been written using System.out.println().
+     */
+    @Override
+    public void printHash() {
+        System.out.println(toString());
+    }
+
+    /**
+     * public void put(int k, String v)
+     * Mutator method that adds the specified key and value to this SwissHashTable. If the specified key was already in
+     * this SwissHashTable, then the old value will be replaced with the specified value.
+     * @param k
+     *  The key to add.
+     * @param v
+     *  The value associated with the specified key.
+     * @postcondition
+     *  The specified key and value have been added to this SwissHashTable. If the key already existed, then the old
+     *  value has been replaced with the new specified value. If no EMPTY slot could be filled without passing seven
+     *  eighths of the capacity, then this SwissHashTable has been rehashed first, in place if that reclaims enough
+     *  DELETED slots and otherwise into twice the capacity.
+     * @exception IllegalStateException
+     *  Indicates that this SwissHashTable has reached its maximum capacity.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for a larger SwissHashTable.
+     */
+    @Override
+    public void put(int k, String v) {
+        int index = findIndex(k);
+
+        if (index != -1) {
+            values[index] = v;
+            return;
+        }
+
+        if (growthLeft == 0) {
+            if (size < keys.length / 2 - keys.length / 16) {
+                rehash(keys.length); // Mostly DELETED slots, so reclaim them without growing.
+            } else if (keys.length == MAX_CAPACITY) {
+                throw new IllegalStateException("This SwissHashTable is full.");
+            } else {
+                rehash(keys.length * 2);
+            }
+        }
+
+        insert(k, v, hash(k));
+        size++;
+    }
+
+    /*
+     * private void rehash(int capacity)
+     * Helper method that moves every entry of this SwissHashTable into new arrays of the specified capacity.
+     * @param capacity
+     *  The new capacity. Must be a power of two that is at least GROUP_SIZE and holds size with room to spare.
+     * @postcondition
+     *  Every entry has been reinserted, there are no DELETED slots, and growthLeft has been recalculated.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new arrays.
+     */
+    private void rehash(int capacity) {
+        long[] oldControl = control;
+        int[] oldKeys = keys;
+        String[] oldValues = values;
+
+        allocate(capacity);
+        growthLeft += size; // allocate subtracted the entries that are about to be reinserted one by one.
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (((oldControl[i / GROUP_SIZE] >>> ((i % GROUP_SIZE) * 8)) & EMPTY) == 0) {
+                insert(oldKeys[i], oldValues[i], hash(oldKeys[i]));
+            }
+        }
+    }
+
+    /*
+     * private void setControl(int index, long b)
+     * Helper method that replaces the control byte of the specified slot.
+     * @param index
+     *  The index of the slot.
+     * @param b
+     *  The new control byte.
+     * @postcondition
+     *  The control byte of the slot is b and every other control byte is unchanged.
+     */
+    private void setControl(int index, long b) {
+        int shift = (index % GROUP_SIZE) * 8;
+        int group = index / GROUP_SIZE;
+
+        control[group] = (control[group] & ~(0xFFL << shift)) | (b << shift);
+    }
+
+    /**
+     * public String toString()
+     * Returns every key and value pair in this SwissHashTable.
+     * @return String
+     *  One line for each key and value pair in this SwissHashTable.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (((control[i / GROUP_SIZE] >>> ((i % GROUP_SIZE) * 8)) & EMPTY) == 0) {
+                stringBuilder.append("Key[").append(keys[i]).append("] = ").append(values[i]).append("\n");
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+}
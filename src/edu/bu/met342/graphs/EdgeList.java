@@ -2,6 +2,9 @@
 
 package edu.bu.met342.graphs;
 
+import edu.bu.met342.collections.IndexedMinHeap;
+import edu.bu.met342.collections.IntArrayQueue;
+
 /**********************************************************************************************************************
  * An EdgeList is a linked list used to connect n vertices in a Graph. List number i provides the connections for
  * vertex i. To be specific: For each entry j in list number i, there is an edge from i to j. Representing a graph as
@@ -123,24 +126,28 @@ public class EdgeList<E> implements Graph<E>{
      *  Indicates insufficient memory for an array of boolean values used by this method.
      */
     public void breadthFirstTraversal(int vertex) {
-        GraphQueue graphQueue;
+        IntArrayQueue graphQueue;
         int[] neighbors;
+        int[] unvisited = new int[vertices.length];
+        int count;
 
         for (int i = 0; i < vertices.length; i++) { visited[i] = false; }
 
-        graphQueue = new GraphQueue();
+        graphQueue = new IntArrayQueue(vertices.length); // Each vertex is added at most once, so it never grows.
         visited[vertex] = true;
         graphQueue.add(vertex);
         while (!graphQueue.isEmpty()) {
-            Integer front = graphQueue.remove(); // Removes the front of the GraphQueue
+            int front = graphQueue.removeInt(); // Removes the front of the IntArrayQueue
             neighbors = neighbors(front);
+            count = 0;
             for (int i = 0; i < neighbors.length; i++) {
                 if (!visited[neighbors[i]]) {
                     visited[neighbors[i]] = true;
                     System.out.println("Adding " + neighbors[i] + " to the queue.");
-                    graphQueue.add(i);
+                    unvisited[count++] = neighbors[i];
                 }
             }
+            graphQueue.addAll(unvisited, 0, count); // Adds every newly found neighbor in one batch.
         }
     }
 
@@ -364,7 +371,8 @@ public class EdgeList<E> implements Graph<E>{
     /**
      * public int[] shortestPath(int vertex)
      * Utility method that determines the shortest path using Dijkstra's algorithm. The shortest path between two
-     * vertices is the path with the lowest total cost.
+     * vertices is the path with the lowest total cost. The next vertex to visit is taken from an IndexedMinHeap, so
+     * each step costs O(log n) rather than a scan of every vertex.
      * @param start
      *  The starting vertex.
      * @precondition
@@ -376,11 +384,11 @@ public class EdgeList<E> implements Graph<E>{
      *  Indicates the the start vertex was not a valid vertex number.
      */
     public int[] shortestPath(int start) {
-        boolean done;
         int current;
         int[] distance;
         int[] neighbors;
         boolean[] unvisited;
+        IndexedMinHeap frontier;
 
         distance = new int[vertices.length];
         unvisited = new boolean[vertices.length];
@@ -389,12 +397,15 @@ public class EdgeList<E> implements Graph<E>{
             unvisited[i] = true;
         }
 
-        current = start;
-        distance[current] = 0;
+        // The frontier holds the unvisited vertices that have been reached, keyed by their lowest cost so far.
+        frontier = new IndexedMinHeap(vertices.length);
+        distance[start] = 0;
+        frontier.add(start, 0);
 
         // Loop until all processable vertices are processed.
-        done = false;
-        while (!done) {
+        while (!frontier.isEmpty()) {
+            current = frontier.removeInt(); // The reached, unvisited vertex with the lowest cost.
+            unvisited[current] = false; // Mark the current vertex as visited.
             neighbors = neighbors(current);
 
             for (int i = 0; i < neighbors.length; i++) {
@@ -402,29 +413,14 @@ public class EdgeList<E> implements Graph<E>{
                     int newCost = distance[current] + getCost(current, neighbors[i]); // ...find the cost of the path...
                     if (newCost < distance[neighbors[i]]) { // ...if the current path has a lower cost then...
                         distance[neighbors[i]] = newCost; // ...use the lower cost.
+                        if (frontier.contains(neighbors[i])) {
+                            frontier.decreaseKey(neighbors[i], newCost);
+                        } else {
+                            frontier.add(neighbors[i], newCost);
+                        }
                     }
                 }
             }
-
-            unvisited[current] = false; // Mark the current vertex as visited.
-            int currentMinimumCost = Integer.MAX_VALUE; // Use as the new lowest cost of the unvisited vertex.
-
-            for (int i = 0; i < distance.length; i++) {
-                if (unvisited[i]) {
-                    if (distance[i] < currentMinimumCost) {
-                        currentMinimumCost = distance[i];
-                        current = i;
-                    }
-                }
-            }
-
-            done = true;
-            for (int i = 0; i < distance.length; i++) {
-                if (unvisited[i] && (distance[i] != Integer.MAX_VALUE)) {
-                    // There are unvisited neighbors that we still need to process
-                    done = false;
-                }
-            }
         }
         return distance;
     }
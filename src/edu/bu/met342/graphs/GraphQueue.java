@@ -2,32 +2,45 @@
 
 package edu.bu.met342.graphs;
 
-import edu.bu.met342.nodes.GraphNode;
+import edu.bu.met342.collections.IntArrayQueue;
 
 /**********************************************************************************************************************
  * A GraphQueue is used to implement a breadth-first search of a Graph. The queue keeps track of which vertices might
  * still have unprocessed neighbors. The search beings with a starting vertex, which is processed, marked, and placed
  * in this queue.
  *
+ * @note
+ *  1. The vertices are kept unboxed in an IntArrayQueue, a circular array of ints, so the queue allocates neither a
+ *     GraphNode nor an Integer for each vertex. add(int) and removeInt() should be used wherever possible, since
+ *     remove() must box the vertex it returns.
+ *  2. A null vertex is stored as NO_VERTEX, which is Integer.MIN_VALUE and is never a vertex number, and remove()
+ *     turns it back into null.
+ *
  * @author mlewis
  * @version Dec 14, 2019
  *********************************************************************************************************************/
 
 public class GraphQueue {
     // Invariant of the GraphQueue.java class
-    //  1. The front is a reference to the first node in this Queue.
-    //  2. The rear is a reference to the final node in this Queue.
-    //  3. The size is a reference to the number of elements in this Queue.
-    private GraphNode front;
-    private GraphNode rear;
-    private int size;
+    //  1. The vertices of this Queue are stored in order in the IntArrayQueue vertices. A null vertex is stored as
+    //     NO_VERTEX.
+    private IntArrayQueue vertices;
+    private static final int NO_VERTEX = Integer.MIN_VALUE;
 
     public GraphQueue() {
-        front = null;
-        rear = null;
-        size = 0;
+        vertices = new IntArrayQueue();
     }
 
+    /**
+     * public void add(int vertex)
+     * Mutator method that adds a new vertex to the rear of the Queue without boxing it.
+     * @param vertex
+     *  The vertex to be added to the Queue.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for this item.
+     */
+    public void add(int vertex) { vertices.add(vertex); }
+
     /**
      * public void add(Integer vertex)
      * Mutator method that adds a new item to the rear of the Queue. The new item may be a null reference.
@@ -36,20 +49,7 @@ public class GraphQueue {
      * @exception OutOfMemoryError
      *  Indicates insufficient memory for this item.
      */
-    public void add(Integer vertex) {
-        GraphNode graphNode = new GraphNode();
-        graphNode.setVertex(vertex);
-
-        if (size == 0) {
-            front = graphNode;
-            rear = graphNode;
-            size++;
-        } else {
-            rear.setNext(graphNode);
-            rear = graphNode;
-            size++;
-        }
-    }
+    public void add(Integer vertex) { vertices.add(vertex == null ? NO_VERTEX : vertex.intValue()); }
 
     /**
      * public boolean isEmpty()
@@ -59,7 +59,7 @@ public class GraphQueue {
      * @postcondition
      *  This Queue has not been modified.
      */
-    public boolean isEmpty() { return size == 0; }
+    public boolean isEmpty() { return vertices.isEmpty(); }
 
     /**
      * public E remove()
@@ -73,19 +73,27 @@ public class GraphQueue {
      *  has been decreased by one.
      */
     public Integer remove() {
-        Integer answer;
+        int vertex;
 
-        if (size == 0) { return null; }
-
-        answer = front.getVertex();
-        front = front.getNext();
-        size--;
-
-        if (size == 0) { front = rear = null; }
-
-        return answer;
+        if (vertices.isEmpty()) { return null; }
+        vertex = vertices.removeInt();
+        return vertex == NO_VERTEX ? null : vertex;
     }
 
+    /**
+     * public int removeInt()
+     * Mutator method that removes the front vertex from this Queue without boxing it.
+     * @return int
+     *  The front vertex from this Queue, or Integer.MIN_VALUE if a null vertex was added.
+     * @precondition
+     *  This Queue is not empty.
+     * @postcondition
+     *  The front vertex from this Queue has been removed. Size has been decreased by one.
+     * @exception IllegalStateException
+     *  Indicates that this Queue is empty.
+     */
+    public int removeInt() { return vertices.removeInt(); }
+
     /**
      * public int size()
      * Accessor method to determine the number of elements in this Queue.
@@ -94,5 +102,5 @@ public class GraphQueue {
      * @postcondition
      *  This Queue has not been modified.
      */
-    public int size() { return size; }
+    public int size() { return vertices.size(); }
 }
@@ -0,0 +1,211 @@
+// File ArrayNode.java in the package edu.bu.met342.nodes
+
+package edu.bu.met342.nodes;
+
+/**********************************************************************************************************************
+ * An ArrayNode is a node of an unrolled linked list. Instead of a single item, it holds a fixed size array of items
+ * together with a link to the next node, so a list of n items needs only about n / capacity nodes.
+ *
+ * @note
+ *   (1) Items are added at the rear of the array and removed from the front, so an ArrayNode is a small bounded
+ *   First-in/First-out queue. Once every slot has been used it must be reset before it can hold new items.
+ *   (2) A removed item's slot is set to null, so an ArrayNode never keeps a removed item from being garbage collected.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *
+ *********************************************************************************************************************/
+
+public class ArrayNode<E> {
+    // Invariant of the ArrayNode class:
+    //   1. The items of this node are in items[front] through items[rear - 1], in order, and every other slot of items
+    //      is null. 0 <= front <= rear <= items.length.
+    //   2. For the final node of a list, the link part is null. Otherwise, the link part is a reference to the next
+    //      node of the list.
+    private Object[] items;
+    private int front;
+    private int rear;
+    private ArrayNode<E> next;
+
+    /**
+     * public ArrayNode(int capacity)
+     * Initializes an empty node with room for the specified number of items and a null reference as its link.
+     * @param capacity
+     *  The number of items this node can hold.
+     * @postcondition
+     *  This new node is empty and has nothing after it.
+     * @exception IllegalArgumentException
+     *  Indicates that capacity is not positive.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new ArrayNode.
+     */
+    public ArrayNode(int capacity) {
+        if (capacity <= 0) { throw new IllegalArgumentException("Capacity must be positive: " + capacity); }
+        items = new Object[capacity];
+        front = 0;
+        rear = 0;
+        next = null;
+    }
+
+    /**
+     * public void add(E item)
+     * Mutator method that adds an item after the last item of this node.
+     * @param item
+     *  The item to add. May be null.
+     * @precondition
+     *  This node is not full.
+     * @postcondition
+     *  The item is the last item of this node.
+     * @exception IllegalStateException
+     *  Indicates that this node is full.
+     */
+    public void add(E item) {
+        if (rear == items.length) { throw new IllegalStateException("This ArrayNode is full."); }
+        items[rear++] = item;
+    }
+
+    /**
+     * public int addAll(Object[] source, int offset, int length)
+     * Mutator method that copies as many items as there is room for from the specified array to the end of this node.
+     * @param source
+     *  The array that holds the items.
+     * @param offset
+     *  The index in source of the first item to copy.
+     * @param length
+     *  The number of items to copy.
+     * @return int
+     *  The number of items copied, which is less than length if this node became full.
+     * @postcondition
+     *  The copied items follow the old last item of this node, in order.
+     */
+    public int addAll(Object[] source, int offset, int length) {
+        int count = Math.min(length, items.length - rear);
+
+        System.arraycopy(source, offset, items, rear, count);
+        rear += count;
+        return count;
+    }
+
+    /**
+     * public int drainTo(Object[] target, int offset, int max)
+     * Mutator method that removes up to max items from the front of this node and copies them, in order, to the
+     * specified array.
+     * @param target
+     *  The array that receives the items.
+     * @param offset
+     *  The index in target of the first removed item.
+     * @param max
+     *  The largest number of items to remove.
+     * @return int
+     *  The number of items removed, which is less than max if this node held fewer items.
+     * @postcondition
+     *  The removed items are in target starting at offset, and their slots in this node are null.
+     */
+    public int drainTo(Object[] target, int offset, int max) {
+        int count = Math.min(max, rear - front);
+
+        System.arraycopy(items, front, target, offset, count);
+        for (int i = front; i < front + count; i++) { items[i] = null; }
+        front += count;
+        return count;
+    }
+
+    /**
+     * public int getCapacity()
+     * Accessor method to get the number of items this node can hold.
+     * @return int
+     *  The length of the array of this node.
+     */
+    public int getCapacity() {
+        return items.length;
+    }
+
+    /**
+     * public ArrayNode<E> getNext()
+     * Accessor method to get a reference to the next node after this node.
+     * @return next
+     *  A reference to the node after this node (or the null reference if there is nothing after this node).
+     */
+    public ArrayNode<E> getNext() {
+        return next;
+    }
+
+    /**
+     * public boolean isEmpty()
+     * Accessor method that determines whether or not this node holds any items.
+     * @return boolean
+     *  True if every item added to this node has been removed. Otherwise false.
+     */
+    public boolean isEmpty() {
+        return front == rear;
+    }
+
+    /**
+     * public boolean isFull()
+     * Accessor method that determines whether or not an item can be added to this node.
+     * @return boolean
+     *  True if every slot of this node has been used since it was created or reset. Otherwise false.
+     */
+    public boolean isFull() {
+        return rear == items.length;
+    }
+
+    /**
+     * public E remove()
+     * Mutator method that removes the first item of this node. Note, we have suppressed warnings because our
+     * programming guarantees that an E object is returned.
+     * @precondition
+     *  This node is not empty.
+     * @return E
+     *  The first item of this node.
+     * @postcondition
+     *  The first item has been removed and its slot is null.
+     * @exception IllegalStateException
+     *  Indicates that this node is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E remove() {
+        E item;
+
+        if (front == rear) { throw new IllegalStateException("This ArrayNode is empty."); }
+        item = (E) items[front];
+        items[front++] = null;
+        return item;
+    }
+
+    /**
+     * public void reset()
+     * Mutator method that empties this node so that every slot can be used again, and unlinks it from the next node.
+     * @postcondition
+     *  This node is empty, not full, and has nothing after it.
+     */
+    public void reset() {
+        for (int i = front; i < rear; i++) { items[i] = null; }
+        front = 0;
+        rear = 0;
+        next = null;
+    }
+
+    /**
+     * public void setNext(ArrayNode<E> next)
+     * Mutator method to set a reference to the next node after this node.
+     * @param next
+     *  A reference to the node that should appear after this node in the linked list (or the null reference if there
+     *  should be no node after this node).
+     * @postcondition
+     *  The link to the node after this node has been set to next.
+     */
+    public void setNext(ArrayNode<E> next) {
+        this.next = next;
+    }
+
+    /**
+     * public int size()
+     * Accessor method to get the number of items in this node.
+     * @return int
+     *  The number of items added and not yet removed.
+     */
+    public int size() {
+        return rear - front;
+    }
+}
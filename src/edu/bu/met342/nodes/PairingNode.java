@@ -0,0 +1,100 @@
+// File PairingNode.java in the package edu.bu.met342.nodes
+
+package edu.bu.met342.nodes;
+
+/**********************************************************************************************************************
+ * A PairingNode is a node of a pairing heap, a tree in which any node may have any number of children. Each node
+ * holds an item, a link to its first child, and a link to its next sibling, so the children of a node form a linked
+ * list that starts at its child link.
+ *
+ * @note
+ *   (1) This is the left-child, right-sibling representation of a tree. A node needs only two links no matter how
+ *   many children it has.
+ *
+ * @author mlewis
+ * @version Oct 17, 2026
+ *
+ *********************************************************************************************************************/
+
+public class PairingNode<E> {
+    // Invariant of the PairingNode class:
+    //   1. item is the item of this node.
+    //   2. child is a reference to the first child of this node, or null if it has no children.
+    //   3. sibling is a reference to the next child of this node's parent, or null if this node is the last child or
+    //      is a root.
+    private E item;
+    private PairingNode<E> child;
+    private PairingNode<E> sibling;
+
+    /**
+     * public PairingNode(E item)
+     * Initializes a node with the specified item and no child or sibling.
+     * @param item
+     *  The item of this new node.
+     * @postcondition
+     *  This new node holds item and is the root of a tree of one node.
+     * @exception OutOfMemoryError
+     *  Indicates insufficient memory for the new PairingNode.
+     */
+    public PairingNode(E item) {
+        this.item = item;
+        child = null;
+        sibling = null;
+    }
+
+    /**
+     * public PairingNode<E> getChild()
+     * Accessor method to get a reference to the first child of this node.
+     * @return PairingNode<E>
+     *  A reference to the first child of this node (or the null reference if this node has no children).
+     */
+    public PairingNode<E> getChild() {
+        return child;
+    }
+
+    /**
+     * public E getItem()
+     * Accessor method to get the item of this node.
+     * @return E
+     *  The item of this node.
+     */
+    public E getItem() {
+        return item;
+    }
+
+    /**
+     * public PairingNode<E> getSibling()
+     * Accessor method to get a reference to the next sibling of this node.
+     * @return PairingNode<E>
+     *  A reference to the next sibling of this node (or the null reference if there is none).
+     */
+    public PairingNode<E> getSibling() {
+        return sibling;
+    }
+
+    /**
+     * public void setChild(PairingNode<E> child)
+     * Mutator method to set a reference to the first child of this node.
+     * @param child
+     *  A reference to the node that should be the first child of this node (or the null reference if this node should
+     *  have no children).
+     * @postcondition
+     *  The link to the first child of this node has been set to child.
+     */
+    public void setChild(PairingNode<E> child) {
+        this.child = child;
+    }
+
+    /**
+     * public void setSibling(PairingNode<E> sibling)
+     * Mutator method to set a reference to the next sibling of this node.
+     * @param sibling
+     *  A reference to the node that should follow this node in its parent's list of children (or the null reference
+     *  if no node should follow it).
+     * @postcondition
+     *  The link to the next sibling of this node has been set to sibling.
+     */
+    public void setSibling(PairingNode<E> sibling) {
+        this.sibling = sibling;
+    }
+}
@@ -0,0 +1,58 @@
+package edu.bu.met342.playground;
+
+import edu.bu.met342.collections.ArenaHashTable;
+
+public class ArenaHashTableTest {
+    private static final int KEYS = 200_000;
+    private static final int VALUE_LENGTH = 100; // KEYS values of this length fill about 20 chunks of 1 MB.
+    private static final long CHUNK_SIZE = 1 << 20;
+
+    public static void main(String[] args) {
+        ArenaHashTableTest test = new ArenaHashTableTest();
+        test.doIt();
+    }
+
+    public void doIt() {
+        testDeleteOnlyShrinks(false);
+        testDeleteOnlyShrinks(true);
+        System.out.println("ArenaHashTable tests passed");
+    }
+
+    private void check(boolean condition, String message) {
+        if (!condition) { throw new IllegalStateException(message); }
+    }
+
+    // Deleting every value but one, with no put afterward, must still give the arena back.
+    private void testDeleteOnlyShrinks(boolean direct) {
+        ArenaHashTable table = new ArenaHashTable(KEYS, direct);
+        String label = direct ? "direct" : "heap";
+
+        for (int k = 1; k <= KEYS; k++) { table.put(k, value(k)); }
+        check(table.getArenaBytes() >= (long) KEYS * VALUE_LENGTH, label + ": the values were not appended.");
+
+        for (int k = 2; k <= KEYS; k++) {
+            table.delete(k);
+            // Compaction copies the survivors, so check one of them every so often.
+            if (k % 10_000 == 0 && k < KEYS) {
+                check(value(KEYS).equals(table.get(KEYS)), label + ": value " + KEYS + " was lost at " + k);
+            }
+        }
+        table.delete(KEYS);
+
+        check(table.getSize() == 1, label + ": expected 1 entry but found " + table.getSize());
+        check(value(1).equals(table.get(1)), label + ": the last value was not copied intact.");
+        check(table.getArenaBytes() <= 2 * CHUNK_SIZE, label + ": the arena still holds " + table.getArenaBytes()
+                + " bytes after deleting every value but one.");
+        System.out.printf("%-25s %d bytes%n", "Arena after deletes (" + label + ")", table.getArenaBytes());
+    }
+
+    private String value(int k) {
+        StringBuilder stringBuilder = new StringBuilder(VALUE_LENGTH);
+
+        stringBuilder.append(k).append(':');
+        while (stringBuilder.length() < VALUE_LENGTH) {
+            stringBuilder.append((char) ('a' + stringBuilder.length() % 26));
+        }
+        return stringBuilder.toString();
+    }
+}
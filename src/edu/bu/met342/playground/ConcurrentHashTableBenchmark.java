@@ -0,0 +1,65 @@
+package edu.bu.met342.playground;
+
+import edu.bu.met342.collections.ConcurrentHashTable;
+
+public class ConcurrentHashTableBenchmark {
+    private static final int KEYS = 1 << 20;
+    private static final int WRITE_EVERY = 100; // One write for every 99 reads.
+    private static final long RUN_NANOS = 2_000_000_000L;
+
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentHashTableBenchmark benchmark = new ConcurrentHashTableBenchmark();
+        benchmark.doIt();
+    }
+
+    public void doIt() throws InterruptedException {
+        int maxThreads = Math.max(32, 2 * Runtime.getRuntime().availableProcessors());
+        ConcurrentHashTable table = new ConcurrentHashTable(2 * KEYS, 0.75, maxThreads);
+
+        for (int i = 0; i < KEYS; i++) { table.put(i, "value " + i); }
+
+        System.out.println("Threads    Operations/second");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            System.out.printf("%7d    %,.0f%n", threads, run(table, threads));
+        }
+    }
+
+    private double run(ConcurrentHashTable table, int threads) throws InterruptedException {
+        Thread[] workers = new Thread[threads];
+        long[] operations = new long[threads];
+        long total = 0;
+        long start;
+        long end;
+
+        start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            workers[t] = new Thread(() -> {
+                long count = 0;
+                int seed = id * 0x9E3779B9 + 1;
+
+                while (System.nanoTime() - start < RUN_NANOS) {
+                    for (int i = 0; i < 1000; i++) {
+                        seed ^= seed << 13; // Xorshift, so the benchmark itself does not allocate or synchronize.
+                        seed ^= seed >>> 17;
+                        seed ^= seed << 5;
+                        if ((count + i) % WRITE_EVERY == 0) {
+                            table.put(seed & (KEYS - 1), "updated");
+                        } else {
+                            table.get(seed & (KEYS - 1));
+                        }
+                    }
+                    count += 1000;
+                }
+                operations[id] = count;
+            });
+            workers[t].start();
+        }
+
+        for (Thread worker : workers) { worker.join(); }
+        end = System.nanoTime();
+
+        for (long count : operations) { total += count; }
+        return total / ((end - start) / 1000000000.0);
+    }
+}
@@ -0,0 +1,85 @@
+package edu.bu.met342.playground;
+
+import edu.bu.met342.collections.HashMap;
+
+import java.util.Random;
+
+public class HashMapBenchmark {
+    private static final int KEYS = 1 << 20; // About a million keys, so the tables do not fit in the caches.
+    private static final int OPERATIONS = 10_000_000;
+    private static final int ROUNDS = 5; // The first rounds give the JIT time to compile the loops.
+
+    public static void main(String[] args) {
+        HashMapBenchmark benchmark = new HashMapBenchmark();
+        benchmark.doIt();
+    }
+
+    public void doIt() {
+        Integer[] keys = new Integer[KEYS];
+        Random random = new Random(42);
+
+        // The keys are boxed ahead of time, so neither map is charged for allocating them.
+        for (int i = 0; i < keys.length; i++) { keys[i] = random.nextInt(); }
+
+        System.out.println("HashMap                   ns/operation");
+        for (int round = 1; round <= ROUNDS; round++) {
+            HashMap<Integer, Integer> map = new HashMap<>();
+            java.util.HashMap<Integer, Integer> javaMap = new java.util.HashMap<>();
+
+            System.out.printf("Round %d%n", round);
+            report("HashMap (put)", runPut(map, keys));
+            report("java.util.HashMap (put)", runPut(javaMap, keys));
+            report("HashMap (get)", runGet(map, keys));
+            report("java.util.HashMap (get)", runGet(javaMap, keys));
+        }
+    }
+
+    private void report(String name, double nanos) {
+        System.out.printf("%-25s %.2f%n", name, nanos);
+    }
+
+    private double runGet(HashMap<Integer, Integer> map, Integer[] keys) {
+        long start, end;
+        long sink = 0;
+
+        start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) { sink += map.get(keys[i & (KEYS - 1)]); }
+        end = System.nanoTime();
+
+        if (sink == 42) { System.out.println(); }
+        return (end - start) / (double) OPERATIONS;
+    }
+
+    private double runGet(java.util.HashMap<Integer, Integer> map, Integer[] keys) {
+        long start, end;
+        long sink = 0;
+
+        start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) { sink += map.get(keys[i & (KEYS - 1)]); }
+        end = System.nanoTime();
+
+        if (sink == 42) { System.out.println(); }
+        return (end - start) / (double) OPERATIONS;
+    }
+
+    // Each map starts empty, so the time includes every resize on the way to KEYS keys.
+    private double runPut(HashMap<Integer, Integer> map, Integer[] keys) {
+        long start, end;
+
+        start = System.nanoTime();
+        for (Integer key : keys) { map.put(key, key); }
+        end = System.nanoTime();
+
+        return (end - start) / (double) KEYS;
+    }
+
+    private double runPut(java.util.HashMap<Integer, Integer> map, Integer[] keys) {
+        long start, end;
+
+        start = System.nanoTime();
+        for (Integer key : keys) { map.put(key, key); }
+        end = System.nanoTime();
+
+        return (end - start) / (double) KEYS;
+    }
+}
@@ -0,0 +1,140 @@
+package edu.bu.met342.playground;
+
+import edu.bu.met342.collections.BinaryHeap;
+import edu.bu.met342.collections.DaryHeap;
+import edu.bu.met342.collections.IndexedMinHeap;
+import edu.bu.met342.collections.IntBinaryHeap;
+import edu.bu.met342.collections.IntDaryHeap;
+import edu.bu.met342.collections.IntPairingHeap;
+import edu.bu.met342.collections.PairingHeap;
+import edu.bu.met342.collections.PriorityQueue;
+
+import java.util.Random;
+
+public class PriorityQueueBenchmark {
+    private static final int DEPTH = 100_000; // Items kept in the heap, so every operation walks about 17 levels.
+    private static final int OPERATIONS = 5_000_000;
+    private static final int ROUNDS = 5; // The first rounds give the JIT time to compile the loop.
+    private static final int KEY_MASK = (1 << 20) - 1;
+
+    public static void main(String[] args) {
+        PriorityQueueBenchmark benchmark = new PriorityQueueBenchmark();
+        benchmark.doIt();
+    }
+
+    public void doIt() {
+        int[] keys = new int[KEY_MASK + 1];
+        Integer[] boxedKeys = new Integer[keys.length];
+        Random random = new Random(42);
+
+        // The keys are boxed ahead of time, so the Integer heaps are not charged for allocating them.
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt();
+            boxedKeys[i] = keys[i];
+        }
+
+        System.out.println("PriorityQueue             ns/operation");
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.printf("Round %d%n", round);
+            report("BinaryHeap", run(new BinaryHeap<Integer>(), boxedKeys));
+            report("DaryHeap (4-ary)", run(new DaryHeap<Integer>(), boxedKeys));
+            report("PairingHeap", run(new PairingHeap<Integer>(), boxedKeys));
+            report("IntBinaryHeap", runBinary(new IntBinaryHeap(), keys));
+            report("IntDaryHeap (4-ary)", runDary(new IntDaryHeap(), keys));
+            report("IntPairingHeap", runPairing(new IntPairingHeap(), keys));
+            report("IndexedMinHeap", runIndexed(new IndexedMinHeap(DEPTH + 1), keys));
+        }
+    }
+
+    private void report(String name, double nanos) {
+        System.out.printf("%-25s %.2f%n", name, nanos);
+    }
+
+    private double run(PriorityQueue<Integer> heap, Integer[] keys) {
+        long start, end;
+        long sink = 0;
+
+        for (int i = 0; i < DEPTH; i++) { heap.add(keys[i & KEY_MASK]); }
+
+        start = System.nanoTime();
+        for (int i = DEPTH; i < DEPTH + OPERATIONS; i++) {
+            heap.add(keys[i & KEY_MASK]);
+            sink += heap.remove();
+        }
+        end = System.nanoTime();
+
+        if (sink == 42) { System.out.println(); }
+        return (end - start) / (2.0 * OPERATIONS);
+    }
+
+    private double runBinary(IntBinaryHeap heap, int[] keys) {
+        long start, end;
+        long sink = 0;
+
+        for (int i = 0; i < DEPTH; i++) { heap.add(keys[i & KEY_MASK]); }
+
+        start = System.nanoTime();
+        for (int i = DEPTH; i < DEPTH + OPERATIONS; i++) {
+            heap.add(keys[i & KEY_MASK]);
+            sink += heap.removeInt();
+        }
+        end = System.nanoTime();
+
+        if (sink == 42) { System.out.println(); }
+        return (end - start) / (2.0 * OPERATIONS);
+    }
+
+    private double runDary(IntDaryHeap heap, int[] keys) {
+        long start, end;
+        long sink = 0;
+
+        for (int i = 0; i < DEPTH; i++) { heap.add(keys[i & KEY_MASK]); }
+
+        start = System.nanoTime();
+        for (int i = DEPTH; i < DEPTH + OPERATIONS; i++) {
+            heap.add(keys[i & KEY_MASK]);
+            sink += heap.removeInt();
+        }
+        end = System.nanoTime();
+
+        if (sink == 42) { System.out.println(); }
+        return (end - start) / (2.0 * OPERATIONS);
+    }
+
+    // The heap holds DEPTH of its DEPTH + 1 indexes, so the index just removed is always the one to add back.
+    private double runIndexed(IndexedMinHeap heap, int[] keys) {
+        long start, end;
+        long sink = 0;
+        int free = DEPTH;
+
+        for (int i = 0; i < DEPTH; i++) { heap.add(i, keys[i & KEY_MASK]); }
+
+        start = System.nanoTime();
+        for (int i = DEPTH; i < DEPTH + OPERATIONS; i++) {
+            heap.add(free, keys[i & KEY_MASK]);
+            free = heap.removeInt();
+            sink += free;
+        }
+        end = System.nanoTime();
+
+        if (sink == 42) { System.out.println(); }
+        return (end - start) / (2.0 * OPERATIONS);
+    }
+
+    private double runPairing(IntPairingHeap heap, int[] keys) {
+        long start, end;
+        long sink = 0;
+
+        for (int i = 0; i < DEPTH; i++) { heap.add(keys[i & KEY_MASK]); }
+
+        start = System.nanoTime();
+        for (int i = DEPTH; i < DEPTH + OPERATIONS; i++) {
+            heap.add(keys[i & KEY_MASK]);
+            sink += heap.removeInt();
+        }
+        end = System.nanoTime();
+
+        if (sink == 42) { System.out.println(); }
+        return (end - start) / (2.0 * OPERATIONS);
+    }
+}
@@ -0,0 +1,53 @@
+package edu.bu.met342.playground;
+
+import edu.bu.met342.collections.ArrayDeque;
+import edu.bu.met342.collections.ArrayQueue;
+import edu.bu.met342.collections.ChunkedQueue;
+import edu.bu.met342.collections.LinkedQueue;
+import edu.bu.met342.collections.Queue;
+
+public class QueueBenchmark {
+    private static final int DEPTH = 1000; // Items kept in the queue, so every pass wraps around the ring.
+    private static final int OPERATIONS = 50_000_000;
+    private static final int ROUNDS = 5; // The first rounds give the JIT time to compile the loop.
+
+    public static void main(String[] args) {
+        QueueBenchmark benchmark = new QueueBenchmark();
+        benchmark.doIt();
+    }
+
+    public void doIt() {
+        Integer item = 42;
+
+        System.out.println("Queue                     ns/operation");
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.printf("Round %d%n", round);
+            report("ArrayQueue", run(new ArrayQueue<Integer>(), item));
+            report("ArrayQueue (power of two)", run(new ArrayQueue<Integer>(10, true), item));
+            report("LinkedQueue", run(new LinkedQueue<Integer>(), item));
+            report("ChunkedQueue", run(new ChunkedQueue<Integer>(), item));
+            report("ArrayDeque", run(new ArrayDeque<Integer>(), item));
+        }
+    }
+
+    private void report(String name, double nanos) {
+        System.out.printf("%-25s %.2f%n", name, nanos);
+    }
+
+    private double run(Queue<Integer> queue, Integer item) {
+        long start, end;
+        Integer sink = null;
+
+        for (int i = 0; i < DEPTH; i++) { queue.add(item); }
+
+        start = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            queue.add(item);
+            sink = queue.remove();
+        }
+        end = System.nanoTime();
+
+        if (sink == null) { System.out.println("The queue lost an item."); }
+        return (end - start) / (2.0 * OPERATIONS);
+    }
+}
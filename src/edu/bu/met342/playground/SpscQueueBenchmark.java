@@ -0,0 +1,98 @@
+package edu.bu.met342.playground;
+
+import edu.bu.met342.collections.ArrayQueue;
+import edu.bu.met342.collections.SpscArrayQueue;
+
+public class SpscQueueBenchmark {
+    private static final int CAPACITY = 1 << 14;
+    private static final int BATCH = 256;
+    private static final int ITEMS = 100_000_000;
+    private static final int ROUNDS = 3; // The first round gives the JIT time to compile the loops.
+
+    public static void main(String[] args) throws InterruptedException {
+        SpscQueueBenchmark benchmark = new SpscQueueBenchmark();
+        benchmark.doIt();
+    }
+
+    public void doIt() throws InterruptedException {
+        System.out.println("Queue                            Operations/second");
+        for (int round = 1; round <= ROUNDS; round++) {
+            System.out.printf("Round %d%n", round);
+            report("ArrayQueue (synchronized)", runSynchronized(ITEMS / 10));
+            report("SpscArrayQueue", runSingle(ITEMS));
+            report("SpscArrayQueue (batches)", runBatched(ITEMS));
+        }
+    }
+
+    private void report(String name, double operations) {
+        System.out.printf("%-32s %,.0f%n", name, operations);
+    }
+
+    // One item is handed over per call, as the network thread would with a single request.
+    private double runSingle(int items) throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(CAPACITY);
+        Integer item = 42;
+        long start = System.nanoTime();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < items; i++) {
+                while (!queue.offer(item)) { Thread.yield(); }
+            }
+        });
+
+        producer.start();
+        for (int i = 0; i < items; i++) {
+            while (queue.poll() == null) { Thread.yield(); }
+        }
+        producer.join();
+        return items / ((System.nanoTime() - start) / 1000000000.0);
+    }
+
+    private double runBatched(int items) throws InterruptedException {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(CAPACITY);
+        Integer[] batch = new Integer[BATCH];
+        Object[] drained = new Object[BATCH];
+        long start = System.nanoTime();
+        Thread producer;
+
+        for (int i = 0; i < BATCH; i++) { batch[i] = i; }
+        producer = new Thread(() -> {
+            int sent = 0;
+
+            while (sent < items) {
+                int added = queue.offerAll(batch, 0, Math.min(BATCH, items - sent));
+                if (added == 0) { Thread.yield(); }
+                sent += added;
+            }
+        });
+
+        producer.start();
+        for (int received = 0; received < items; ) {
+            int count = queue.drainTo(drained, BATCH);
+            if (count == 0) { Thread.yield(); }
+            received += count;
+        }
+        producer.join();
+        return items / ((System.nanoTime() - start) / 1000000000.0);
+    }
+
+    // The current hand-off: an ArrayQueue guarded by synchronized blocks.
+    private double runSynchronized(int items) throws InterruptedException {
+        ArrayQueue<Integer> queue = new ArrayQueue<>(CAPACITY);
+        Integer item = 42;
+        long start = System.nanoTime();
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < items; i++) {
+                synchronized (queue) { queue.add(item); }
+            }
+        });
+
+        producer.start();
+        for (int received = 0; received < items; ) {
+            synchronized (queue) {
+                if (queue.remove() != null) { received++; }
+            }
+        }
+        producer.join();
+        return items / ((System.nanoTime() - start) / 1000000000.0);
+    }
+}
@@ -3,14 +3,17 @@
 package edu.bu.met342.projects;
 
 import edu.bu.met342.collections.ArrayQueue;
+import edu.bu.met342.collections.IntArrayQueue;
 
 /**********************************************************************************************************************
  * The calculate primes class uses the Sieve of Eratosthenes methodology to calculate all the prime numbers up to some
  * integer n. The technique was developed by a Greek mathematician and poet Eratosthenes who lived in the third century
- *  BC and it is implemented with an ArrayQueue.
+ *  BC and it is implemented with an IntArrayQueue of candidates and an ArrayQueue of primes.
  *
  * @note
  *  1) Beyond Integer.MAX_VALUE elements, the ArrayQueue won't work properly.
+ *  2) The candidates are held in an IntArrayQueue, so sieving never allocates an Integer for each number. Only the
+ *     primes, which are far fewer, are boxed into the ArrayQueue that is shown by the GUI.
  *
  * @author mlewis
  * @version Nov 11, 2019
@@ -18,17 +21,20 @@ import edu.bu.met342.collections.ArrayQueue;
 
 public class CalculatePrimes {
     // Invariant of the CalculatePrimes class.
-    //  1. The instance variable numbers is an ArrayQueue that has been initialized with consecutive integers 2 through
-    //     a sentinel value inclusive.
+    //  1. The instance variable numbers is an IntArrayQueue that has been initialized with consecutive integers 2
+    //     through a sentinel value inclusive.
     //  2. The instance variable primes is an ArrayQueue that stores all the prime numbers calculated by the Sieve of
     //     Eratosthenes algorithm.
     //  3. The instance variable sentinelValue indicates the end of the search range. This number is provided by the
     //     user and the algorithm searches from prime numbers from 2 to sentinelValue inclusive.
     //  4. The variable START_VALUE is a constant that references the first prime number (2).
-    private ArrayQueue<Integer> numbers;
+    //  5. The variable DEFAULT_SENTINEL_VALUE is a constant that is used as the sentinel value by the default
+    //     constructor.
+    private IntArrayQueue numbers;
     private ArrayQueue<Integer> primes;
     private int sentinelValue;
     private static final int START_VALUE = 2;
+    private static final int DEFAULT_SENTINEL_VALUE = 10;
 
     /**
      * public CalculatePrimes()
@@ -41,10 +47,7 @@ public class CalculatePrimes {
      *  Indicates insufficient memory for this queue.
      */
     public CalculatePrimes() {
-        numbers = new ArrayQueue<>();
-        primes = new ArrayQueue<>();
-        addAll(numbers.getCapacity());
-        sentinelValue = numbers.getRear();
+        this(DEFAULT_SENTINEL_VALUE);
     }
 
     /**
@@ -60,7 +63,7 @@ public class CalculatePrimes {
      *  Indicates insufficient memory for this queue.
      */
     public CalculatePrimes(int sentinelValue) {
-        numbers = new ArrayQueue<>();
+        numbers = new IntArrayQueue(Math.max(sentinelValue - 1, 0));
         primes = new ArrayQueue<>();
         this.sentinelValue = sentinelValue;
         addAll(sentinelValue);
@@ -79,12 +82,12 @@ public class CalculatePrimes {
     }
 
     /**
-     * public ArrayQueue getNumbers()
-     * Accessor method that returns a reference to the numbers ArrayQueue.
-     * @return ArrayQueue
-     *  A reference to the numbers ArrayQueue
+     * public IntArrayQueue getNumbers()
+     * Accessor method that returns a reference to the numbers IntArrayQueue.
+     * @return IntArrayQueue
+     *  A reference to the numbers IntArrayQueue
      */
-    public ArrayQueue getNumbers() { return numbers; }
+    public IntArrayQueue getNumbers() { return numbers; }
 
     /**
      * public ArrayQueue getPrimes()
@@ -105,28 +108,29 @@ public class CalculatePrimes {
      *  empty.
      */
     public void findPrimeNumbers() {
-        Integer targetNum;
-
-        do {
-            targetNum = numbers.remove();
-            while (targetNum == null) { targetNum = numbers.remove(); }
+        int targetNum;
+        int[] batch = new int[numbers.size()];
+        int count;
+        int kept;
 
+        while (!numbers.isEmpty()) {
+            targetNum = numbers.removeInt(); // The front number is not a multiple of any smaller prime...
             primes.add(targetNum);
-            for (int i = 0; i < sentinelValue; i++) {
-                Integer currentNum = numbers.getItem(i);
-                if (currentNum != null && currentNum % targetNum == 0) {
-                    numbers.insert(i, null);
-                }
+            if ((long) targetNum * targetNum > sentinelValue) { break; }
+
+            // ...so drain the rest of the numbers in one batch and put back only those it does not divide.
+            count = numbers.drainTo(batch, numbers.size());
+            kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (batch[i] % targetNum != 0) { batch[kept++] = batch[i]; }
             }
-        } while (targetNum <= Math.sqrt(sentinelValue));
+            numbers.addAll(batch, 0, kept);
+        }
 
         // All remaining integers in the numbers queue are prime, so insert them into the primes queue...
-        for (int i = 0; i < sentinelValue; i++) {
-            targetNum = numbers.getItem(i);
-            if (targetNum != null) { primes.add(targetNum); }
-        }
+        count = numbers.drainTo(batch, numbers.size());
+        for (int i = 0; i < count; i++) { primes.add(batch[i]); }
 
-        numbers.clear(); // ...and clear the numbers queue...
         primes.trimToSize(); // ...and remove any excess capacity from the primes queue.
     }
 }
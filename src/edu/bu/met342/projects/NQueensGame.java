@@ -1,16 +1,15 @@
 // File Game.java from the package edu.bostonuniversity.homework2
 
 package edu.bu.met342.projects;
-import edu.bu.met342.collections.LinkedStack;
-import edu.bu.met342.nodes.Node;
+import edu.bu.met342.collections.ArrayDeque;
 
 /**********************************************************************************************************************
  * A Game is a sequence of choices attempting to solve the n Queens problem. Each choice consists of a row and column
- * and is pushed onto a LinkedStack. The n Queens problem postulates that you can place n Queens on a chess board, so
- * that no Queen could capture any other.
+ * and is pushed onto a stack, an ArrayDeque. The n Queens problem postulates that you can place n Queens on a chess
+ * board, so that no Queen could capture any other.
  *
  * @note
- *  1. Beyond Integer.MAX_VALUE elements, the size method in LinkedStack does not work.
+ *  1. Beyond Integer.MAX_VALUE elements, the size method in ArrayDeque does not work.
  *  2. A Queen can move vertically, horizontally, and diagonally.
  *
  * @author mlewis
@@ -19,34 +18,34 @@ import edu.bu.met342.nodes.Node;
 
 public class NQueensGame {
     // Invariant of the Game class.
-    //  1. The instance variable stack is a LinkedStack.
+    //  1. The instance variable stack is an ArrayDeque used as a stack, so index 0 is the top of the stack.
     //  2. The instance variable success indicates whether or not a solution to the n queens problem has been found.
     //  3. The instance variable boardSize indicates how many rows and columns are on the chess board.
     private int boardSize;
     private boolean success;
-    private LinkedStack<Double> stack;
+    private ArrayDeque<Double> stack;
 
     /**
      * public Game()
-     * A default constructor that initializes an empty LinkedStack with size of 8.
+     * A default constructor that initializes an empty stack with size of 8.
      * @postcondition
-     *   This LinkedStack is empty and has been initialized with a size of 8.
+     *   This stack is empty and has been initialized with a size of 8.
      * @exception OutOfMemoryError
      *   Indicates insufficient memory for the new Game.
      */
     public NQueensGame() {
         boardSize = 8;
         success = false;
-        stack = new LinkedStack<>();
+        stack = new ArrayDeque<>();
     }
 
     /**
      * public Game(int boardSize)
-     * Initializes an empty LinkedStack with a size equal to the integer parameter.
+     * Initializes an empty stack with a size equal to the integer parameter.
      * @param boardSize
      *   The size of the board.
      * @postcondition
-     *   This LinkedStack is empty and it's size is equal to size of the given integer parameter.
+     *   This stack is empty and it's size is equal to size of the given integer parameter.
      * @exception IllegalArgumentException
      *   Indicates that the boardSize is less than or equal to two, which is an invalid size.
      * @exception OutOfMemoryError
@@ -59,7 +58,7 @@ public class NQueensGame {
             this.boardSize = boardSize;
         }
         success = false;
-        stack = new LinkedStack<>();
+        stack = new ArrayDeque<>();
     }
 
     /**
@@ -74,10 +73,9 @@ public class NQueensGame {
      */
     private boolean isColumnValid(double column) {
         double prevColumn;
-        Node cursor;
 
-        for (cursor = stack.getTop(); cursor != null; cursor = cursor.getNext()) {
-            prevColumn = (double) cursor.getData();
+        for (int i = 0; i < stack.size(); i++) {
+            prevColumn = stack.get(i);
             if (prevColumn == column) { return false; }
         }
         return true;
@@ -99,12 +97,11 @@ public class NQueensGame {
         double slope;
         double prevRow;
         double prevColumn;
-        Node cursor;
 
-        prevRow = stack.getSize();
-        for (cursor = stack.getTop(); cursor != null; cursor = cursor.getNext()) {
+        prevRow = stack.size();
+        for (int i = 0; i < stack.size(); i++) {
             try {
-                prevColumn = (double) cursor.getData();
+                prevColumn = stack.get(i);
                 slope = (row - prevRow) / (column - prevColumn);
             } catch (ArithmeticException e) {
                 // This exception should only occur if the column on the stack is equal to the new column. If they are
@@ -129,7 +126,7 @@ public class NQueensGame {
      *  A return value of true indicates that placing a queen on this row does not violate a valid board set up. A
      *  return value of false indicates that a queen cannot be placed in the given location.
      */
-    private boolean isRowValid(double row) { return row != stack.getSize(); }
+    private boolean isRowValid(double row) { return row != stack.size(); }
 
     /**
      * public void play()
@@ -146,7 +143,7 @@ public class NQueensGame {
         stack.push(column); // Push 1st item onto stack. It's the initial comparison and avoids null pointer exception.
         while (!success) {
             column = (int) (Math.random() * boardSize) + 1; // Another position that we try to push to the stack.
-            if (stack.getSize() == boardSize) { // If we enter here, the board is full and no conflicts exists.
+            if (stack.size() == boardSize) { // If we enter here, the board is full and no conflicts exists.
                 success = true;
                 break;
             } else if (isColumnValid(column) && isDiagonalValid(row, column) && isRowValid(row)) {
@@ -154,7 +151,7 @@ public class NQueensGame {
                 row++;
             } else {
                 // A conflict has occurred. Clear the board and try again.
-                stack.removeAll();
+                stack.clear();
                 column = (int) (Math.random() * boardSize) + 1; // Create the first position and...
                 stack.push(column); // ...push the position to the board.
                 row = 2;
@@ -171,17 +168,15 @@ public class NQueensGame {
     @Override
     public String toString() {
         double count;
-        Node current;
         StringBuilder stringBuilder = new StringBuilder();
 
-        current = stack.getTop();
         for (int i = 1; i <= boardSize; i++) {
             stringBuilder.append("+---".repeat(Math.max(0, boardSize)));
             stringBuilder.append("+");
             stringBuilder.append("\n|");
 
             for (count = 1; count <= boardSize; count++) {
-                double tmp = (double) current.getData();
+                double tmp = stack.get(i - 1);
                 if (tmp == count) {
                     stringBuilder.append(" Q |");
                 } else {
@@ -189,7 +184,6 @@ public class NQueensGame {
                 }
             }
 
-            current = current.getNext();
             stringBuilder.append("\n");
         }
 